@@ -5,10 +5,11 @@
  * @format
  */
 
-import React from 'react';
+import React, { useEffect } from 'react';
 import { NavigationContainer } from '@react-navigation/native';
 import { createNativeStackNavigator } from '@react-navigation/native-stack';
 import { StatusBar } from 'react-native';
+import { FIRST_RENDER, markStartupPhase } from './api/StartupTrace';
 
 // 导入页面组件
 import Login from './app/login';
@@ -27,6 +28,11 @@ import { RootStackParamList } from './navigation/types';
 const Stack = createNativeStackNavigator<RootStackParamList>();
 
 function App() {
+  // 首屏挂载完成，记录冷启动到首帧的时间
+  useEffect(() => {
+    markStartupPhase(FIRST_RENDER);
+  }, []);
+
   return (
     <NavigationContainer>
       <StatusBar backgroundColor="#1890ff" barStyle="light-content" />
@@ -0,0 +1,178 @@
+package com.fwz;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.module.annotations.ReactModule;
+
+import java.io.IOException;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 原生网络请求模块
+ * 基于共享的 OkHttpClient（连接池、HTTP/2、预连接），替代JS层的 fetch；
+ * 每次请求返回分阶段耗时（dns/connect/tls/ttfb/download），便于定位慢请求；
+ * 订单/终端详情类GET接口经 {@link ApiResponseCache} 缓存
+ */
+@ReactModule(name = "ApiClient")
+public class ApiClientModule extends ReactContextBaseJavaModule {
+    private static final String TAG = "ApiClient";
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    public ApiClientModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "ApiClient";
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        // 启动时即预热到服务器的连接
+        HttpClients.preconnect();
+    }
+
+    /**
+     * 发送请求
+     * @param method GET/POST/PUT/DELETE
+     * @param url 完整URL（含查询参数）
+     * @param headers 请求头
+     * @param body 请求体（JSON字符串），GET时传null
+     * @param promise 返回 { status, body, cache: hit/revalidated/miss/none, timings }
+     */
+    @ReactMethod
+    public void request(String method, String url, ReadableMap headers, String body, Promise promise) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null) {
+            promise.reject("E_URL", "无效的URL: " + url);
+            return;
+        }
+        Request.Builder builder = new Request.Builder().url(httpUrl);
+        if (headers != null) {
+            ReadableMapKeySetIterator iterator = headers.keySetIterator();
+            while (iterator.hasNextKey()) {
+                String key = iterator.nextKey();
+                if (!headers.isNull(key)) {
+                    builder.header(key, headers.getString(key));
+                }
+            }
+        }
+        RequestBody requestBody = body != null ? RequestBody.create(body, JSON) : null;
+        if (requestBody == null && ("POST".equals(method) || "PUT".equals(method))) {
+            requestBody = RequestBody.create("", JSON);
+        }
+        builder.method(method, requestBody);
+
+        String path = httpUrl.encodedPath();
+        ApiEndpointPolicy policy = ApiEndpointPolicy.forPath(path);
+        if ("GET".equals(method) && policy.isCacheable()) {
+            requestCached(builder.build(), policy, promise);
+            return;
+        }
+        if (ApiEndpointPolicy.VERIFICATION.equals(path)) {
+            ApiResponseCache.onVerificationSubmitted();
+        } else if (ApiEndpointPolicy.LOGIN.equals(path)) {
+            ApiResponseCache.getInstance(getReactApplicationContext()).clear();
+        }
+
+        CallTimings timings = new CallTimings(path);
+        HttpClients.newCall(builder.build(), timings).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                Log.w(TAG, "请求失败: " + timings.getEndpoint() + ", " + e.getMessage());
+                promise.reject("E_NETWORK", e.getMessage(), e);
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try (ResponseBody responseBody = response.body()) {
+                    String text = responseBody != null ? responseBody.string() : "";
+                    WritableMap result = Arguments.createMap();
+                    result.putInt("status", response.code());
+                    result.putString("body", text);
+                    result.putString("cache", "none");
+                    result.putMap("timings", Arguments.makeNativeMap(timings.toMap()));
+                    promise.resolve(result);
+                } catch (IOException e) {
+                    promise.reject("E_NETWORK", e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 可缓存的查询接口：命中缓存直接返回，过期后条件请求，相同请求合并
+     */
+    private void requestCached(Request request, ApiEndpointPolicy policy, Promise promise) {
+        ApiResponseCache.getInstance(getReactApplicationContext()).get(request, policy)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        promise.reject("E_NETWORK", cause.getMessage(), cause);
+                        return;
+                    }
+                    WritableMap map = Arguments.createMap();
+                    map.putInt("status", result.status);
+                    map.putString("body", result.body);
+                    map.putString("cache", result.cacheStatus);
+                    map.putMap("timings", Arguments.makeNativeMap(result.timings.toMap()));
+                    promise.resolve(map);
+                });
+    }
+
+    /**
+     * 获取响应缓存统计
+     * @param promise 返回 { hits, revalidated, misses, hitRatio, bytesSaved, coalesced, diskHits, memoryEntries, memoryBytes, diskEntries, diskBytes }
+     */
+    @ReactMethod
+    public void getCacheMetrics(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(ApiResponseCache.getInstance(getReactApplicationContext()).snapshot()));
+    }
+
+    /**
+     * 清空响应缓存（如退出登录时）
+     */
+    @ReactMethod
+    public void clearCache(Promise promise) {
+        ApiResponseCache.getInstance(getReactApplicationContext()).clear();
+        promise.resolve(true);
+    }
+
+    /**
+     * 预连接：提前完成DNS/TCP/TLS，登录页显示时调用
+     */
+    @ReactMethod
+    public void preconnect(Promise promise) {
+        HttpClients.preconnect();
+        promise.resolve(true);
+    }
+
+    /**
+     * 获取各接口耗时统计与连接池状态
+     */
+    @ReactMethod
+    public void getNetworkMetrics(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(HttpClients.snapshot()));
+    }
+}
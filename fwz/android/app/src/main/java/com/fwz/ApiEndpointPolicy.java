@@ -0,0 +1,54 @@
+package com.fwz;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 各接口的超时与缓存配置
+ * 核销类接口要求快速失败（交给离线队列重试），查询类接口允许稍长的读取时间；
+ * 按订单/终端查询详情的GET接口缓存 cacheTtlMs，过期后用 ETag 条件请求重新验证
+ */
+public final class ApiEndpointPolicy {
+    public static final String LOGIN = "/mall4cloud_auth/ua/login";
+    public static final String MERCHANT_ORDER = "/mall4cloud_order/m/merchantOrder/pageMerchantOrder";
+    public static final String TERMINAL_DETAIL = "/mall4cloud_multishop/terminal/getTerminalDetail";
+    public static final String VERIFICATION_ORDER = "/mall4cloud_order/m/merchantOrder/pageVerificationOrder";
+    public static final String VERIFICATION_INFO = "/mall4cloud_order/m/merchantOrder/verificationInfo";
+    public static final String VERIFICATION = "/mall4cloud_order/m/merchantOrder/verification";
+    public static final String GET_VERIFICATION_ORDER = "/mall4cloud_order/m/merchantOrder/getVerificationOrder";
+
+    private static final ApiEndpointPolicy DEFAULT = new ApiEndpointPolicy(10000, 15000, 20000, 0);
+    private static final Map<String, ApiEndpointPolicy> POLICIES = new HashMap<>();
+
+    static {
+        POLICIES.put(LOGIN, new ApiEndpointPolicy(10000, 15000, 20000, 0));
+        POLICIES.put(MERCHANT_ORDER, new ApiEndpointPolicy(5000, 10000, 15000, 0));
+        POLICIES.put(VERIFICATION_ORDER, new ApiEndpointPolicy(5000, 10000, 15000, 0));
+        POLICIES.put(TERMINAL_DETAIL, new ApiEndpointPolicy(5000, 8000, 10000, 10 * 60 * 1000));
+        POLICIES.put(VERIFICATION_INFO, new ApiEndpointPolicy(5000, 8000, 10000, 30 * 1000));
+        POLICIES.put(GET_VERIFICATION_ORDER, new ApiEndpointPolicy(5000, 8000, 10000, 30 * 1000));
+        POLICIES.put(VERIFICATION, new ApiEndpointPolicy(3000, 6000, 8000, 0));
+    }
+
+    public final int connectTimeoutMs;
+    public final int readTimeoutMs;
+    public final int callTimeoutMs;
+    // 响应缓存有效期，0表示不缓存
+    public final long cacheTtlMs;
+
+    private ApiEndpointPolicy(int connectTimeoutMs, int readTimeoutMs, int callTimeoutMs, long cacheTtlMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.callTimeoutMs = callTimeoutMs;
+        this.cacheTtlMs = cacheTtlMs;
+    }
+
+    public boolean isCacheable() {
+        return cacheTtlMs > 0;
+    }
+
+    public static ApiEndpointPolicy forPath(String path) {
+        ApiEndpointPolicy policy = POLICIES.get(path);
+        return policy != null ? policy : DEFAULT;
+    }
+}
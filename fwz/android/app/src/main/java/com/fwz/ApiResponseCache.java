@@ -0,0 +1,231 @@
+package com.fwz;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.fwz.core.CacheEntry;
+import com.fwz.core.DiskLruStore;
+import com.fwz.core.RequestCoalescer;
+import com.fwz.core.ResponseCache;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 查询接口的响应缓存
+ * 缓存key为 接口路径 + 排序后的查询参数 + token摘要；未过期直接返回，过期后带 If-None-Match 重新验证，
+ * 相同key的并发请求合并为一次网络请求。只缓存 HTTP 200 且业务成功（success=true）的响应。
+ * 每个接口有一个代次，清除缓存时加一；请求期间代次变化（如核销提交）时响应不写入缓存，避免旧状态被当作新数据返回
+ */
+public final class ApiResponseCache {
+    private static final String TAG = "ApiResponseCache";
+    private static final long MEMORY_BYTES = 512 * 1024;
+    private static final long DISK_BYTES = 4 * 1024 * 1024;
+
+    public static final String STATUS_HIT = "hit";
+    public static final String STATUS_REVALIDATED = "revalidated";
+    public static final String STATUS_MISS = "miss";
+
+    private static volatile ApiResponseCache instance;
+
+    private final ResponseCache cache;
+    private final RequestCoalescer<String, Result> coalescer = new RequestCoalescer<>();
+    // 接口路径 -> 缓存代次；clear() 使所有接口的代次变化
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    /**
+     * 请求结果
+     */
+    public static final class Result {
+        public final int status;
+        public final String body;
+        public final String cacheStatus;
+        public final CallTimings timings;
+
+        Result(int status, String body, String cacheStatus, CallTimings timings) {
+            this.status = status;
+            this.body = body;
+            this.cacheStatus = cacheStatus;
+            this.timings = timings;
+        }
+    }
+
+    private ApiResponseCache(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    public static ApiResponseCache getInstance(Context context) {
+        ApiResponseCache current = instance;
+        if (current == null) {
+            synchronized (ApiResponseCache.class) {
+                current = instance;
+                if (current == null) {
+                    DiskLruStore disk = null;
+                    try {
+                        disk = new DiskLruStore(new File(context.getApplicationContext().getCacheDir(), "api-cache"),
+                                DISK_BYTES);
+                    } catch (IOException e) {
+                        Log.w(TAG, "磁盘缓存不可用，仅使用内存缓存: " + e.getMessage());
+                    }
+                    current = new ApiResponseCache(new ResponseCache(MEMORY_BYTES, disk));
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 发送GET请求，优先使用缓存
+     */
+    public CompletableFuture<Result> get(Request request, ApiEndpointPolicy policy) {
+        String key = cacheKey(request);
+        CacheEntry entry = cache.lookup(key);
+        if (entry != null && entry.isFresh(System.currentTimeMillis())) {
+            cache.recordHit(entry);
+            return CompletableFuture.completedFuture(
+                    new Result(200, entry.body, STATUS_HIT, new CallTimings(request.url().encodedPath())));
+        }
+        String path = request.url().encodedPath();
+        long generation = generation(path);
+        // 清除缓存后发起的请求不合并到清除前的请求上
+        return coalescer.execute(key + "@" + generation,
+                () -> load(key, request, entry, policy.cacheTtlMs, path, generation));
+    }
+
+    /**
+     * 清除某个接口的全部缓存
+     */
+    public void invalidate(String path) {
+        generations.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+        cache.invalidatePrefix(path + "?");
+    }
+
+    public void clear() {
+        clearGeneration.incrementAndGet();
+        cache.clear();
+    }
+
+    private long generation(String path) {
+        AtomicLong generation = generations.get(path);
+        return clearGeneration.get() + (generation != null ? generation.get() : 0);
+    }
+
+    /**
+     * 核销提交后订单的核销状态已变化，清除订单详情类缓存
+     */
+    public static void onVerificationSubmitted() {
+        ApiResponseCache current = instance;
+        if (current != null) {
+            current.invalidate(ApiEndpointPolicy.VERIFICATION_INFO);
+            current.invalidate(ApiEndpointPolicy.GET_VERIFICATION_ORDER);
+        }
+    }
+
+    /**
+     * 缓存统计
+     * @return ResponseCache 统计 + coalesced（被合并的请求数）
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = cache.snapshot();
+        stats.put("coalesced", (double) coalescer.getCoalescedCount());
+        return stats;
+    }
+
+    private CompletableFuture<Result> load(String key, Request request, CacheEntry stale, long ttlMs,
+                                           String path, long generation) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        Request.Builder builder = request.newBuilder();
+        if (stale != null && stale.canRevalidate()) {
+            if (!stale.etag.isEmpty()) {
+                builder.header("If-None-Match", stale.etag);
+            }
+            if (!stale.lastModified.isEmpty()) {
+                builder.header("If-Modified-Since", stale.lastModified);
+            }
+        }
+        CallTimings timings = new CallTimings(request.url().encodedPath());
+        HttpClients.newCall(builder.build(), timings).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try (ResponseBody body = response.body()) {
+                    long now = System.currentTimeMillis();
+                    // 请求期间缓存已被清除，响应可能是清除前的状态
+                    boolean cacheable = generation(path) == generation;
+                    if (response.code() == 304 && stale != null) {
+                        if (cacheable) {
+                            cache.put(stale.refreshed(now, ttlMs));
+                        }
+                        cache.recordRevalidated(stale);
+                        future.complete(new Result(200, stale.body, STATUS_REVALIDATED, timings));
+                        return;
+                    }
+                    String text = body != null ? body.string() : "";
+                    cache.recordMiss();
+                    if (cacheable && response.code() == 200 && isSuccess(text)) {
+                        cache.put(new CacheEntry(key, text, response.header("ETag"),
+                                response.header("Last-Modified"), now, now + ttlMs));
+                    }
+                    future.complete(new Result(response.code(), text, STATUS_MISS, timings));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static boolean isSuccess(String body) {
+        try {
+            return new JSONObject(body).optBoolean("success");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 接口路径 + 排序后的查询参数 + token摘要（不同账号不共享缓存）
+     */
+    static String cacheKey(Request request) {
+        HttpUrl url = request.url();
+        List<String> params = new ArrayList<>(url.querySize());
+        for (int i = 0; i < url.querySize(); i++) {
+            params.add(url.queryParameterName(i) + "=" + url.queryParameterValue(i));
+        }
+        Collections.sort(params);
+        StringBuilder key = new StringBuilder(url.encodedPath()).append('?');
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                key.append('&');
+            }
+            key.append(params.get(i));
+        }
+        String token = request.header("Authorization");
+        key.append('#').append(token != null ? Integer.toHexString(token.hashCode()) : "");
+        return key.toString();
+    }
+}
@@ -0,0 +1,280 @@
+package com.fwz;
+
+import android.Manifest;
+import android.content.pm.PackageManager;
+import android.util.Log;
+
+import androidx.core.content.ContextCompat;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.LifecycleEventListener;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.UIManagerHelper;
+import com.facebook.react.uimanager.events.EventDispatcher;
+import com.google.zxing.ResultPoint;
+import com.google.zxing.client.android.Intents;
+import com.journeyapps.barcodescanner.BarcodeCallback;
+import com.journeyapps.barcodescanner.BarcodeResult;
+import com.journeyapps.barcodescanner.DecoratedBarcodeView;
+import com.journeyapps.barcodescanner.DefaultDecoderFactory;
+import com.journeyapps.barcodescanner.Size;
+
+import java.util.List;
+
+/**
+ * 可嵌入RN页面的扫码视图
+ * 相机生命周期跟随视图（挂载/卸载）与宿主Activity（onHostResume/onHostPause），
+ * 扫码结果经去重后通过 onScan 事件推送，无需切换Activity即可连续扫码；未授予相机权限时开始扫码会推送 onPermissionDenied；
+ * 停止扫码后相机保持预览，由 CameraKeepAlive 在空闲超时后释放
+ */
+public class BarcodeScannerView extends DecoratedBarcodeView
+        implements LifecycleEventListener, CameraKeepAlive.Holder {
+    private static final String TAG = "BarcodeScannerView";
+    public static final String EVENT_SCAN = "topScan";
+    public static final String EVENT_PERMISSION_DENIED = "topPermissionDenied";
+
+    private final ThemedReactContext reactContext;
+    private final ScanOptions scanOptions = new ScanOptions();
+    private TimedDecoderFactory decoderFactory;
+    private boolean active = true;
+    private boolean prewarm = false;
+    private boolean attached = false;
+    private boolean hostResumed = true;
+    private boolean cameraOpen = false;
+    private boolean decoding = false;
+    private boolean optionsChanged = false;
+
+    // 空闲超时后释放相机
+    private final Runnable idleRelease = this::closeCamera;
+
+    // zxing 在 resume() 时才添加预览子视图，RN 不会为其布局，需自行测量与布局
+    private final Runnable measureAndLayout = () -> {
+        measure(MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
+        layout(getLeft(), getTop(), getRight(), getBottom());
+    };
+
+    public BarcodeScannerView(ThemedReactContext reactContext) {
+        super(reactContext);
+        this.reactContext = reactContext;
+        scanOptions.continuous = true;
+        reactContext.addLifecycleEventListener(this);
+        applyOptions();
+    }
+
+    public ScanOptions getScanOptions() {
+        return scanOptions;
+    }
+
+    /**
+     * 设置是否启用扫码
+     * 关闭时停止解码，相机保持预览直到空闲超时，再次启用时无需重新打开相机
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * 设置是否预热相机
+     * 页面显示时即打开相机并保持预览，开始扫码时直接进入解码
+     */
+    public void setPrewarm(boolean prewarm) {
+        this.prewarm = prewarm;
+    }
+
+    /**
+     * 标记扫码参数已修改
+     */
+    public void markOptionsChanged() {
+        optionsChanged = true;
+    }
+
+    /**
+     * 属性更新完成后调用：应用修改过的扫码参数，并按最新状态打开/关闭相机
+     */
+    public void commitProps() {
+        if (optionsChanged) {
+            optionsChanged = false;
+            applyOptions();
+        }
+        updateCameraState();
+    }
+
+    /**
+     * 应用扫码参数（码制、解码提示、扫码窗口）
+     */
+    private void applyOptions() {
+        decoderFactory = new TimedDecoderFactory(new DefaultDecoderFactory(
+                scanOptions.resolveFormats(), scanOptions.buildHints(), null, Intents.Scan.NORMAL_SCAN));
+        getBarcodeView().setDecoderFactory(decoderFactory);
+        if (scanOptions.hasScanWindow()) {
+            float density = getResources().getDisplayMetrics().density;
+            getBarcodeView().setFramingRectSize(new Size(
+                    Math.round(scanOptions.scanWindowWidth * density),
+                    Math.round(scanOptions.scanWindowHeight * density)));
+        }
+    }
+
+    /**
+     * 视图被移除时释放资源
+     */
+    public void release() {
+        reactContext.removeLifecycleEventListener(this);
+        active = false;
+        prewarm = false;
+        closeCamera();
+    }
+
+    @Override
+    public void releaseCamera() {
+        closeCamera();
+    }
+
+    @Override
+    public void requestLayout() {
+        super.requestLayout();
+        // 父类构造期间调用时字段尚未初始化
+        if (measureAndLayout != null) {
+            post(measureAndLayout);
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        attached = true;
+        updateCameraState();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        attached = false;
+        closeCamera();
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    public void onHostResume() {
+        hostResumed = true;
+        updateCameraState();
+    }
+
+    @Override
+    public void onHostPause() {
+        // 进入后台时必须立即释放相机
+        hostResumed = false;
+        closeCamera();
+    }
+
+    @Override
+    public void onHostDestroy() {
+        release();
+    }
+
+    /**
+     * 根据视图与宿主状态打开相机、开始或停止解码
+     */
+    private void updateCameraState() {
+        if (!attached || !hostResumed) {
+            return;
+        }
+        if (active) {
+            CameraKeepAlive.getInstance().cancelIdleRelease(idleRelease);
+            if (!decoding) {
+                boolean warm = cameraOpen;
+                if (!openCamera()) {
+                    // 由页面申请权限或提示用户，否则视图只显示黑屏
+                    dispatchEvent(EVENT_PERMISSION_DENIED, Arguments.createMap());
+                    return;
+                }
+                decoderFactory.markDecodeRequested(elapsedMs -> {
+                    CameraKeepAlive.getInstance().recordFirstFrame(elapsedMs, warm);
+                    Log.d(TAG, "首帧解码耗时: " + elapsedMs + "ms (" + (warm ? "相机已预热" : "冷启动") + ")");
+                });
+                decodeContinuous(callback);
+                decoding = true;
+            }
+            return;
+        }
+
+        if (decoding) {
+            getBarcodeView().stopDecoding();
+            decoding = false;
+        }
+        if (prewarm) {
+            openCamera();
+        }
+        if (cameraOpen) {
+            // 停止解码后保持预览，空闲超时后释放相机
+            CameraKeepAlive.getInstance().scheduleIdleRelease(idleRelease);
+        }
+    }
+
+    /**
+     * 打开相机并开始预览
+     * @return 相机是否已打开
+     */
+    private boolean openCamera() {
+        if (cameraOpen) {
+            return true;
+        }
+        if (ContextCompat.checkSelfPermission(reactContext, Manifest.permission.CAMERA)
+                != PackageManager.PERMISSION_GRANTED) {
+            Log.w(TAG, "未授予相机权限，无法启动扫码视图");
+            return false;
+        }
+        CameraKeepAlive.getInstance().acquire(this);
+        ScanDedupCache.getInstance().setWindowMs(scanOptions.dedupWindowMs);
+        resume();
+        cameraOpen = true;
+        return true;
+    }
+
+    /**
+     * 停止解码并关闭相机
+     */
+    private void closeCamera() {
+        CameraKeepAlive.getInstance().cancelIdleRelease(idleRelease);
+        if (decoding) {
+            getBarcodeView().stopDecoding();
+            decoding = false;
+        }
+        if (cameraOpen) {
+            pause();
+            cameraOpen = false;
+            CameraKeepAlive.getInstance().release(this);
+        }
+    }
+
+    private void dispatchEvent(String eventName, WritableMap payload) {
+        EventDispatcher dispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
+        if (dispatcher != null) {
+            dispatcher.dispatchEvent(new ScanEvent(UIManagerHelper.getSurfaceId(reactContext), getId(),
+                    eventName, payload));
+        }
+    }
+
+    private final BarcodeCallback callback = new BarcodeCallback() {
+        @Override
+        public void barcodeResult(BarcodeResult result) {
+            if (result.getText() == null) {
+                return;
+            }
+            String format = result.getBarcodeFormat().toString();
+            if (!ScanDedupCache.getInstance().accept(result.getText(), format)) {
+                return;
+            }
+            WritableMap event = Arguments.createMap();
+            event.putString("text", result.getText());
+            event.putString("format", format);
+            event.putDouble("timestamp", System.currentTimeMillis());
+            dispatchEvent(EVENT_SCAN, event);
+        }
+
+        @Override
+        public void possibleResultPoints(List<ResultPoint> resultPoints) {
+            // 可选实现，用于显示可能的结果点
+        }
+    };
+}
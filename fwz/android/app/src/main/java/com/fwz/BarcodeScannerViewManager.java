@@ -0,0 +1,113 @@
+package com.fwz;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.common.MapBuilder;
+import com.facebook.react.uimanager.SimpleViewManager;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.annotations.ReactProp;
+
+import java.util.Map;
+
+/**
+ * 嵌入式扫码视图管理器
+ * JS端组件名 BarcodeScannerView，属性与 startQRCodeScan(options) 的参数保持一致
+ */
+public class BarcodeScannerViewManager extends SimpleViewManager<BarcodeScannerView> {
+    public static final String REACT_CLASS = "BarcodeScannerView";
+
+    @NonNull
+    @Override
+    public String getName() {
+        return REACT_CLASS;
+    }
+
+    @NonNull
+    @Override
+    protected BarcodeScannerView createViewInstance(@NonNull ThemedReactContext reactContext) {
+        return new BarcodeScannerView(reactContext);
+    }
+
+    @ReactProp(name = "active", defaultBoolean = true)
+    public void setActive(BarcodeScannerView view, boolean active) {
+        view.setActive(active);
+    }
+
+    @ReactProp(name = "prewarm", defaultBoolean = false)
+    public void setPrewarm(BarcodeScannerView view, boolean prewarm) {
+        view.setPrewarm(prewarm);
+    }
+
+    @ReactProp(name = "idleTimeoutMs", defaultDouble = CameraKeepAlive.DEFAULT_IDLE_TIMEOUT_MS)
+    public void setIdleTimeoutMs(BarcodeScannerView view, double idleTimeoutMs) {
+        CameraKeepAlive.getInstance().setIdleTimeoutMs((long) idleTimeoutMs);
+    }
+
+    @ReactProp(name = "formats")
+    public void setFormats(BarcodeScannerView view, @Nullable ReadableArray formats) {
+        if (formats == null) {
+            view.getScanOptions().formats = null;
+            view.markOptionsChanged();
+            return;
+        }
+        String[] values = new String[formats.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = formats.getString(i);
+        }
+        view.getScanOptions().formats = values;
+        view.markOptionsChanged();
+    }
+
+    @ReactProp(name = "scanWindow")
+    public void setScanWindow(BarcodeScannerView view, @Nullable ReadableMap scanWindow) {
+        if (scanWindow != null && scanWindow.hasKey("width") && scanWindow.hasKey("height")) {
+            view.getScanOptions().scanWindowWidth = scanWindow.getInt("width");
+            view.getScanOptions().scanWindowHeight = scanWindow.getInt("height");
+        } else {
+            view.getScanOptions().scanWindowWidth = 0;
+            view.getScanOptions().scanWindowHeight = 0;
+        }
+        view.markOptionsChanged();
+    }
+
+    @ReactProp(name = "tryHarder", defaultBoolean = false)
+    public void setTryHarder(BarcodeScannerView view, boolean tryHarder) {
+        view.getScanOptions().tryHarder = tryHarder;
+        view.markOptionsChanged();
+    }
+
+    @ReactProp(name = "inverted", defaultBoolean = false)
+    public void setInverted(BarcodeScannerView view, boolean inverted) {
+        view.getScanOptions().inverted = inverted;
+        view.markOptionsChanged();
+    }
+
+    @ReactProp(name = "dedupWindowMs", defaultDouble = ScanDedupCache.DEFAULT_WINDOW_MS)
+    public void setDedupWindowMs(BarcodeScannerView view, double dedupWindowMs) {
+        view.getScanOptions().dedupWindowMs = (long) dedupWindowMs;
+        ScanDedupCache.getInstance().setWindowMs((long) dedupWindowMs);
+    }
+
+    @Override
+    protected void onAfterUpdateTransaction(@NonNull BarcodeScannerView view) {
+        super.onAfterUpdateTransaction(view);
+        view.commitProps();
+    }
+
+    @Override
+    public void onDropViewInstance(@NonNull BarcodeScannerView view) {
+        view.release();
+        super.onDropViewInstance(view);
+    }
+
+    @Nullable
+    @Override
+    public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
+        return MapBuilder.<String, Object>of(
+                BarcodeScannerView.EVENT_SCAN, MapBuilder.of("registrationName", "onScan"),
+                BarcodeScannerView.EVENT_PERMISSION_DENIED, MapBuilder.of("registrationName", "onPermissionDenied"));
+    }
+}
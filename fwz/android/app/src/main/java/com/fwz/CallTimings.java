@@ -0,0 +1,78 @@
+package com.fwz;
+
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 单次请求的分阶段耗时
+ * 作为 Request tag 传入，由 {@link HttpClients} 的 EventListener 填充；复用连接时 dns/connect/tls 为0
+ */
+public final class CallTimings {
+    final String endpoint;
+    long callStart;
+    long dnsStart;
+    long dnsEnd;
+    long connectStart;
+    long connectEnd;
+    long tlsStart;
+    long tlsEnd;
+    long requestStart;
+    long responseHeadersStart;
+    long responseEnd;
+    long callEnd;
+    boolean connectionReused = true;
+    String protocol = "";
+    long responseBytes;
+    String failure;
+
+    public CallTimings(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    static long now() {
+        return SystemClock.elapsedRealtimeNanos();
+    }
+
+    private static double ms(long start, long end) {
+        return start > 0 && end >= start ? (end - start) / 1_000_000.0 : 0;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 总耗时；响应体读取完成但尚未关闭时（callEnd 未触发）按读取完成时间计算
+     */
+    public double getTotalMs() {
+        return ms(callStart, callEnd > 0 ? callEnd : responseEnd);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * 转为JS可用的Map
+     * @return { endpoint, totalMs, dnsMs, connectMs, tlsMs, ttfbMs, downloadMs, connectionReused, protocol, responseBytes, failure? }
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("endpoint", endpoint);
+        map.put("totalMs", getTotalMs());
+        map.put("dnsMs", ms(dnsStart, dnsEnd));
+        map.put("connectMs", ms(connectStart, connectEnd));
+        map.put("tlsMs", ms(tlsStart, tlsEnd));
+        map.put("ttfbMs", ms(requestStart, responseHeadersStart));
+        map.put("downloadMs", ms(responseHeadersStart, responseEnd));
+        map.put("connectionReused", connectionReused ? 1 : 0);
+        map.put("protocol", protocol);
+        map.put("responseBytes", (double) responseBytes);
+        if (failure != null) {
+            map.put("failure", failure);
+        }
+        return map;
+    }
+}
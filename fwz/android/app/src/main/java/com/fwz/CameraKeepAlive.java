@@ -0,0 +1,127 @@
+package com.fwz;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * 进程级相机保活
+ * 同一时间只允许一个扫码视图持有预热的相机；扫码结束后相机保持预览，空闲超时后才释放。
+ * 同时统计"开始扫码 -> 首帧进入解码"的耗时，区分冷启动（需打开相机）与热启动（相机已预热）
+ */
+public class CameraKeepAlive {
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 30000;
+
+    private static final CameraKeepAlive INSTANCE = new CameraKeepAlive();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private WeakReference<Holder> currentHolder;
+    private long idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+
+    // 首帧耗时统计
+    private long coldCount = 0;
+    private long coldTotalMs = 0;
+    private long warmCount = 0;
+    private long warmTotalMs = 0;
+    private long lastFirstFrameMs = -1;
+    private boolean lastWarm = false;
+
+    /**
+     * 相机持有者，由扫码视图实现
+     */
+    public interface Holder {
+        void releaseCamera();
+    }
+
+    private CameraKeepAlive() {
+    }
+
+    public static CameraKeepAlive getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void setIdleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public synchronized long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    /**
+     * 获取相机，之前的持有者会被要求释放相机
+     * 需在主线程调用
+     */
+    public void acquire(Holder holder) {
+        Holder previous = currentHolder != null ? currentHolder.get() : null;
+        if (previous != null && previous != holder) {
+            previous.releaseCamera();
+        }
+        currentHolder = new WeakReference<>(holder);
+    }
+
+    /**
+     * 释放持有关系
+     * 需在主线程调用
+     */
+    public void release(Holder holder) {
+        if (currentHolder != null && currentHolder.get() == holder) {
+            currentHolder = null;
+        }
+    }
+
+    /**
+     * 空闲超时后释放相机
+     * @param releaseTask 释放任务
+     */
+    public void scheduleIdleRelease(Runnable releaseTask) {
+        mainHandler.removeCallbacks(releaseTask);
+        mainHandler.postDelayed(releaseTask, getIdleTimeoutMs());
+    }
+
+    public void cancelIdleRelease(Runnable releaseTask) {
+        mainHandler.removeCallbacks(releaseTask);
+    }
+
+    /**
+     * 记录首帧进入解码的耗时
+     * @param firstFrameMs 开始扫码到首帧解码的耗时
+     * @param warm 相机是否已预热
+     */
+    public synchronized void recordFirstFrame(long firstFrameMs, boolean warm) {
+        lastFirstFrameMs = firstFrameMs;
+        lastWarm = warm;
+        if (warm) {
+            warmCount++;
+            warmTotalMs += firstFrameMs;
+        } else {
+            coldCount++;
+            coldTotalMs += firstFrameMs;
+        }
+    }
+
+    public synchronized long getLastFirstFrameMs() {
+        return lastFirstFrameMs;
+    }
+
+    public synchronized boolean isLastWarm() {
+        return lastWarm;
+    }
+
+    public synchronized long getColdCount() {
+        return coldCount;
+    }
+
+    public synchronized double getColdAverageMs() {
+        return coldCount == 0 ? 0 : (double) coldTotalMs / coldCount;
+    }
+
+    public synchronized long getWarmCount() {
+        return warmCount;
+    }
+
+    public synchronized double getWarmAverageMs() {
+        return warmCount == 0 ? 0 : (double) warmTotalMs / warmCount;
+    }
+}
@@ -0,0 +1,270 @@
+package com.fwz;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.fwz.core.EventReplayBuffer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 读卡事件分发
+ * 按卡类型与阶段分为独立事件（替代统一的 onReadCardError），缓存 ReactContext 与事件发射器；
+ * 读证进度在同一帧内只发送最新一条（Choreographer 按帧合并），终态事件到达时丢弃未发送的进度。
+ * 冷启动或JS重载期间 ReactContext 未就绪（或JS尚未订阅）时，非进度事件写入环形缓冲，
+ * JS 订阅后调用 replayPending 按原顺序重放，超过 maxAge 的事件丢弃
+ */
+public final class CardEventDispatcher {
+    private static final String TAG = "CardEventDispatcher";
+
+    /**
+     * 事件类型，name 为 JS 端订阅的事件名
+     */
+    public enum CardEvent {
+        SOCIAL_CARD_START("onSocialCardStart"),
+        SOCIAL_CARD_RESULT("onSocialCardResult"),
+        ID_CARD_START("onIdCardStart"),
+        ID_CARD_PROGRESS("onIdCardProgress"),
+        ID_CARD_SUCCESS("onIdCardSuccess"),
+        ID_CARD_ERROR("onIdCardError");
+
+        public final String eventName;
+
+        CardEvent(String eventName) {
+            this.eventName = eventName;
+        }
+    }
+
+    private static final int REPLAY_CAPACITY = 16;
+    private static final long DEFAULT_REPLAY_MAX_AGE_MS = 10_000;
+
+    private static final CardEventDispatcher INSTANCE = new CardEventDispatcher();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private ReactContext reactContext;
+    private DeviceEventManagerModule.RCTDeviceEventEmitter emitter;
+    // 当前 ReactContext 的JS端是否已订阅读卡事件
+    private boolean listenersReady = false;
+
+    // 未就绪期间的待重放事件
+    private final EventReplayBuffer<PendingEvent> replayBuffer =
+            new EventReplayBuffer<>(REPLAY_CAPACITY, DEFAULT_REPLAY_MAX_AGE_MS);
+
+    // 待发送的进度（只保留最新一条）
+    private Map<String, Object> pendingProgress;
+    private boolean frameScheduled = false;
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flushProgress();
+
+    // 统计
+    private long emittedCount = 0;
+    private long coalescedCount = 0;
+    private long droppedCount = 0;
+    private final Map<String, Long> emittedByEvent = new HashMap<>();
+
+    private CardEventDispatcher() {
+    }
+
+    public static CardEventDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * ReactContext 创建后绑定（由原生模块构造时调用）
+     */
+    public synchronized void attach(ReactContext context) {
+        if (reactContext != context) {
+            reactContext = context;
+            emitter = null;
+            listenersReady = false;
+        }
+    }
+
+    /**
+     * ReactContext 销毁时解绑
+     */
+    public synchronized void detach(ReactContext context) {
+        if (reactContext == context) {
+            reactContext = null;
+            emitter = null;
+            listenersReady = false;
+        }
+    }
+
+    /**
+     * JS端订阅读卡事件后调用：按原顺序重放未过期的缓存事件，之后的事件直接发送
+     * @return 重放的事件数；ReactContext 仍未就绪时返回0并继续缓存
+     */
+    public int replayPending() {
+        int replayed = 0;
+        while (true) {
+            DeviceEventManagerModule.RCTDeviceEventEmitter target;
+            List<PendingEvent> batch;
+            synchronized (this) {
+                target = obtainEmitter();
+                if (target == null) {
+                    return replayed;
+                }
+                batch = replayBuffer.drain(SystemClock.elapsedRealtime());
+                if (batch.isEmpty()) {
+                    // 缓冲清空后才切换为直接发送，保证重放期间新到的事件排在后面
+                    listenersReady = true;
+                    return replayed;
+                }
+            }
+            for (PendingEvent pending : batch) {
+                send(target, pending.event, pending.params, pending.timestamp, true);
+            }
+            replayed += batch.size();
+            CardLog.i(TAG, "已重放缓存事件: " + batch.size());
+        }
+    }
+
+    /**
+     * 缓存事件的最大保留时间，超过后不再重放
+     */
+    public void setReplayMaxAgeMs(long maxAgeMs) {
+        replayBuffer.setMaxAgeMs(maxAgeMs);
+    }
+
+    /**
+     * 发送事件（progress 之外的事件立即发送）
+     * @param params 事件内容，会追加 timestamp
+     */
+    public void dispatch(CardEvent event, Map<String, Object> params) {
+        if (event == CardEvent.ID_CARD_PROGRESS) {
+            dispatchProgress(params);
+            return;
+        }
+        synchronized (this) {
+            if (pendingProgress != null && event != CardEvent.ID_CARD_START) {
+                // 读卡已结束，未发送的进度不再需要
+                pendingProgress = null;
+                coalescedCount++;
+            }
+        }
+        emit(event, params);
+    }
+
+    /**
+     * 读证进度：同一帧内多次更新只发送最后一次
+     */
+    private void dispatchProgress(Map<String, Object> params) {
+        synchronized (this) {
+            if (pendingProgress != null) {
+                coalescedCount++;
+            }
+            pendingProgress = params;
+            if (frameScheduled) {
+                return;
+            }
+            frameScheduled = true;
+        }
+        mainHandler.post(() -> Choreographer.getInstance().postFrameCallback(frameCallback));
+    }
+
+    private void flushProgress() {
+        Map<String, Object> params;
+        synchronized (this) {
+            frameScheduled = false;
+            params = pendingProgress;
+            pendingProgress = null;
+        }
+        if (params != null) {
+            emit(CardEvent.ID_CARD_PROGRESS, params);
+        }
+    }
+
+    private void emit(CardEvent event, Map<String, Object> params) {
+        long timestamp = System.currentTimeMillis();
+        DeviceEventManagerModule.RCTDeviceEventEmitter target;
+        synchronized (this) {
+            target = listenersReady ? obtainEmitter() : null;
+            if (target == null) {
+                if (event == CardEvent.ID_CARD_PROGRESS) {
+                    // 进度只对正在进行的读卡有意义，不缓存
+                    droppedCount++;
+                    return;
+                }
+                long now = SystemClock.elapsedRealtime();
+                replayBuffer.expire(now);
+                if (replayBuffer.add(new PendingEvent(event, params, timestamp), now)) {
+                    CardLog.w(TAG, "待重放事件已满，覆盖最早的事件");
+                }
+                CardLog.w(TAG, "ReactContext未就绪，事件已缓存待重放: " + event.eventName);
+                return;
+            }
+        }
+        send(target, event, params, timestamp, false);
+    }
+
+    private void send(DeviceEventManagerModule.RCTDeviceEventEmitter target, CardEvent event,
+                      Map<String, Object> params, long timestamp, boolean replayed) {
+        WritableMap map = Arguments.makeNativeMap(params);
+        map.putDouble("timestamp", timestamp);
+        if (replayed) {
+            map.putBoolean("replayed", true);
+        }
+        target.emit(event.eventName, map);
+        synchronized (this) {
+            emittedCount++;
+            Long count = emittedByEvent.get(event.eventName);
+            emittedByEvent.put(event.eventName, count == null ? 1L : count + 1);
+        }
+        CardLog.d(TAG, () -> "已发送事件: " + event.eventName);
+    }
+
+    private synchronized DeviceEventManagerModule.RCTDeviceEventEmitter obtainEmitter() {
+        if (reactContext == null || !reactContext.hasActiveReactInstance()) {
+            return null;
+        }
+        if (emitter == null) {
+            emitter = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
+        }
+        return emitter;
+    }
+
+    /**
+     * 事件统计
+     * @return { emitted, coalesced, dropped, pending, replayed, expired, evicted, replayMaxAgeMs, byEvent: { eventName: count } }
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> byEvent = new HashMap<>();
+        for (Map.Entry<String, Long> entry : emittedByEvent.entrySet()) {
+            byEvent.put(entry.getKey(), (double) entry.getValue());
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("emitted", (double) emittedCount);
+        stats.put("coalesced", (double) coalescedCount);
+        stats.put("dropped", (double) droppedCount);
+        stats.put("pending", (double) replayBuffer.size());
+        stats.put("replayed", (double) replayBuffer.getReplayedCount());
+        stats.put("expired", (double) replayBuffer.getExpiredCount());
+        stats.put("evicted", (double) replayBuffer.getEvictedCount());
+        stats.put("replayMaxAgeMs", (double) replayBuffer.getMaxAgeMs());
+        stats.put("byEvent", byEvent);
+        return stats;
+    }
+
+    /**
+     * 待重放事件，timestamp 保留事件实际发生的时间
+     */
+    private static final class PendingEvent {
+        final CardEvent event;
+        final Map<String, Object> params;
+        final long timestamp;
+
+        PendingEvent(CardEvent event, Map<String, Object> params, long timestamp) {
+            this.event = event;
+            this.params = params;
+            this.timestamp = timestamp;
+        }
+    }
+}
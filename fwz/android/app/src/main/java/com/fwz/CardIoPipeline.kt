@@ -0,0 +1,110 @@
+package com.fwz
+
+import android.nfc.Tag
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.fwz.core.ReadCardScheduler
+import com.fwz.core.ReaderMetrics
+
+/**
+ * 社保卡读卡流水线
+ * 阶段：标签到达 -> SDK读卡 -> 结果采集 -> 发送到JS
+ * SDK调用（含libcurl网络请求）全部经由 ReadCardScheduler 在 card-io 线程上执行，主线程只接收最终结果；
+ * 各阶段耗时同时计入 ReaderMetrics 的社保卡路径
+ */
+object CardIoPipeline {
+
+  private const val TAG = "CardIoPipeline"
+
+  private const val INIT_URL = "https://qyykt.e-tecsun.com/prod-api/outInterface/api/r0/doPost"
+  private const val PLATFORM_ID = "gdly"
+  private const val ITYPE_CONTACTLESS = 2 // 非接触式操作卡
+  private const val SCENE_CODE = "000001"
+
+  private val mainHandler = Handler(Looper.getMainLooper())
+
+  /**
+   * 各阶段耗时（毫秒）
+   */
+  class StageTimings {
+    var queueMs = 0L    // 标签到达 -> card-io线程开始处理
+    var initMs = 0L     // iInitParms（会话复用时为0）
+    var readMs = 0L     // iReadCardBas
+    var captureMs = 0L  // getErr/getOut 结果采集
+    var dispatchMs = 0L // 结果投递到主线程
+    var totalMs = 0L    // 标签到达 -> 发送到JS
+  }
+
+  /**
+   * 社保卡读卡结果
+   */
+  class SocialCardResult(
+    val resultCode: Int,
+    val errorInfo: String,
+    val resultInfo: String,
+    val timings: StageTimings
+  )
+
+  /**
+   * 提交一次社保卡读卡
+   * @param tag NFC标签
+   * @param onStart 在card-io线程上、调用SDK读卡前回调（SDK初始化失败时不回调）
+   * @param onResult 在主线程上回调最终结果
+   */
+  fun submitSocialCardRead(tag: Tag, onStart: () -> Unit, onResult: (SocialCardResult) -> Unit) {
+    // 阶段1：标签到达
+    val tagArrivedAt = SystemClock.elapsedRealtime()
+    val tagArrivedNanos = System.nanoTime()
+    val metrics = ReaderMetrics.getInstance()
+    val timings = StageTimings()
+    var readDoneAt = 0L
+
+    ReadCardScheduler.getInstance().submit("nfc-tap", ReadCardScheduler.PRIORITY_NFC_TAP, {
+      val startedAt = SystemClock.elapsedRealtime()
+      timings.queueMs = startedAt - tagArrivedAt
+      val startedNanos = System.nanoTime()
+      metrics.record(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.TAG_DISCOVERED, startedNanos - tagArrivedNanos)
+
+      // 阶段2：SDK读卡（会话已就绪时不再重复 iInitParms）
+      val initResult = ReadCardSession.ensureInitialized(INIT_URL, PLATFORM_ID)
+      val initDoneAt = SystemClock.elapsedRealtime()
+      timings.initMs = initDoneAt - startedAt
+      val initDoneNanos = System.nanoTime()
+      metrics.record(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.SDK_INIT, initDoneNanos - startedNanos)
+      if (!initResult.isSuccess) {
+        // 初始化失败时不读卡、不通知开始，直接把失败作为本次结果
+        CardLog.w(TAG) { "iInitParms初始化失败 initResult = ${initResult.resultCode}, ${initResult.errorInfo}" }
+        return@submit initResult
+      }
+
+      onStart()
+
+      val result = ReadCardSession.call { it.readSocialCard(tag, ITYPE_CONTACTLESS, SCENE_CODE) }
+      readDoneAt = SystemClock.elapsedRealtime()
+      timings.readMs = readDoneAt - initDoneAt
+      metrics.recordSince(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.SDK_READ, initDoneNanos)
+      result
+    }) { outcome ->
+      // 阶段3：结果采集（由调度器在同一线程上原子完成）
+      if (readDoneAt > 0) {
+        timings.captureMs = SystemClock.elapsedRealtime() - readDoneAt
+      }
+      CardLog.d(TAG) { "NFC卡片读取完成 result = ${outcome.resultCode}, queueDepth = ${outcome.queueDepth}" }
+
+      // 阶段4：投递到主线程发送到JS
+      val postedAt = SystemClock.elapsedRealtime()
+      val cardResult = SocialCardResult(outcome.resultCode, outcome.errorInfo, outcome.resultInfo, timings)
+      mainHandler.post {
+        val now = SystemClock.elapsedRealtime()
+        timings.dispatchMs = now - postedAt
+        timings.totalMs = now - tagArrivedAt
+        CardLog.d(TAG) {
+          "读卡阶段耗时: queue=${timings.queueMs}ms, init=${timings.initMs}ms, read=${timings.readMs}ms, " +
+              "capture=${timings.captureMs}ms, dispatch=${timings.dispatchMs}ms, total=${timings.totalMs}ms"
+        }
+        onResult(cardResult)
+      }
+    }
+  }
+}
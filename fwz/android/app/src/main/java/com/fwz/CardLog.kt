@@ -0,0 +1,86 @@
+package com.fwz
+
+import android.util.Log
+import com.fwz.core.AsyncLogger
+import java.util.function.Supplier
+
+/**
+ * 读卡链路日志
+ * 经 AsyncLogger 写入环形缓冲，由后台线程脱敏（身份证号、姓名、照片）后输出到 logcat；
+ * d() 受 BuildConfig.LOG_DEBUG 控制，release 包中该常量为 false，内联后调用处的消息拼接在编译期去除
+ */
+object CardLog {
+
+    @PublishedApi
+    internal val logger = AsyncLogger(
+        AsyncLogger.DEFAULT_CAPACITY,
+        if (BuildConfig.LOG_DEBUG) AsyncLogger.DEBUG else AsyncLogger.INFO,
+        true
+    ) { level, tag, message, error ->
+        if (error != null) {
+            Log.println(level, tag, message + '\n' + Log.getStackTraceString(error))
+        } else {
+            Log.println(level, tag, message)
+        }
+    }
+
+    @JvmStatic
+    inline fun d(tag: String, crossinline message: () -> String) {
+        if (BuildConfig.LOG_DEBUG) {
+            logger.log(AsyncLogger.DEBUG, tag, Supplier { message() }, null)
+        }
+    }
+
+    @JvmStatic
+    fun d(tag: String, message: String) {
+        if (BuildConfig.LOG_DEBUG) {
+            logger.log(AsyncLogger.DEBUG, tag, message, null)
+        }
+    }
+
+    @JvmStatic
+    inline fun i(tag: String, crossinline message: () -> String) {
+        logger.log(AsyncLogger.INFO, tag, Supplier { message() }, null)
+    }
+
+    @JvmStatic
+    fun i(tag: String, message: String) {
+        logger.log(AsyncLogger.INFO, tag, message, null)
+    }
+
+    @JvmStatic
+    inline fun w(tag: String, crossinline message: () -> String) {
+        logger.log(AsyncLogger.WARN, tag, Supplier { message() }, null)
+    }
+
+    @JvmStatic
+    fun w(tag: String, message: String) {
+        logger.log(AsyncLogger.WARN, tag, message, null)
+    }
+
+    @JvmStatic
+    @JvmOverloads
+    fun e(tag: String, message: String, error: Throwable? = null) {
+        logger.log(AsyncLogger.ERROR, tag, message, error)
+    }
+
+    /**
+     * 运行时调整最低输出级别（取值同 android.util.Log），release 包中 DEBUG 级别已被去除
+     */
+    @JvmStatic
+    fun setMinLevel(level: Int) {
+        logger.setMinLevel(level)
+    }
+
+    /**
+     * 日志统计：{ minLevel, submitted, written, dropped, pending }
+     */
+    @JvmStatic
+    fun snapshot(): Map<String, Any> = mapOf(
+        "minLevel" to logger.minLevel,
+        "submitted" to logger.submittedCount.toDouble(),
+        "written" to logger.writtenCount.toDouble(),
+        "dropped" to logger.droppedCount.toDouble(),
+        "pending" to logger.pendingCount
+    )
+}
@@ -0,0 +1,44 @@
+package com.fwz
+
+import com.facebook.react.BaseReactPackage
+import com.facebook.react.bridge.NativeModule
+import com.facebook.react.bridge.ReactApplicationContext
+import com.facebook.react.module.model.ReactModuleInfo
+import com.facebook.react.module.model.ReactModuleInfoProvider
+
+/**
+ * 读卡模块包（XToastModule、IdCardReader）
+ * 新架构下注册为 TurboModule，按需懒加载并通过 JSI 直接调用；
+ * 旧架构或 gradle.properties 中 fwzLegacyCardModules=true 时回退为桥接模块
+ */
+class CardModulesPackage : BaseReactPackage() {
+
+    override fun getModule(name: String, reactContext: ReactApplicationContext): NativeModule? {
+        return when (name) {
+            XToastModule.NAME -> XToastModule(reactContext)
+            IdCardReaderModule.NAME -> IdCardReaderModule(reactContext)
+            else -> null
+        }
+    }
+
+    override fun getReactModuleInfoProvider(): ReactModuleInfoProvider {
+        val isTurboModule = BuildConfig.IS_NEW_ARCHITECTURE_ENABLED && !BuildConfig.LEGACY_CARD_MODULES
+        return ReactModuleInfoProvider {
+            mapOf(
+                XToastModule.NAME to moduleInfo(XToastModule.NAME, XToastModule::class.java.name, isTurboModule),
+                IdCardReaderModule.NAME to moduleInfo(IdCardReaderModule.NAME, IdCardReaderModule::class.java.name, isTurboModule)
+            )
+        }
+    }
+
+    private fun moduleInfo(name: String, className: String, isTurboModule: Boolean): ReactModuleInfo {
+        return ReactModuleInfo(
+            name,
+            className,
+            false, // canOverrideExistingModule
+            false, // needsEagerInit
+            false, // isCxxModule
+            isTurboModule
+        )
+    }
+}
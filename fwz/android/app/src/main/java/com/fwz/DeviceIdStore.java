@@ -0,0 +1,92 @@
+package com.fwz;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.provider.Settings;
+
+import com.fwz.core.DeviceIds;
+
+/**
+ * 设备唯一编码缓存
+ * 启动时在后台线程计算一次（Android ID / 构建信息 + MD5）并持久化，之后的调用直接返回内存中的值；
+ * 后台计算未完成时 get() 在调用线程上计算
+ */
+public final class DeviceIdStore {
+    private static final String TAG = "DeviceIdStore";
+    private static final String PREFS_NAME = "device";
+    private static final String KEY_UNIQUE_ID = "uniqueId";
+
+    private static volatile DeviceIdStore instance;
+
+    private final Context context;
+    private final SharedPreferences prefs;
+    private volatile String uniqueId;
+
+    private DeviceIdStore(Context context) {
+        this.context = context;
+        this.prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public static DeviceIdStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (DeviceIdStore.class) {
+                if (instance == null) {
+                    instance = new DeviceIdStore(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 在后台线程预先加载，供 Application.onCreate 调用
+     */
+    public void prefetchAsync() {
+        if (uniqueId != null) {
+            return;
+        }
+        Thread thread = new Thread(this::get, "device-id");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * 设备唯一编码：依次取内存、持久化值，都没有时计算并保存
+     */
+    public String get() {
+        String id = uniqueId;
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            if (uniqueId == null) {
+                uniqueId = load();
+            }
+            return uniqueId;
+        }
+    }
+
+    private String load() {
+        String stored = prefs.getString(KEY_UNIQUE_ID, null);
+        if (stored != null && !stored.isEmpty()) {
+            return stored;
+        }
+        long startedAt = System.nanoTime();
+        String id = compute();
+        prefs.edit().putString(KEY_UNIQUE_ID, id).apply();
+        CardLog.i(TAG, () -> "设备唯一编码已生成，耗时" + (System.nanoTime() - startedAt) / 1000 + "us");
+        return id;
+    }
+
+    /**
+     * 尝试获取Android ID，不可用（或为模拟器默认ID）时使用设备的构建信息
+     */
+    private String compute() {
+        String androidId = Settings.Secure.getString(context.getContentResolver(), Settings.Secure.ANDROID_ID);
+        String seed = DeviceIds.isUsableAndroidId(androidId) ? androidId : DeviceIds.fallbackSeed(
+                Build.BOARD, Build.BRAND, Build.DEVICE, Build.DISPLAY, Build.HOST, Build.ID,
+                Build.MANUFACTURER, Build.MODEL, Build.PRODUCT, Build.TAGS, Build.TYPE, Build.USER);
+        return DeviceIds.fromSeed(seed);
+    }
+}
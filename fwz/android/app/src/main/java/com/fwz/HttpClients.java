@@ -0,0 +1,233 @@
+package com.fwz;
+
+import android.util.Log;
+
+import com.fwz.core.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 进程内共享的 OkHttpClient
+ * 所有原生网络请求共用同一个连接池（HTTP/2 多路复用）与线程池；
+ * 按接口应用 {@link ApiEndpointPolicy} 超时，并通过 EventListener 统计分阶段耗时
+ */
+public final class HttpClients {
+    private static final String TAG = "HttpClients";
+    public static final String BASE_URL = "https://yktlycs.e-tecsun.com";
+
+    private static volatile OkHttpClient client;
+    private static final Map<String, LatencyHistogram> endpointLatency = new ConcurrentHashMap<>();
+    private static volatile CallTimings lastPreconnect;
+
+    private HttpClients() {
+    }
+
+    public static OkHttpClient get() {
+        OkHttpClient current = client;
+        if (current == null) {
+            synchronized (HttpClients.class) {
+                current = client;
+                if (current == null) {
+                    Dispatcher dispatcher = new Dispatcher();
+                    dispatcher.setMaxRequestsPerHost(8);
+                    current = new OkHttpClient.Builder()
+                            .dispatcher(dispatcher)
+                            .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES))
+                            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                            .connectTimeout(10, TimeUnit.SECONDS)
+                            .readTimeout(15, TimeUnit.SECONDS)
+                            .writeTimeout(15, TimeUnit.SECONDS)
+                            .addInterceptor(HttpClients::applyEndpointTimeouts)
+                            .eventListenerFactory(call -> {
+                                CallTimings timings = call.request().tag(CallTimings.class);
+                                return timings != null ? new TimingListener(timings) : EventListener.NONE;
+                            })
+                            .build();
+                    client = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 创建带耗时统计和接口超时的请求
+     * @param timings 本次请求的耗时记录，请求结束后填充
+     */
+    public static Call newCall(Request request, CallTimings timings) {
+        Call call = get().newCall(request.newBuilder().tag(CallTimings.class, timings).build());
+        call.timeout().timeout(ApiEndpointPolicy.forPath(request.url().encodedPath()).callTimeoutMs,
+                TimeUnit.MILLISECONDS);
+        return call;
+    }
+
+    /**
+     * 预连接：提前完成DNS解析、TCP与TLS握手，连接保留在连接池中供后续请求复用
+     * 在登录页显示及登录成功后调用
+     */
+    public static void preconnect() {
+        CallTimings timings = new CallTimings("preconnect");
+        Request request = new Request.Builder().url(BASE_URL + "/").head().build();
+        newCall(request, timings).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                Log.w(TAG, "预连接失败: " + e.getMessage());
+                lastPreconnect = timings;
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+                lastPreconnect = timings;
+                Map<String, Object> map = timings.toMap();
+                Log.d(TAG, "预连接完成: dns=" + map.get("dnsMs") + "ms, connect=" + map.get("connectMs")
+                        + "ms, tls=" + map.get("tlsMs") + "ms, protocol=" + map.get("protocol"));
+            }
+        });
+    }
+
+    /**
+     * 网络统计
+     * @return { endpoints: { path: { count, meanMs, p50Ms, p95Ms, p99Ms, maxMs } }, idleConnections, connections, lastPreconnect? }
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> endpoints = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : endpointLatency.entrySet()) {
+            endpoints.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("endpoints", endpoints);
+        result.put("idleConnections", get().connectionPool().idleConnectionCount());
+        result.put("connections", get().connectionPool().connectionCount());
+        CallTimings preconnect = lastPreconnect;
+        if (preconnect != null) {
+            result.put("lastPreconnect", preconnect.toMap());
+        }
+        return result;
+    }
+
+    private static Response applyEndpointTimeouts(Interceptor.Chain chain) throws IOException {
+        ApiEndpointPolicy policy = ApiEndpointPolicy.forPath(chain.request().url().encodedPath());
+        return chain
+                .withConnectTimeout(policy.connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .withReadTimeout(policy.readTimeoutMs, TimeUnit.MILLISECONDS)
+                .proceed(chain.request());
+    }
+
+    private static void recordCall(CallTimings timings) {
+        if (timings.isFailed()) {
+            return;
+        }
+        LatencyHistogram histogram = endpointLatency.get(timings.endpoint);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            LatencyHistogram existing = endpointLatency.putIfAbsent(timings.endpoint, histogram);
+            if (existing != null) {
+                histogram = existing;
+            }
+        }
+        histogram.recordNanos(timings.callEnd - timings.callStart);
+    }
+
+    /**
+     * 填充 CallTimings 的事件监听
+     */
+    private static final class TimingListener extends EventListener {
+        private final CallTimings timings;
+
+        TimingListener(CallTimings timings) {
+            this.timings = timings;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            timings.callStart = CallTimings.now();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            timings.dnsStart = CallTimings.now();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            timings.dnsEnd = CallTimings.now();
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            timings.connectionReused = false;
+            timings.connectStart = CallTimings.now();
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            timings.tlsStart = CallTimings.now();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            timings.tlsEnd = CallTimings.now();
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            timings.connectEnd = CallTimings.now();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            timings.protocol = connection.protocol().toString();
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            timings.requestStart = CallTimings.now();
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            timings.responseHeadersStart = CallTimings.now();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            timings.responseEnd = CallTimings.now();
+            timings.responseBytes = byteCount;
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            timings.callEnd = CallTimings.now();
+            recordCall(timings);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            timings.callEnd = CallTimings.now();
+            timings.failure = String.valueOf(ioe.getMessage());
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package com.fwz
 
 import com.facebook.react.bridge.*
-import com.facebook.react.modules.core.DeviceEventManagerModule
+import com.facebook.react.module.annotations.ReactModule
+import com.fwz.specs.NativeIdCardReaderSpec
 import android.util.Log
 
 /**
  * 身份证读取React Native模块
+ * 基于 codegen 规范 NativeIdCardReaderSpec，新架构下以 TurboModule（JSI）加载
  */
-class IdCardReaderModule(reactContext: ReactApplicationContext) : ReactContextBaseJavaModule(reactContext) {
+@ReactModule(name = IdCardReaderModule.NAME)
+class IdCardReaderModule(reactContext: ReactApplicationContext) : NativeIdCardReaderSpec(reactContext) {
     
     companion object {
+        const val NAME = "IdCardReader"
         private const val TAG = "IdCardReaderModule"
     }
     
     override fun getName(): String {
-        return "IdCardReader"
+        return NAME
     }
     
     /**
      * 开始身份证读取
      */
     @ReactMethod
-    fun startIdCardReading(promise: Promise) {
+    override fun startIdCardReading(promise: Promise) {
         try {
             val activity = currentActivity
             if (activity is MainActivity) {
@@ -40,7 +44,7 @@ class IdCardReaderModule(reactContext: ReactApplicationContext) : ReactContextBa
      * 停止身份证读取
      */
     @ReactMethod
-    fun stopIdCardReading(promise: Promise) {
+    override fun stopIdCardReading(promise: Promise) {
         try {
             val activity = currentActivity
             if (activity is MainActivity) {
@@ -59,7 +63,7 @@ class IdCardReaderModule(reactContext: ReactApplicationContext) : ReactContextBa
      * 检查NFC是否可用
      */
     @ReactMethod
-    fun checkNfcAvailable(promise: Promise) {
+    override fun checkNfcAvailable(promise: Promise) {
         try {
             val activity = currentActivity
             if (activity != null) {
@@ -76,4 +80,32 @@ class IdCardReaderModule(reactContext: ReactApplicationContext) : ReactContextBa
             promise.reject("ERROR", e.message)
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 获取身份证照片处理统计
+     * 返回 { saved, reused, failed, avgBase64Bytes, avgFileBytes, avgProcessMs }
+     */
+    @ReactMethod
+    override fun getPhotoStats(promise: Promise) {
+        promise.resolve(Arguments.makeNativeMap(IdPhotoStore.getInstance(reactApplicationContext).snapshot()))
+    }
+
+    /**
+     * 同步检查NFC是否已开启（JSI 下直接返回）
+     */
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    override fun isNfcEnabledSync(): Boolean {
+        return android.nfc.NfcAdapter.getDefaultAdapter(reactApplicationContext)?.isEnabled == true
+    }
+
+    /**
+     * NativeEventEmitter 订阅计数，事件由 CardEventDispatcher 统一发送，此处无需处理
+     */
+    @ReactMethod
+    override fun addListener(eventName: String) {
+    }
+
+    @ReactMethod
+    override fun removeListeners(count: Double) {
+    }
+}
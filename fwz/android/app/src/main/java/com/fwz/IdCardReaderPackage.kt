@@ -1,20 +0,0 @@
-package com.fwz
-
-import com.facebook.react.ReactPackage
-import com.facebook.react.bridge.NativeModule
-import com.facebook.react.bridge.ReactApplicationContext
-import com.facebook.react.uimanager.ViewManager
-
-/**
- * 身份证读取包
- */
-class IdCardReaderPackage : ReactPackage {
-    
-    override fun createNativeModules(reactContext: ReactApplicationContext): List<NativeModule> {
-        return listOf(IdCardReaderModule(reactContext))
-    }
-    
-    override fun createViewManagers(reactContext: ReactApplicationContext): List<ViewManager<*, *>> {
-        return emptyList()
-    }
-}
\ No newline at end of file
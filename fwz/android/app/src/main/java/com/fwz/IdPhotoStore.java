@@ -0,0 +1,273 @@
+package com.fwz;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Base64;
+import android.util.Log;
+
+import com.fwz.core.DeviceIds;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 身份证照片处理
+ * 在后台线程解码Base64照片（复用Bitmap）、按需缩小后压缩为JPEG写入应用缓存目录，
+ * 事件中只传 file:// URI 与宽高，不再经桥接传递Base64。缓存按最近使用淘汰，文件名为照片内容摘要，重复读同一张卡直接复用
+ */
+public final class IdPhotoStore {
+    private static final String TAG = "IdPhotoStore";
+    private static final String DIR_NAME = "idcard-photos";
+    private static final int MAX_DIMENSION = 256;
+    private static final int JPEG_QUALITY = 85;
+    private static final int MAX_FILES = 50;
+    private static final long MAX_BYTES = 2 * 1024 * 1024;
+    private static final int POOL_SIZE = 2;
+
+    private static volatile IdPhotoStore instance;
+
+    private final File dir;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "idcard-photo");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // 可复用的Bitmap（只在处理线程上访问）
+    private final ArrayDeque<Bitmap> bitmapPool = new ArrayDeque<>(POOL_SIZE);
+
+    // 统计（只在处理线程上更新）
+    private long savedCount = 0;
+    private long reusedCount = 0;
+    private long failedCount = 0;
+    private long totalBase64Bytes = 0;
+    private long totalFileBytes = 0;
+    private long totalProcessMs = 0;
+
+    /**
+     * 处理结果，失败时 uri 为空
+     */
+    public static final class Result {
+        public final String uri;
+        public final int width;
+        public final int height;
+        public final int base64Bytes;
+        public final long fileBytes;
+
+        Result(String uri, int width, int height, int base64Bytes, long fileBytes) {
+            this.uri = uri;
+            this.width = width;
+            this.height = height;
+            this.base64Bytes = base64Bytes;
+            this.fileBytes = fileBytes;
+        }
+
+        public boolean isSuccess() {
+            return !uri.isEmpty();
+        }
+    }
+
+    public interface Callback {
+        /**
+         * 在主线程回调
+         */
+        void onResult(Result result);
+    }
+
+    private IdPhotoStore(File dir) {
+        this.dir = dir;
+    }
+
+    public static IdPhotoStore getInstance(Context context) {
+        IdPhotoStore current = instance;
+        if (current == null) {
+            synchronized (IdPhotoStore.class) {
+                current = instance;
+                if (current == null) {
+                    current = new IdPhotoStore(new File(context.getApplicationContext().getCacheDir(), DIR_NAME));
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 后台处理照片，完成后在主线程回调
+     * @param base64Photo 读卡结果中的Base64照片
+     */
+    public void save(String base64Photo, Callback callback) {
+        executor.execute(() -> {
+            Result result = process(base64Photo);
+            mainHandler.post(() -> callback.onResult(result));
+        });
+    }
+
+    /**
+     * 照片处理统计
+     * @return { saved, reused, failed, avgBase64Bytes, avgFileBytes, avgProcessMs }
+     */
+    public Map<String, Object> snapshot() {
+        try {
+            return executor.submit(() -> {
+                long total = savedCount + reusedCount;
+                Map<String, Object> stats = new HashMap<>();
+                stats.put("saved", (double) savedCount);
+                stats.put("reused", (double) reusedCount);
+                stats.put("failed", (double) failedCount);
+                stats.put("avgBase64Bytes", total == 0 ? 0.0 : (double) totalBase64Bytes / total);
+                stats.put("avgFileBytes", total == 0 ? 0.0 : (double) totalFileBytes / total);
+                stats.put("avgProcessMs", total == 0 ? 0.0 : (double) totalProcessMs / total);
+                return stats;
+            }).get();
+        } catch (Exception e) {
+            return new HashMap<>();
+        }
+    }
+
+    private Result process(String base64Photo) {
+        long start = System.nanoTime();
+        try {
+            byte[] data = Base64.decode(base64Photo, Base64.DEFAULT);
+            if (!dir.exists() && !dir.mkdirs()) {
+                throw new IOException("无法创建目录: " + dir);
+            }
+            File file = new File(dir, digest(data) + ".jpg");
+
+            BitmapFactory.Options bounds = new BitmapFactory.Options();
+            bounds.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray(data, 0, data.length, bounds);
+            if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+                throw new IOException("无法识别的照片格式");
+            }
+            int sampleSize = 1;
+            while (Math.max(bounds.outWidth, bounds.outHeight) / (sampleSize * 2) >= MAX_DIMENSION) {
+                sampleSize *= 2;
+            }
+            int width = bounds.outWidth / sampleSize;
+            int height = bounds.outHeight / sampleSize;
+
+            if (file.exists()) {
+                // 同一张卡的照片已缓存
+                file.setLastModified(System.currentTimeMillis());
+                reusedCount++;
+                return record(new Result(Uri.fromFile(file).toString(), width, height,
+                        base64Photo.length(), file.length()), start);
+            }
+
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inSampleSize = sampleSize;
+            options.inMutable = true;
+            options.inPreferredConfig = Bitmap.Config.RGB_565;
+            options.inBitmap = obtainBitmap(width, height);
+            Bitmap bitmap;
+            try {
+                bitmap = BitmapFactory.decodeByteArray(data, 0, data.length, options);
+            } catch (IllegalArgumentException e) {
+                // 复用的Bitmap不满足要求时重新分配
+                options.inBitmap = null;
+                bitmap = BitmapFactory.decodeByteArray(data, 0, data.length, options);
+            }
+            if (bitmap == null) {
+                throw new IOException("照片解码失败");
+            }
+            width = bitmap.getWidth();
+            height = bitmap.getHeight();
+
+            File tmp = new File(dir, file.getName() + ".tmp");
+            try (FileOutputStream out = new FileOutputStream(tmp)) {
+                bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, out);
+            } finally {
+                recycleBitmap(bitmap);
+            }
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                throw new IOException("写入照片失败: " + file);
+            }
+            savedCount++;
+            trim();
+            return record(new Result(Uri.fromFile(file).toString(), width, height,
+                    base64Photo.length(), file.length()), start);
+        } catch (IOException | IllegalArgumentException e) {
+            failedCount++;
+            Log.w(TAG, "照片处理失败: " + e.getMessage());
+            return new Result("", 0, 0, base64Photo.length(), 0);
+        }
+    }
+
+    private Result record(Result result, long start) {
+        totalBase64Bytes += result.base64Bytes;
+        totalFileBytes += result.fileBytes;
+        totalProcessMs += (System.nanoTime() - start) / 1_000_000;
+        return result;
+    }
+
+    /**
+     * 从池中取出可复用的Bitmap（RGB_565占用字节数不小于目标尺寸即可复用）
+     */
+    private Bitmap obtainBitmap(int width, int height) {
+        int required = width * height * 2;
+        for (Bitmap bitmap : bitmapPool) {
+            if (bitmap.getAllocationByteCount() >= required) {
+                bitmapPool.remove(bitmap);
+                return bitmap;
+            }
+        }
+        return null;
+    }
+
+    private void recycleBitmap(Bitmap bitmap) {
+        if (bitmap.isMutable() && bitmapPool.size() < POOL_SIZE) {
+            bitmapPool.push(bitmap);
+        } else {
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * 文件数或总大小超过上限时删除最久未使用的照片
+     */
+    private void trim() {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".jpg"));
+        if (files == null) {
+            return;
+        }
+        long totalBytes = 0;
+        for (File file : files) {
+            totalBytes += file.length();
+        }
+        if (files.length <= MAX_FILES && totalBytes <= MAX_BYTES) {
+            return;
+        }
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        int count = files.length;
+        for (File file : files) {
+            if (count <= MAX_FILES && totalBytes <= MAX_BYTES) {
+                break;
+            }
+            totalBytes -= file.length();
+            count--;
+            file.delete();
+        }
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            return DeviceIds.toHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (Exception e) {
+            return Integer.toHexString(Arrays.hashCode(data));
+        }
+    }
+}
@@ -7,15 +7,13 @@ import com.facebook.react.defaults.DefaultReactActivityDelegate
 import android.os.Bundle
 import android.content.pm.PackageManager
 import com.facebook.react.ReactApplication
-import android.util.Log
-import android.os.Environment
+import com.facebook.react.ReactInstanceEventListener
+import com.facebook.react.bridge.ReactContext
 import android.nfc.NfcAdapter
 import android.nfc.Tag
 import android.widget.Toast
 import com.tecsun.jni.TSCISCONFIG
-import com.tecsun.readic.ReadCard
 import com.facebook.react.bridge.WritableMap
-import com.facebook.react.bridge.WritableNativeMap
 import com.facebook.react.modules.core.DeviceEventManagerModule
 import android.os.Build
 import android.Manifest
@@ -29,8 +27,12 @@ import org.json.JSONException
 import sunrise.api.CommonUtil
 import sunrise.api.ReaderType
 import sunrise.nfc.SRnfcCardReader
-import com.sunrise.reader.IDecodeIDServerListener
-import com.sunrizetech.idhelper.ConsantHelper
+import com.fwz.core.CardEventMaps
+import com.fwz.core.CardReaderBackend
+import com.fwz.core.FieldSource
+import com.fwz.core.IdCardInfo
+import com.fwz.core.IdCardMapper
+import com.fwz.core.ReaderMetrics
 
 class MainActivity : ReactActivity() {
   
@@ -44,6 +46,9 @@ class MainActivity : ReactActivity() {
   private var idCardNfcCallback: NfcAdapter.ReaderCallback? = null
   private var isIdCardReading = false
   private var hasTag = 0
+  // 身份证各阶段起始时间（System.nanoTime），用于 ReaderMetrics 统计
+  private var idCardTagAtNanos = 0L
+  private var idCardReadAtNanos = 0L
   
   // 读卡类型：1-社保卡，2-身份证
   private var currentCardType = 0
@@ -51,7 +56,6 @@ class MainActivity : ReactActivity() {
   companion object {
     private const val TAG = "MainActivity"
     private const val ID_CARD_NFC_START = 52
-    private const val ID_CARD_SERVER_TV = 5555
     
     // 在类加载时加载本地库
     init {
@@ -68,40 +72,66 @@ class MainActivity : ReactActivity() {
    * 添加对 react-native-screens 的支持
    */
   override fun onCreate(savedInstanceState: Bundle?) {
-    super.onCreate(savedInstanceState)
+    val onCreateSpan = StartupTracer.begin("activity.onCreate")
+    StartupTracer.span("activity.super.onCreate") { super.onCreate(savedInstanceState) }
+    traceReactContextInitialized()
     
     // 请求权限
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-      RequestPermissionUtil.request(this, arrayOf(
-        Manifest.permission.READ_PHONE_STATE,
-        Manifest.permission.READ_EXTERNAL_STORAGE,
-        Manifest.permission.WRITE_EXTERNAL_STORAGE,
-        Manifest.permission.NFC,
-        Manifest.permission.ACCESS_FINE_LOCATION
-      ))
+      StartupTracer.span("activity.requestPermissions") {
+        RequestPermissionUtil.request(this, arrayOf(
+          Manifest.permission.READ_PHONE_STATE,
+          Manifest.permission.READ_EXTERNAL_STORAGE,
+          Manifest.permission.WRITE_EXTERNAL_STORAGE,
+          Manifest.permission.NFC,
+          Manifest.permission.ACCESS_FINE_LOCATION
+        ))
+      }
     }
     
-    // 初始化 TSCISCONFIG
-    try {
-      val strLibVer = TSCISCONFIG.GetLibVer()
-      Log.d(TAG, strLibVer)
-      
-      val strLogDir = Environment.getExternalStorageDirectory().absolutePath
-      TSCISCONFIG.iInitTSLOG(strLogDir.toByteArray(), 4)
-      TSCISCONFIG.TSLOG_NORMAL(strLogDir)
-      Log.d(TAG, "TSCISCONFIG 初始化成功: $strLogDir")
-    } catch (e: Exception) {
-      Log.e(TAG, "TSCISCONFIG 初始化失败", e)
+    // 初始化 TSCISCONFIG（本地库在后台加载完成后执行，不阻塞主线程）
+    val tsLogManager = TsLogManager.getInstance(this)
+    NativeLibraries.whenReady {
+      val span = StartupTracer.begin("tscisconfig.init")
+      try {
+        val strLibVer = TSCISCONFIG.GetLibVer()
+        CardLog.d(TAG, strLibVer)
+
+        // TSLOG 写入应用私有目录，后台按天/大小轮转与清理
+        tsLogManager.start()
+        CardLog.d(TAG, "TSCISCONFIG 初始化成功")
+      } catch (e: Exception) {
+        CardLog.e(TAG, "TSCISCONFIG 初始化失败", e)
+      } finally {
+        span.end()
+      }
     }
     
-    // 初始化身份证读取功能
-    initIdCardReader() 
-    Log.d(TAG, "MainActivity 初始化完成")
+    // 初始化身份证读取功能（启动耗时只计入启动时间线，不作为读卡的 SDK_INIT 样本）
+    StartupTracer.span("activity.initIdCardReader") { initIdCardReader() }
+    onCreateSpan.end()
+    CardLog.d(TAG, "MainActivity 初始化完成")
 
 
 
   }
 
+  /**
+   * React 上下文初始化完成（JS bundle 已加载）时记录启动时间点
+   */
+  private fun traceReactContextInitialized() {
+    val reactInstanceManager = (application as ReactApplication).reactNativeHost.reactInstanceManager
+    if (reactInstanceManager.currentReactContext != null) {
+      return
+    }
+    reactInstanceManager.addReactInstanceEventListener(object : ReactInstanceEventListener {
+      override fun onReactContextInitialized(context: ReactContext) {
+        StartupTracer.mark("react.contextInitialized")
+        reactInstanceManager.removeReactInstanceEventListener(this)
+      }
+    })
+  }
+
   /**
    * Returns the instance of the [ReactActivityDelegate]. Here we use a util class [DefaultReactActivityDelegate]
    * which allows you to easily enable Fabric and Concurrent React (aka React 18) with two boolean flags.
@@ -136,54 +166,20 @@ class MainActivity : ReactActivity() {
                      NfcAdapter.FLAG_READER_NFC_BARCODE
     
     nfcAdapter?.enableReaderMode(this, { tag ->
-      runOnUiThread {
-        // 通过NFC Tag 获取社保卡信息
-        try {
-          Log.d(TAG, "获取到tag = $tag")
-          // 发送开始状态
-          val startParams: WritableMap = WritableNativeMap()
-          startParams.putString("status", "start")
-          val readCard = ReadCard()
-          Log.d(TAG, "readCard")
-          // 先调用iInitParms进行初始化
-          val url = "https://qyykt.e-tecsun.com/prod-api/outInterface/api/r0/doPost"
-          val platformId = "gdly"
-          val initResult = readCard.iInitParms(url, platformId)
-          
-          Log.i(TAG, "iInitParms初始化成功 initResult = $initResult")
-
-          val iType = 2 // 非接触式操作卡
-          val sceneCode = "000001"
-          
-          
-          
-          sendErrorInfoToJS(startParams)
-          
-          val result = readCard.iReadCardBas(tag, iType, sceneCode)
-          Log.d(TAG, "NFC卡片读取, ReadCardInfo return: $result")
-          
-          // 获取错误信息和输出结果
-          val errorInfo = ReadCard.getErr()
-          Log.d(TAG, "读卡错误信息 (getErr): $errorInfo")
-          
-          // 获取错误信息和输出结果
-          val resultInfo = ReadCard.getOut()
-          Log.d(TAG, "读卡信息 (getOut): $resultInfo")
-
-          // 发送结果状态
-          val resultParams: WritableMap = WritableNativeMap()
-          resultParams.putString("status", "result")
-          resultParams.putString("errorInfo", errorInfo ?: "")
-          resultParams.putString("resultInfo", resultInfo ?: "")
-          resultParams.putInt("resultCode", result)
-          sendErrorInfoToJS(resultParams)
-          
-          // 可以在这里添加更多的卡片读取逻辑
-          // 比如通过 React Native Bridge 将结果传递给 JS 层
-          
-        } catch (e: Exception) {
-          Log.e(TAG, "NFC读卡失败", e)
-        }
+      // 读卡回调运行在NFC binder线程，SDK调用交给card-io流水线，主线程只接收最终结果
+      CardLog.d(TAG) { "获取到tag = $tag" }
+      CardIoPipeline.submitSocialCardRead(tag, {
+        // 发送开始状态
+        sendTimedToJS(ReaderMetrics.Path.SOCIAL_CARD, CardEventDispatcher.CardEvent.SOCIAL_CARD_START,
+          CardEventMaps.socialCardStart())
+      }) { cardResult ->
+        // 发送结果状态
+        val timings = cardResult.timings
+        val resultParams = CardEventMaps.socialCardResult(
+          cardResult.resultCode, cardResult.errorInfo, cardResult.resultInfo,
+          timings.queueMs, timings.initMs, timings.readMs,
+          timings.captureMs, timings.dispatchMs, timings.totalMs)
+        sendTimedToJS(ReaderMetrics.Path.SOCIAL_CARD, CardEventDispatcher.CardEvent.SOCIAL_CARD_RESULT, resultParams)
       }
     }, readerFlags, options)
   }
@@ -218,34 +214,21 @@ class MainActivity : ReactActivity() {
   }
   
   /**
-   * 将错误信息发送到JS层
+   * 发送读卡事件到JS层，并将发送耗时计入对应读卡路径的 bridgeEmit 阶段
    */
-  private fun sendErrorInfoToJS(params: WritableMap) {
-    try {
-      val reactInstanceManager = (application as ReactApplication).reactNativeHost.reactInstanceManager
-      val reactContext = reactInstanceManager.currentReactContext
-      
-      if (reactContext != null) {
-        // 添加时间戳
-        params.putLong("timestamp", System.currentTimeMillis())
-        
-        // 在发送前记录日志（不能在发送后记录，因为对象会被消费）
-        val status = if (params.hasKey("status")) params.getString("status") else "unknown"
-        Log.d(TAG, "准备发送信息到JS层: status=$status")
-        
-        reactContext
-          .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter::class.java)
-          .emit("onReadCardError", params)
-          
-        Log.d(TAG, "信息已成功发送到JS层")
-      } else {
-        Log.w(TAG, "ReactContext为空，无法发送信息到JS层")
-      }
-    } catch (e: Exception) {
-      Log.e(TAG, "发送信息到JS层失败", e)
-    }
+  private fun sendTimedToJS(path: ReaderMetrics.Path, event: CardEventDispatcher.CardEvent, params: Map<String, Any>) {
+    val emitAt = System.nanoTime()
+    CardEventDispatcher.getInstance().dispatch(event, params)
+    ReaderMetrics.getInstance().recordSince(path, ReaderMetrics.Stage.BRIDGE_EMIT, emitAt)
+  }
+
+  /**
+   * 发送身份证错误事件
+   */
+  private fun sendIdCardError(errorInfo: String, errorCode: Int?) {
+    CardEventDispatcher.getInstance().dispatch(CardEventDispatcher.CardEvent.ID_CARD_ERROR,
+      CardEventMaps.idCardError(errorInfo, errorCode))
   }
-  
 
   private fun initIdCardReader() {
     try {
@@ -256,30 +239,19 @@ class MainActivity : ReactActivity() {
       
       idCardHandler = object : Handler(mainLooper) {
         override fun handleMessage(msg: Message) {
-          Log.d(TAG, "Handler收到消息: ${msg}")
+          CardLog.d(TAG) { "Handler收到消息: ${msg}" }
           handleIdCardMessage(msg)
         }
       }
       
-      IdCardReaderHelper = SRnfcCardReader(idCardHandler, this)
+      // 读卡器与解密服务器监听由厂商后端持有，这里只保留用于启用/禁用系统NFC消息
+      IdCardReaderHelper = VendorCardReaderBackend.getInstance().bindIdCardReader(this)
       initIdCardNfcCallback()
-      Log.d(TAG, "NFC回调初始化完成")
-      
-      // 设置解密服务器监听
-      IdCardReaderHelper?.setDecodeServerListener(object : IDecodeIDServerListener {
-        override fun getThisServer(ip: String?, port: Int) {
-          Log.d(TAG, "获取解密服务器信息: $ip:$port")
-          // 可以在这里处理服务器信息
-        }
-        
-        override fun getThisServer(ip: String?, port: Int, recouunt: Int) {
-          Log.d(TAG, "身份证解密服务器: $ip:$port, 重连次数: $recouunt")
-        }
-      })
+      CardLog.d(TAG, "NFC回调初始化完成")
       
-      Log.d(TAG, "身份证读取功能初始化成功")
+      CardLog.d(TAG, "身份证读取功能初始化成功")
     } catch (e: Exception) {
-      Log.e(TAG, "身份证读取功能初始化失败", e)
+      CardLog.e(TAG, "身份证读取功能初始化失败", e)
     }
   }
   
@@ -287,239 +259,183 @@ class MainActivity : ReactActivity() {
    * 初始化身份证NFC回调
    */
   private fun initIdCardNfcCallback() {
-    Log.d(TAG, "开始初始化身份证NFC回调")
-    Log.d(TAG, "检查Android版本: ${Build.VERSION.SDK_INT}")
+    CardLog.d(TAG, "开始初始化身份证NFC回调")
+    CardLog.d(TAG) { "检查Android版本: ${Build.VERSION.SDK_INT}" }
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-      Log.d(TAG, "Android版本支持NFC，创建ReaderCallback")
+      CardLog.d(TAG, "Android版本支持NFC，创建ReaderCallback")
       idCardNfcCallback = NfcAdapter.ReaderCallback { tag ->
-        Log.d(TAG, "NFC标签检测到: $tag")
+        CardLog.d(TAG) { "NFC标签检测到: $tag" }
         if (!isIdCardReading) {
-          Log.d(TAG, "开始身份证流程")
+          CardLog.d(TAG, "开始身份证流程")
           isIdCardReading = true
           hasTag = 1
+          idCardTagAtNanos = System.nanoTime()
           val message = Message()
           message.what = ID_CARD_NFC_START
           message.obj = tag
-          Log.d(TAG, "发送NFC开始消息到Handler")
+          CardLog.d(TAG, "发送NFC开始消息到Handler")
           idCardHandler?.sendMessage(message)
         } else {
-          Log.d(TAG, "身份证正在读取中，忽略新的NFC标签")
+          CardLog.d(TAG, "身份证正在读取中，忽略新的NFC标签")
         }
       }
-      Log.d(TAG, "NFC ReaderCallback创建完成")
+      CardLog.d(TAG, "NFC ReaderCallback创建完成")
     } else {
-      Log.w(TAG, "Android版本不支持NFC ReaderCallback")
+      CardLog.w(TAG, "Android版本不支持NFC ReaderCallback")
     }
-    Log.d(TAG, "身份证NFC回调初始化完成")
+    CardLog.d(TAG, "身份证NFC回调初始化完成")
   }
   
   /**
    * 处理身份证读取消息
    */
   private fun handleIdCardMessage(msg: Message) {
-    Log.d(TAG, "处理身份证读取消息: what=${msg.what}")
+    CardLog.d(TAG) { "处理身份证读取消息: what=${msg.what}" }
     when (msg.what) {
-      ConsantHelper.READ_CARD_SUCCESS -> {
-        Log.d(TAG, "身份证读取成功")
-        handleIdCardSuccess(msg.obj as String)
-        isIdCardReading = false
-        Log.d(TAG, "身份证读取状态重置为false")
-      }
-      
       ID_CARD_NFC_START -> {
-        Log.d(TAG, "开始处理NFC身份证读取")
-        val startParams: WritableMap = WritableNativeMap()
-        startParams.putString("status", "idcard_start")
-        startParams.putString("type", "idcard")
-        Log.d(TAG, "发送身份证开始读取事件到JS")
-        sendErrorInfoToJS(startParams)
+        CardLog.d(TAG, "开始处理NFC身份证读取")
+        if (idCardTagAtNanos > 0) {
+          ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.TAG_DISCOVERED, idCardTagAtNanos)
+          idCardTagAtNanos = 0L
+        }
+        CardLog.d(TAG, "发送身份证开始读取事件到JS")
+        sendTimedToJS(ReaderMetrics.Path.ID_CARD, CardEventDispatcher.CardEvent.ID_CARD_START, CardEventMaps.idCardStart())
         
-        Log.d(TAG, "检查标签状态: hasTag=$hasTag")
+        CardLog.d(TAG) { "检查标签状态: hasTag=$hasTag" }
         if (hasTag > 0) {
-          if (hasTag == 1) {
-            Log.d(TAG, "验证NFC标签是否为身份证")
-            if (IdCardReaderHelper?.isNFC(msg.obj as Tag) == true) {
-              Log.d(TAG, "确认为有效身份证标签，开始读取")
-              // 生成业务流水号
-              GuidUtils.getInstance().newRandom()
-              val busiSerial = GuidUtils.getInstance().getCurrentId()
-              Log.d(TAG, "生成业务流水号: $busiSerial")
-              CommonUtil.getInstance().setBusiSerial(busiSerial)
-              
-              // 读取身份证
-              Log.d(TAG, "调用身份证读取接口")
-              IdCardReaderHelper?.readIDCardByJson()
-            } else {
-              Log.w(TAG, "不是有效的身份证标签")
-              hasTag = 0
-              isIdCardReading = false
-              val errorParams: WritableMap = WritableNativeMap()
-              errorParams.putString("status", "idcard_error")
-              errorParams.putString("type", "idcard")
-              errorParams.putString("errorInfo", "不是有效的身份证")
-              Log.d(TAG, "发送身份证错误事件到JS: 不是有效的身份证")
-              sendErrorInfoToJS(errorParams)
+          // 读取身份证（校验标签、生成业务流水号、读卡与解码服务器往返均由读卡后端完成）
+          CardLog.d(TAG, "调用身份证读取接口")
+          idCardReadAtNanos = System.nanoTime()
+          ReadCardSession.backend().readIdCard(msg.obj as Tag, object : CardReaderBackend.IdCardCallback {
+            override fun onSuccess(identityCardJson: String) {
+              runOnUiThread {
+                CardLog.d(TAG, "身份证读取成功")
+                recordIdCardDecode()
+                // 照片缓存完成后才结束本次读卡，isIdCardReading 由 handleIdCardSuccess 重置
+                handleIdCardSuccess(identityCardJson)
+              }
             }
-          } else {
-            Log.d(TAG, "继续读取身份证 (hasTag=$hasTag)")
-            // 继续读取
-            IdCardReaderHelper?.readIDCardByJson()
-          }
+
+            override fun onProgress(percent: Int) {
+              // 进度由分发器按帧合并
+              CardEventDispatcher.getInstance().dispatch(CardEventDispatcher.CardEvent.ID_CARD_PROGRESS,
+                CardEventMaps.idCardProgress(percent))
+            }
+
+            override fun onError(errorCode: Int, errorInfo: String) {
+              runOnUiThread {
+                recordIdCardDecode()
+                if (errorCode == VendorCardReaderBackend.ERROR_NOT_ID_CARD) {
+                  CardLog.w(TAG, "不是有效的身份证标签")
+                  hasTag = 0
+                  sendIdCardError(errorInfo, null)
+                } else {
+                  CardLog.w(TAG) { "身份证读取出现错误，错误码: $errorCode" }
+                  handleIdCardError(errorCode, errorInfo)
+                }
+                isIdCardReading = false
+              }
+            }
+          })
         } else {
-          Log.w(TAG, "未检测到身份证标签")
+          CardLog.w(TAG, "未检测到身份证标签")
           isIdCardReading = false
-          val errorParams: WritableMap = WritableNativeMap()
-          errorParams.putString("status", "idcard_error")
-          errorParams.putString("type", "idcard")
-          errorParams.putString("errorInfo", "请放置身份证")
-          Log.d(TAG, "发送身份证错误事件到JS: 请放置身份证")
-          sendErrorInfoToJS(errorParams)
+          CardLog.d(TAG, "发送身份证错误事件到JS: 请放置身份证")
+          sendIdCardError("请放置身份证", null)
         }
       }
       
-      ID_CARD_SERVER_TV -> {
-        Log.d(TAG, "身份证服务器信息: ${msg.obj}")
-      }
-      
       else -> {
-        Log.w(TAG, "身份证读取出现错误，消息类型: ${msg.what}")
-        // 身份证读取错误
-        handleIdCardError(msg)
-        isIdCardReading = false
-        Log.d(TAG, "身份证读取状态重置为false")
+        CardLog.w(TAG) { "未知的身份证消息类型: ${msg.what}" }
       }
     }
-    Log.d(TAG, "身份证消息处理完成")
   }
   
+  /**
+   * 记录 readIdCard -> 结果回调 的耗时
+   * SDK内部完成读卡与解码服务器往返，无法再细分，统一计入 decodeServer 阶段
+   */
+  private fun recordIdCardDecode() {
+    if (idCardReadAtNanos > 0) {
+      ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.DECODE_SERVER, idCardReadAtNanos)
+      idCardReadAtNanos = 0L
+    }
+  }
+
   /**
    * 处理身份证读取成功
+   * 照片在后台线程解码并写入缓存文件，事件只携带 file:// URI 与宽高
    */
   private fun handleIdCardSuccess(identityCardStr: String) {
-    Log.d(TAG, "开始处理身份证读取成功结果")
+    CardLog.d(TAG, "开始处理身份证读取成功结果")
     try {
-      Log.d(TAG, "身份证读取成功，原始数据长度: ${identityCardStr.length}")
-      Log.d(TAG, "身份证原始数据: $identityCardStr")
+      CardLog.d(TAG) { "身份证读取成功，原始数据长度: ${identityCardStr.length}" }
       
-      Log.d(TAG, "开始解析身份证JSON数据")
+      CardLog.d(TAG, "开始解析身份证JSON数据")
+      val parseAt = System.nanoTime()
       val identityCard = JSONObject(identityCardStr)
-      Log.d(TAG, "JSON解析成功")
-      
-      val resultParams: WritableMap = WritableNativeMap()
-      resultParams.putString("status", "idcard_success")
-      resultParams.putString("type", "idcard")
-      Log.d(TAG, "创建返回参数对象")
-      
-      // 提取身份证信息
-      val name = identityCard.optString("name", "")
-      val gender = identityCard.optString("gender", "")
-      val nation = identityCard.optString("nation", "")
-      val birthday = identityCard.optString("birthday", "")
-      val address = identityCard.optString("address", "")
-      val idNum = identityCard.optString("idNum", "")
-      val issueOrg = identityCard.optString("issueOrg", "")
-      val effectDate = identityCard.optString("effectDate", "")
-      val expireDate = identityCard.optString("expireDate", "")
-      
-      Log.d(TAG, "提取身份证基本信息: 姓名=$name, 性别=$gender, 民族=$nation")
-      Log.d(TAG, "身份证号码: $idNum")
-      Log.d(TAG, "出生日期: $birthday, 地址: $address")
-      Log.d(TAG, "签发机关: $issueOrg, 有效期: $effectDate - $expireDate")
-      
-      resultParams.putString("name", name)
-      resultParams.putString("gender", gender)
-      resultParams.putString("nation", nation)
-      resultParams.putString("birthday", birthday)
-      resultParams.putString("address", address)
-      resultParams.putString("idNum", idNum)
-      resultParams.putString("issueOrg", issueOrg)
-      resultParams.putString("effectDate", effectDate)
-      resultParams.putString("expireDate", expireDate)
-      
+      val info = IdCardInfo()
+      IdCardMapper.map(FieldSource { key -> identityCard.optString(key, "") }, info)
+      ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.JSON_PARSE, parseAt)
+      CardLog.d(TAG) { "提取身份证基本信息: 姓名=${info.name}, 性别=${info.gender}, 民族=${info.nation}, 类型=${info.idType}" }
+
       // 处理照片
-      val photoBase64 = identityCard.optString("photo", "")
-      if (photoBase64.isNotEmpty()) {
-        Log.d(TAG, "身份证照片数据长度: ${photoBase64.length}")
-        resultParams.putString("photo", photoBase64)
-      } else {
-        Log.d(TAG, "未获取到身份证照片数据")
+      if (!info.hasPhoto()) {
+        CardLog.d(TAG, "未获取到身份证照片数据")
+        isIdCardReading = false
+        sendIdCardSuccess(info)
+        return
       }
-      
-      // 处理特殊身份证类型
-      val idType = identityCard.optString("idType", "")
-      resultParams.putString("idType", idType)
-      Log.d(TAG, "身份证类型: $idType")
-      
-      when (idType) {
-        "I" -> {
-          Log.d(TAG, "处理外国人身份证")
-          // 外国人身份证
-          resultParams.putString("nationality", identityCard.optString("nation", ""))
-          resultParams.putString("englishName", identityCard.optString("englishName", ""))
-        }
-        "J" -> {
-          Log.d(TAG, "处理港澳台身份证")
-          // 港澳台身份证
-          resultParams.putString("signCount", identityCard.optString("signCount", ""))
-          resultParams.putString("passNum", identityCard.optString("passNum", ""))
-        }
-        else -> {
-          Log.d(TAG, "处理普通身份证")
-          // 普通身份证
-          resultParams.putString("dn", identityCard.optString("dn", ""))
+      val photoAt = System.nanoTime()
+      IdPhotoStore.getInstance(this).save(info.photo) { result ->
+        ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.PHOTO, photoAt)
+        if (result.isSuccess) {
+          val base64Length = info.photo.length
+          info.photoUri = result.uri
+          info.photoWidth = result.width
+          info.photoHeight = result.height
+          info.photo = ""
+          // 事件大小只在调试日志开启时估算
+          CardLog.d(TAG) {
+            "身份证照片已缓存: ${result.width}x${result.height}, 文件${result.fileBytes}B, " +
+                "照片base64 ${base64Length}B -> 事件大小 ${CardEventMaps.estimatePayloadBytes(CardEventMaps.idCardSuccess(info))}B"
+          }
         }
+        isIdCardReading = false
+        sendIdCardSuccess(info)
       }
-      
-      Log.d(TAG, "发送身份证读取成功结果到JS层")
-      sendErrorInfoToJS(resultParams)
-      Log.d(TAG, "身份证读取成功处理完成")
-      
     } catch (e: JSONException) {
-      Log.e(TAG, "解析身份证信息失败", e)
-      val errorParams: WritableMap = WritableNativeMap()
-      errorParams.putString("status", "idcard_error")
-      errorParams.putString("type", "idcard")
-      errorParams.putString("errorInfo", "身份证信息解析失败")
-      Log.d(TAG, "发送身份证解析错误到JS层")
-      sendErrorInfoToJS(errorParams)
+      isIdCardReading = false
+      CardLog.e(TAG, "解析身份证信息失败", e)
+      CardLog.d(TAG, "发送身份证解析错误到JS层")
+      sendIdCardError("身份证信息解析失败", null)
     }
   }
+
+  private fun sendIdCardSuccess(info: IdCardInfo) {
+    CardLog.d(TAG, "发送身份证读取成功结果到JS层")
+    sendTimedToJS(ReaderMetrics.Path.ID_CARD, CardEventDispatcher.CardEvent.ID_CARD_SUCCESS, CardEventMaps.idCardSuccess(info))
+    CardLog.d(TAG, "身份证读取成功处理完成")
+  }
   
   /**
    * 处理身份证读取错误
    */
-  private fun handleIdCardError(msg: Message) {
-    Log.d(TAG, "开始处理身份证读取错误")
-    Log.d(TAG, "错误消息对象: ${msg.obj}")
-    Log.d(TAG, "错误码: ${msg.what}")
-    
-    var errorMsg = msg.obj?.toString() ?: "未知错误"
-    Log.d(TAG, "基础错误信息: $errorMsg")
-    
-    if (msg.what == 2) {
+  private fun handleIdCardError(errorCode: Int, errorInfo: String) {
+    var errorMsg = errorInfo
+    if (errorCode == 2) {
       errorMsg += ",请检查传入的接入信息"
-      Log.d(TAG, "错误码为2，添加接入信息检查提示")
     }
     
-    Log.e(TAG, "身份证读取失败: 错误码=${msg.what}, 错误信息=$errorMsg")
-    
-    Log.d(TAG, "创建错误参数对象")
-    val errorParams: WritableMap = WritableNativeMap()
-    errorParams.putString("status", "idcard_error")
-    errorParams.putString("type", "idcard")
-    errorParams.putString("errorInfo", errorMsg)
-    errorParams.putInt("errorCode", msg.what)
-    
-    Log.d(TAG, "发送身份证错误信息到JS层")
-    sendErrorInfoToJS(errorParams)
-    Log.d(TAG, "身份证错误处理完成")
+    CardLog.e(TAG, "身份证读取失败: 错误码=$errorCode, 错误信息=$errorMsg")
+    sendIdCardError(errorMsg, errorCode)
   }
   
   /**
    * 启用身份证读取模式
    */
   fun enableIdCardReaderMode() {
-    Log.d(TAG, "打开身份证=================================")
+    CardLog.d(TAG, "打开身份证=================================")
     idCardNfcAdapter = NfcAdapter.getDefaultAdapter(this)
     
     if (idCardNfcAdapter == null) {
@@ -544,47 +460,48 @@ class MainActivity : ReactActivity() {
     // 创建身份证NFC回调，类似于社保卡的回调
     val callback = NfcAdapter.ReaderCallback { tag ->
       runOnUiThread {
-        Log.d(TAG, "身份证收到: $tag")
+        CardLog.d(TAG) { "身份证收到: $tag" }
         if (!isIdCardReading) {
-          Log.d(TAG, "开始身份证读取流程")
+          CardLog.d(TAG, "开始身份证读取流程")
           isIdCardReading = true
           hasTag = 1
+          idCardTagAtNanos = System.nanoTime()
           val message = Message()
           message.what = ID_CARD_NFC_START
           message.obj = tag
-          Log.d(TAG, "发送NFC开始消息到Handler")
+          CardLog.d(TAG, "发送NFC开始消息到Handler")
           idCardHandler?.sendMessage(message)
         } else {
-          Log.d(TAG, "身份证正在读取中，忽略新的NFC标签")
+          CardLog.d(TAG, "身份证正在读取中，忽略新的NFC标签")
         }
       }
     }
     
     idCardNfcAdapter?.enableReaderMode(this, callback, readerFlags, options)
-    Log.d(TAG, "NFC读取模式启用成功")
+    CardLog.d(TAG, "NFC读取模式启用成功")
     
     IdCardReaderHelper?.EnableSystemNFCMessage(callback)
-    Log.d(TAG, "SDK NFC消息处理启用完成")
+    CardLog.d(TAG, "SDK NFC消息处理启用完成")
   }
   
   /**
    * 禁用身份证读取模式
    */
   fun disableIdCardReaderMode() {
-    Log.d(TAG, "开始禁用身份证读取模式")
-    Log.d(TAG, "禁用NFC读取模式")
+    CardLog.d(TAG, "开始禁用身份证读取模式")
+    CardLog.d(TAG, "禁用NFC读取模式")
     idCardNfcAdapter?.disableReaderMode(this)
-    Log.d(TAG, "NFC读取模式已禁用")
+    CardLog.d(TAG, "NFC读取模式已禁用")
     
-    Log.d(TAG, "禁用SDK的NFC消息处理")
+    CardLog.d(TAG, "禁用SDK的NFC消息处理")
     IdCardReaderHelper?.DisableSystemNFCMessage()
-    Log.d(TAG, "SDK NFC消息处理已禁用")
+    CardLog.d(TAG, "SDK NFC消息处理已禁用")
     
-    Log.d(TAG, "重置身份证读取状态")
+    CardLog.d(TAG, "重置身份证读取状态")
     isIdCardReading = false
     hasTag = 0
-    Log.d(TAG, "身份证读取状态已重置: isIdCardReading=$isIdCardReading, hasTag=$hasTag")
-    Log.d(TAG, "身份证读取模式禁用完成")
+    CardLog.d(TAG) { "身份证读取状态已重置: isIdCardReading=$isIdCardReading, hasTag=$hasTag" }
+    CardLog.d(TAG, "身份证读取模式禁用完成")
   }
 
   /**
@@ -599,15 +516,15 @@ class MainActivity : ReactActivity() {
     // 根据当前卡片类型启用相应的读卡模式
     when (currentCardType) {
       1 -> {
-        Log.d(TAG, "启用社保卡读取模式")
+        CardLog.d(TAG, "启用社保卡读取模式")
         enableReaderMode()
       }
       2 -> {
-        Log.d(TAG, "启用身份证读取模式")
+        CardLog.d(TAG, "启用身份证读取模式")
         enableIdCardReaderMode()
       }
       else -> {
-        Log.d(TAG, "未设置读卡类型，不启用任何读卡模式")
+        CardLog.d(TAG, "未设置读卡类型，不启用任何读卡模式")
       }
     }
   }
@@ -621,12 +538,18 @@ class MainActivity : ReactActivity() {
     disableIdCardReaderMode()
   }
   
+  /**
+   * 获取当前读卡类型
+   * @return 读卡类型：0-未设置，1-社保卡，2-身份证
+   */
+  fun getCurrentCardType(): Int = currentCardType
+
   /**
    * 设置当前读卡类型
    * @param cardType 读卡类型：1-社保卡，2-身份证
    */
   fun setCurrentCardType(cardType: Int) {
-    Log.d(TAG, "设置读卡类型: $cardType")
+    CardLog.d(TAG) { "设置读卡类型: $cardType" }
     currentCardType = cardType
     
     // 立即应用新的读卡模式
@@ -638,15 +561,15 @@ class MainActivity : ReactActivity() {
       // 根据新的卡片类型启用相应的读卡模式
       when (currentCardType) {
         1 -> {
-          Log.d(TAG, "【社保卡模式】")
+          CardLog.d(TAG, "【社保卡模式】")
           enableReaderMode()
         }
         2 -> {
-          Log.d(TAG, "【身份证模式】")
+          CardLog.d(TAG, "【身份证模式】")
           enableIdCardReaderMode()
         }
         else -> {
-          Log.d(TAG, "【禁用所有模式】")
+          CardLog.d(TAG, "【禁用所有模式】")
         }
       }
     }
@@ -659,6 +582,6 @@ class MainActivity : ReactActivity() {
     super.onDestroy()
     // NFC资源会自动释放
     CommonUtil.clear()
-    Log.d(TAG, "MainActivity 销毁完成")
+    CardLog.d(TAG, "MainActivity 销毁完成")
   }
 }
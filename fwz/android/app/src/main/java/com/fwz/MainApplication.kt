@@ -9,9 +9,11 @@ import com.facebook.react.ReactNativeHost
 import com.facebook.react.ReactPackage
 import com.facebook.react.defaults.DefaultReactHost.getDefaultReactHost
 import com.facebook.react.defaults.DefaultReactNativeHost
+import com.fwz.core.ReadCardScheduler
 import android.util.Log
 import java.io.File
 import android.os.Build
+import android.os.SystemClock
 
 
 class MainApplication : Application(), ReactApplication {
@@ -49,59 +51,16 @@ class MainApplication : Application(), ReactApplication {
     }
   }
 
-  // 在初始化时加载本地库
-  private fun loadNativeLibraries() {
-    try {
-      // 获取设备主要ABI
-      val primaryABI = Build.SUPPORTED_ABIS.firstOrNull() ?: ""
-      val is64Bit = primaryABI.contains("64")
-      
-      Log.i(TAG, "开始加载Native库... 设备架构: $primaryABI (${if (is64Bit) "64位，但将强制使用32位模式" else "32位"})")
-      
-      // 检查库文件目录
-      val nativeLibDir = applicationContext.applicationInfo.nativeLibraryDir
-      Log.i(TAG, "Native库目录: $nativeLibDir")
-      
-      // 列出可用的库文件
-      val libDir = File(nativeLibDir)
-      if (libDir.exists() && libDir.isDirectory) {
-        Log.i(TAG, "库文件列表:")
-        libDir.listFiles()?.forEach { file ->
-          Log.i(TAG, "- ${file.name} (${file.length()} bytes)")
-        }
+  // 列出应用库目录中的文件（仅调试包）
+  private fun logNativeLibraryDir() {
+    val nativeLibDir = applicationContext.applicationInfo.nativeLibraryDir
+    Log.i(TAG, "Native库目录: $nativeLibDir")
+    val libDir = File(nativeLibDir)
+    if (libDir.exists() && libDir.isDirectory) {
+      Log.i(TAG, "库文件列表:")
+      libDir.listFiles()?.forEach { file ->
+        Log.i(TAG, "- ${file.name} (${file.length()} bytes)")
       }
-      
-      // 先解除Android 10+对旧版OpenSSL库的限制(仅加载声明但不实际使用)
-      // try {
-      //   System.loadLibrary("nativeloader")
-      //   Log.i(TAG, "加载nativeloader库")
-      // } catch (e: UnsatisfiedLinkError) {
-      //   Log.w(TAG, "未找到nativeloader库，继续执行: ${e.message}")
-      // }
-      
-      // 按依赖顺序加载基础库
-      System.loadLibrary("crypto")
-      Log.i(TAG, "成功加载libcrypto.so")
-
-      System.loadLibrary("ssl")
-      Log.i(TAG, "成功加载libssl.so")
-      
-      System.loadLibrary("curl")
-      Log.i(TAG, "成功加载libcurl.so")
-      
-      // 再加载依赖库
-      System.loadLibrary("TSCrypt")
-      Log.i(TAG, "成功加载libTSCrypt.so")
-      
-      System.loadLibrary("TSCISCONFIG")
-      Log.i(TAG, "成功加载libTSCISCONFIG.so")
-      
-      Log.i(TAG, "MainApplication中成功加载所有Native库")
-    } catch (e: UnsatisfiedLinkError) {
-      Log.e(TAG, "加载Native库异常==============: ${e.message}", e)
-      // 打印详细的库文件加载路径
-      Log.e(TAG, "系统搜索库文件的路径: ${System.getProperty("java.library.path")}")
-      e.printStackTrace()
     }
   }
   
@@ -138,7 +97,8 @@ class MainApplication : Application(), ReactApplication {
               // Packages that cannot be autolinked yet can be added manually here, for example:
               // add(MyReactNativePackage())
               add(XToastPackage())
-              add(IdCardReaderPackage())
+              // 读卡模块（新架构下为TurboModule）
+              add(CardModulesPackage())
             }
 
         override fun getJSMainModuleName(): String = "index"
@@ -153,9 +113,27 @@ class MainApplication : Application(), ReactApplication {
     get() = getDefaultReactHost(applicationContext, reactNativeHost)
 
   override fun onCreate() {
+    val startedAt = SystemClock.elapsedRealtime()
+    StartupTracer.init(this)
+    val onCreateSpan = StartupTracer.begin("application.onCreate")
     super.onCreate()
-    checkCpuArchitecture()
-    loadNativeLibraries()
-    loadReactNative(this)
+    // 读卡SDK本地库在后台线程加载，读卡操作通过 NativeLibraries.awaitReady() 等待
+    NativeLibraries.loadAsync()
+    // 读卡命令完成回调的异常不会中断 card-io 线程，在此记录
+    ReadCardScheduler.getInstance().setErrorHandler { command, error ->
+      CardLog.e(TAG, "读卡命令 $command 的回调异常", error)
+    }
+    // 设备唯一编码在后台计算并缓存，登录页可同步读取
+    DeviceIdStore.getInstance(this).prefetchAsync()
+    if (BuildConfig.DEBUG) {
+      // 架构与库目录诊断只在调试包中执行，且不占用主线程
+      Thread({
+        checkCpuArchitecture()
+        logNativeLibraryDir()
+      }, "startup-diagnostics").start()
+    }
+    StartupTracer.span("application.loadReactNative") { loadReactNative(this) }
+    onCreateSpan.end()
+    CardLog.i(TAG) { "Application.onCreate 耗时 ${SystemClock.elapsedRealtime() - startedAt}ms" }
   }
 }
@@ -0,0 +1,132 @@
+package com.fwz
+
+import android.os.SystemClock
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * 读卡SDK本地库加载
+ * 在后台线程按依赖顺序加载，不再阻塞 Application.onCreate；
+ * 读卡操作在 card-io 线程上通过 awaitReady() 等待加载完成，主线程只能用 whenReady() 注册回调
+ */
+object NativeLibraries {
+
+  private const val TAG = "NativeLibraries"
+  private const val AWAIT_TIMEOUT_MS = 10_000L
+
+  // 按依赖顺序：基础库 -> 依赖库
+  private val LIBRARIES = listOf("crypto", "ssl", "curl", "TSCrypt", "TSCISCONFIG")
+
+  /**
+   * 加载结果
+   */
+  class Report(
+    val success: Boolean,
+    val error: String,
+    val totalMs: Long,
+    val libraryMs: Map<String, Long>
+  )
+
+  private val ready = CompletableFuture<Report>()
+  @Volatile private var started = false
+
+  /**
+   * 启动后台加载，重复调用无效
+   */
+  @JvmStatic
+  @Synchronized
+  fun loadAsync() {
+    if (started) {
+      return
+    }
+    started = true
+    val thread = Thread({
+      // 无论加载是否抛出，都要完成 ready，否则等待方只能等到超时
+      val report = try {
+        load()
+      } catch (e: Throwable) {
+        CardLog.e(TAG, "本地库加载异常", e)
+        Report(false, e.toString(), 0, emptyMap())
+      }
+      ready.complete(report)
+    }, "native-libs")
+    thread.priority = Thread.NORM_PRIORITY + 1
+    thread.start()
+  }
+
+  private fun load(): Report {
+    val startedAt = SystemClock.elapsedRealtime()
+    val libraryMs = LinkedHashMap<String, Long>()
+    val span = StartupTracer.begin("nativeLibs.load")
+    try {
+      for (name in LIBRARIES) {
+        val libStartedAt = SystemClock.elapsedRealtime()
+        val libSpan = StartupTracer.begin("lib$name.so")
+        try {
+          System.loadLibrary(name)
+        } catch (e: Throwable) {
+          // UnsatisfiedLinkError 之外，库的初始化也可能抛出 ExceptionInInitializerError 等
+          CardLog.e(TAG, "加载lib$name.so失败，系统搜索路径: ${System.getProperty("java.library.path")}", e)
+          return Report(false, "lib$name.so: ${e.message}", SystemClock.elapsedRealtime() - startedAt, libraryMs)
+        } finally {
+          libSpan.end()
+        }
+        libraryMs[name] = SystemClock.elapsedRealtime() - libStartedAt
+      }
+    } finally {
+      span.end()
+    }
+    val report = Report(true, "", SystemClock.elapsedRealtime() - startedAt, libraryMs)
+    CardLog.i(TAG) { "本地库加载完成，耗时${report.totalMs}ms: $libraryMs" }
+    return report
+  }
+
+  /**
+   * 等待本地库加载完成，不能在主线程调用
+   * @return 加载结果；超时或未启动时 success=false
+   */
+  @JvmStatic
+  fun awaitReady(): Report {
+    if (!started) {
+      loadAsync()
+    }
+    return try {
+      ready.get(AWAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+    } catch (e: Exception) {
+      CardLog.e(TAG, "等待本地库加载失败", e)
+      Report(false, "等待本地库加载超时", AWAIT_TIMEOUT_MS, emptyMap())
+    }
+  }
+
+  /**
+   * 加载成功后在加载线程上执行 action（已加载时在调用线程立即执行）
+   */
+  @JvmStatic
+  fun whenReady(action: Runnable) {
+    ready.thenAccept { report ->
+      if (report.success) {
+        action.run()
+      }
+    }
+  }
+
+  @JvmStatic
+  fun isReady(): Boolean = ready.isDone && ready.getNow(null)?.success == true
+
+  /**
+   * 加载状态：{ done, success, error, totalMs, libraries: { name: ms } }
+   */
+  @JvmStatic
+  fun snapshot(): Map<String, Any> {
+    val report = ready.getNow(null)
+    val libraries = HashMap<String, Any>()
+    report?.libraryMs?.forEach { (name, ms) -> libraries[name] = ms.toDouble() }
+    return mapOf(
+      "done" to (report != null),
+      "success" to (report?.success == true),
+      "error" to (report?.error ?: ""),
+      "totalMs" to (report?.totalMs?.toDouble() ?: 0.0),
+      "libraries" to libraries
+    )
+  }
+}
@@ -0,0 +1,81 @@
+package com.fwz;
+
+import com.fwz.core.OfflineVerificationQueue;
+import com.fwz.core.PendingVerification;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 通过核销接口提交离线核销记录
+ * 401（登录失效，HTTP 状态码或业务码）、5xx 及无法解析的响应视为可重试，其他 4xx 或业务失败（success=false）视为服务端拒绝
+ */
+public class OkHttpVerificationSubmitter implements OfflineVerificationQueue.Submitter {
+    public static final String VERIFICATION_PATH = ApiEndpointPolicy.VERIFICATION;
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    // 登录失效的业务码，与 JS 侧判断一致
+    private static final String CODE_UNAUTHORIZED = "401";
+
+    public interface TokenProvider {
+        String getToken();
+    }
+
+    private final TokenProvider tokenProvider;
+
+    public OkHttpVerificationSubmitter(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    public OfflineVerificationQueue.SubmitResult submit(PendingVerification entry) throws IOException {
+        String token = tokenProvider.getToken();
+        if (token == null || token.isEmpty()) {
+            return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.RETRY,
+                    CODE_UNAUTHORIZED, "未登录");
+        }
+        Request request = new Request.Builder()
+                .url(HttpClients.BASE_URL + VERIFICATION_PATH)
+                .header("Authorization", token)
+                .post(RequestBody.create(entry.body, JSON))
+                .build();
+        try (Response response = HttpClients.newCall(request, new CallTimings(VERIFICATION_PATH)).execute()) {
+            int code = response.code();
+            if (code == 401 || code >= 500) {
+                return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.RETRY,
+                        String.valueOf(code), "HTTP " + code);
+            }
+            if (code >= 400) {
+                return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.REJECTED,
+                        String.valueOf(code), "HTTP " + code);
+            }
+            ResponseBody body = response.body();
+            String text = body != null ? body.string() : "";
+            JSONObject json;
+            try {
+                json = new JSONObject(text);
+            } catch (JSONException e) {
+                // 网关错误页等非JSON响应无法确认是否已受理，留待重试
+                return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.RETRY,
+                        String.valueOf(code), "响应无法解析");
+            }
+            String bizCode = json.optString("code", String.valueOf(code));
+            String msg = json.optString("msg");
+            if (CODE_UNAUTHORIZED.equals(bizCode)) {
+                return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.RETRY, bizCode, msg);
+            }
+            if (json.has("success") && !json.optBoolean("success")) {
+                return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.REJECTED, bizCode, msg);
+            }
+            ApiResponseCache.onVerificationSubmitted();
+            return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.ACCEPTED, bizCode, msg);
+        }
+    }
+}
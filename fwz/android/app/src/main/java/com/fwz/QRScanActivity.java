@@ -9,44 +9,84 @@ import android.view.View;
 import android.widget.Button;
 import android.widget.Toast;
 
-import com.google.zxing.BarcodeFormat;
 import com.google.zxing.ResultPoint;
 import com.journeyapps.barcodescanner.BarcodeCallback;
 import com.journeyapps.barcodescanner.BarcodeResult;
 import com.journeyapps.barcodescanner.DecoratedBarcodeView;
 import com.journeyapps.barcodescanner.DefaultDecoderFactory;
+import com.journeyapps.barcodescanner.Size;
+import com.google.zxing.client.android.Intents;
 
-import java.util.Arrays;
-import java.util.Collection;
+import java.lang.ref.WeakReference;
 import java.util.List;
 
 public class QRScanActivity extends Activity {
     private static final String TAG = "QRScanActivity";
+    public static final String EXTRA_SCAN_COUNT = "SCAN_COUNT";
+
+    // 连续扫码模式下的结果监听器及当前界面实例
+    private static ScanListener scanListener;
+    private static WeakReference<QRScanActivity> activeInstance;
+
     private DecoratedBarcodeView barcodeView;
     private boolean isTorchOn = false;
+    private ScanOptions scanOptions;
+    private TimedDecoderFactory decoderFactory;
+    private int scanCount = 0;
+
+    /**
+     * 连续扫码结果监听
+     */
+    public interface ScanListener {
+        void onScanned(String text, String format, int index);
+    }
+
+    /**
+     * 设置连续扫码结果监听器
+     */
+    public static void setScanListener(ScanListener listener) {
+        scanListener = listener;
+    }
+
+    /**
+     * 停止连续扫码，关闭当前扫码界面
+     * @return 是否存在正在运行的扫码界面
+     */
+    public static boolean stopActive() {
+        QRScanActivity activity = activeInstance != null ? activeInstance.get() : null;
+        if (activity == null || activity.isFinishing()) {
+            return false;
+        }
+        activity.runOnUiThread(activity::finishWithCount);
+        return true;
+    }
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_qr_scan);
+        scanOptions = ScanOptions.fromIntent(getIntent());
+        activeInstance = new WeakReference<>(this);
+        if (scanOptions.continuous) {
+            ScanDedupCache.getInstance().setWindowMs(scanOptions.dedupWindowMs);
+        }
 
         // 初始化扫码视图
         barcodeView = findViewById(R.id.barcode_scanner);
         
-        // 配置扫码格式
-        Collection<BarcodeFormat> formats = Arrays.asList(
-                BarcodeFormat.QR_CODE, 
-                BarcodeFormat.CODE_39,
-                BarcodeFormat.CODE_93,
-                BarcodeFormat.CODE_128,
-                BarcodeFormat.EAN_13,
-                BarcodeFormat.EAN_8,
-                BarcodeFormat.UPC_A,
-                BarcodeFormat.DATA_MATRIX
-        );
-        
-        barcodeView.getBarcodeView().setDecoderFactory(new DefaultDecoderFactory(formats));
+        // initializeFromIntent 会按Intent重建解码器工厂，必须在设置自定义解码器之前调用
         barcodeView.initializeFromIntent(getIntent());
+
+        // 配置扫码格式、解码提示与扫码窗口（只解码窗口内的区域）
+        decoderFactory = new TimedDecoderFactory(new DefaultDecoderFactory(
+                scanOptions.resolveFormats(), scanOptions.buildHints(), null, Intents.Scan.NORMAL_SCAN));
+        barcodeView.getBarcodeView().setDecoderFactory(decoderFactory);
+        if (scanOptions.hasScanWindow()) {
+            float density = getResources().getDisplayMetrics().density;
+            barcodeView.getBarcodeView().setFramingRectSize(new Size(
+                    Math.round(scanOptions.scanWindowWidth * density),
+                    Math.round(scanOptions.scanWindowHeight * density)));
+        }
         barcodeView.decodeContinuous(callback);
 
         // 闪光灯按钮
@@ -67,8 +107,12 @@ public class QRScanActivity extends Activity {
         Button cancelButton = findViewById(R.id.cancel_button);
         if (cancelButton != null) {
             cancelButton.setOnClickListener(v -> {
-                setResult(RESULT_CANCELED);
-                finish();
+                if (scanOptions.continuous) {
+                    finishWithCount();
+                } else {
+                    setResult(RESULT_CANCELED);
+                    finish();
+                }
             });
         }
     }
@@ -77,8 +121,23 @@ public class QRScanActivity extends Activity {
         @Override
         public void barcodeResult(BarcodeResult result) {
             if (result.getText() != null) {
+                // 连续扫码时，窗口内的重复结果在任何校验开始前直接丢弃
+                if (scanOptions.continuous
+                        && !ScanDedupCache.getInstance().accept(result.getText(), result.getBarcodeFormat().toString())) {
+                    return;
+                }
+
                 // 播放蜂鸣声
                 barcodeView.setStatusText(result.getText());
+
+                if (scanOptions.continuous) {
+                    // 连续扫码：推送结果，保持相机与解码继续运行
+                    scanCount++;
+                    if (scanListener != null) {
+                        scanListener.onScanned(result.getText(), result.getBarcodeFormat().toString(), scanCount);
+                    }
+                    return;
+                }
                 
                 // 返回扫码结果
                 Intent intent = new Intent();
@@ -96,9 +155,24 @@ public class QRScanActivity extends Activity {
         }
     };
 
+    /**
+     * 结束连续扫码，返回本次扫码数量
+     */
+    private void finishWithCount() {
+        Intent intent = new Intent();
+        intent.putExtra(EXTRA_SCAN_COUNT, scanCount);
+        setResult(RESULT_OK, intent);
+        finish();
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
+        // 独立扫码界面每次都需要冷启动相机
+        decoderFactory.markDecodeRequested(elapsedMs -> {
+            CameraKeepAlive.getInstance().recordFirstFrame(elapsedMs, false);
+            Log.d(TAG, "首帧解码耗时: " + elapsedMs + "ms (冷启动)");
+        });
         barcodeView.resume();
     }
 
@@ -108,6 +182,26 @@ public class QRScanActivity extends Activity {
         barcodeView.pause();
     }
 
+    @Override
+    public void onBackPressed() {
+        if (scanOptions.continuous) {
+            finishWithCount();
+            return;
+        }
+        super.onBackPressed();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        Log.d(TAG, "扫码结束: 解码帧数=" + decoderFactory.getFrameCount()
+                + ", 平均耗时=" + String.format("%.2f", decoderFactory.getAverageDecodeMs()) + "ms"
+                + ", 最大耗时=" + String.format("%.2f", decoderFactory.getMaxDecodeMs()) + "ms");
+        if (activeInstance != null && activeInstance.get() == this) {
+            activeInstance = null;
+        }
+    }
+
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
         return barcodeView.onKeyDown(keyCode, event) || super.onKeyDown(keyCode, event);
@@ -0,0 +1,73 @@
+package com.fwz
+
+import android.nfc.Tag
+import android.util.Log
+import com.fwz.core.CardReaderBackend
+import com.fwz.core.CardResult
+import com.fwz.core.CardSession
+
+/**
+ * 进程级读卡会话
+ * 默认使用厂商SDK后端，同一组 (url, platformId) 只初始化一次，初始化后的后端常驻复用；
+ * 仅当后端判定会话已失效时才重新初始化（见 CardSession）
+ */
+object ReadCardSession {
+
+  private const val TAG = "ReadCardSession"
+
+  private val session = CardSession<Tag>(VendorCardReaderBackend.getInstance())
+
+  /**
+   * 确保会话已按 (url, platformId) 初始化
+   * @return 初始化结果；会话已就绪时直接返回成功
+   */
+  @JvmStatic
+  fun ensureInitialized(url: String, platformId: String): CardResult {
+    awaitNativeLibraries()?.let { return it }
+    return session.ensureInitialized(url, platformId)
+  }
+
+  /**
+   * 在已初始化的会话上执行后端调用，需在 card-io 线程上执行
+   */
+  @JvmStatic
+  fun call(call: CardSession.BackendCall<Tag>): CardResult {
+    awaitNativeLibraries()?.let { return it }
+    return session.call(call)
+  }
+
+  /**
+   * 厂商SDK后端需等待本地库加载完成（冷启动后的第一次读卡可能需要等待）
+   * @return 加载失败时返回错误结果，否则返回null
+   */
+  private fun awaitNativeLibraries(): CardResult? {
+    if (session.backend !is VendorCardReaderBackend) {
+      return null
+    }
+    val report = NativeLibraries.awaitReady()
+    return if (report.success) null else CardResult.error(-1, "读卡库加载失败: ${report.error}")
+  }
+
+  /**
+   * 当前读卡后端
+   */
+  @JvmStatic
+  fun backend(): CardReaderBackend<Tag> = session.backend
+
+  /**
+   * 切换读卡后端（如调试时切换到模拟后端），下次调用时重新初始化
+   */
+  @JvmStatic
+  fun setBackend(backend: CardReaderBackend<Tag>) {
+    Log.i(TAG, "切换读卡后端: ${backend.javaClass.simpleName}")
+    session.backend = backend
+  }
+
+  /**
+   * 标记会话失效，下次调用时重新初始化
+   */
+  @JvmStatic
+  fun invalidate() {
+    session.invalidate()
+  }
+}
@@ -0,0 +1,120 @@
+package com.fwz;
+
+import android.os.SystemClock;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 扫码去重缓存
+ * 连续解码时同一个码在取景框内每秒会回调多次，按 (内容, 码制) 在时间窗口内丢弃重复结果，
+ * 避免每次回调都触发 checkESSCard 与后台请求；容量有界，按 LRU 淘汰
+ */
+public class ScanDedupCache {
+    public static final long DEFAULT_WINDOW_MS = 2000;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final ScanDedupCache INSTANCE = new ScanDedupCache(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final LinkedHashMap<String, Long> lastSeen;
+    private long windowMs = DEFAULT_WINDOW_MS;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    private ScanDedupCache(int capacity) {
+        this.capacity = capacity;
+        this.lastSeen = new LinkedHashMap<String, Long>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > ScanDedupCache.this.capacity) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static ScanDedupCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 设置去重时间窗口
+     * @param windowMs 窗口时长（毫秒），小于等于0表示不去重
+     */
+    public synchronized void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public synchronized long getWindowMs() {
+        return windowMs;
+    }
+
+    /**
+     * 判断扫码结果是否需要处理
+     * 窗口内重复出现的结果返回false，并刷新该结果的最近出现时间
+     * @param text 解码内容
+     * @param format 码制
+     * @return true-首次出现或已超出窗口，需要处理；false-重复结果，丢弃
+     */
+    public synchronized boolean accept(String text, String format) {
+        if (windowMs <= 0) {
+            missCount++;
+            return true;
+        }
+        long now = SystemClock.elapsedRealtime();
+        String key = format + '|' + text;
+        Long seenAt = lastSeen.put(key, now);
+        if (seenAt != null && now - seenAt < windowMs) {
+            hitCount++;
+            return false;
+        }
+        missCount++;
+        purgeExpired(now);
+        return true;
+    }
+
+    /**
+     * 清理已过期的条目
+     */
+    private void purgeExpired(long now) {
+        Iterator<Map.Entry<String, Long>> iterator = lastSeen.entrySet().iterator();
+        while (iterator.hasNext()) {
+            // 访问顺序排列，遇到未过期条目即可停止
+            if (now - iterator.next().getValue() < windowMs) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized int size() {
+        return lastSeen.size();
+    }
+
+    /**
+     * 清空缓存与计数
+     */
+    public synchronized void reset() {
+        lastSeen.clear();
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+}
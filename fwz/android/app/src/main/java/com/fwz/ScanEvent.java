@@ -0,0 +1,37 @@
+package com.fwz;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.uimanager.events.Event;
+
+/**
+ * 扫码视图的事件（onScan / onPermissionDenied）
+ * 每次扫码结果都要送达JS，不与同一视图的上一条事件合并
+ */
+class ScanEvent extends Event<ScanEvent> {
+    private final String eventName;
+    private final WritableMap payload;
+
+    ScanEvent(int surfaceId, int viewTag, String eventName, WritableMap payload) {
+        super(surfaceId, viewTag);
+        this.eventName = eventName;
+        this.payload = payload;
+    }
+
+    @Override
+    public String getEventName() {
+        return eventName;
+    }
+
+    @Override
+    public boolean canCoalesce() {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    protected WritableMap getEventData() {
+        return payload;
+    }
+}
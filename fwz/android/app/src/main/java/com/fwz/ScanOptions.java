@@ -0,0 +1,165 @@
+package com.fwz;
+
+import android.content.Intent;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.DecodeHintType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 扫码参数
+ * 由 startQRCodeScan(options) 传入，通过 Intent 传递给 QRScanActivity
+ */
+public class ScanOptions {
+    // extra 名加应用前缀：zxing 的 Intents.Scan.FORMATS 同为 "SCAN_FORMATS"（逗号分隔字符串），
+    // CaptureManager/DecoderFactory 按字符串读取会与这里的字符串数组冲突
+    private static final String EXTRA_CONTINUOUS = "com.fwz.SCAN_CONTINUOUS";
+    private static final String EXTRA_DEDUP_WINDOW_MS = "com.fwz.SCAN_DEDUP_WINDOW_MS";
+    private static final String EXTRA_FORMATS = "com.fwz.SCAN_FORMATS";
+    private static final String EXTRA_WINDOW_WIDTH = "com.fwz.SCAN_WINDOW_WIDTH";
+    private static final String EXTRA_WINDOW_HEIGHT = "com.fwz.SCAN_WINDOW_HEIGHT";
+    private static final String EXTRA_TRY_HARDER = "com.fwz.SCAN_TRY_HARDER";
+    private static final String EXTRA_INVERTED = "com.fwz.SCAN_INVERTED";
+
+    // 未指定码制时的默认解码格式
+    private static final List<BarcodeFormat> DEFAULT_FORMATS = Arrays.asList(
+            BarcodeFormat.QR_CODE,
+            BarcodeFormat.CODE_39,
+            BarcodeFormat.CODE_93,
+            BarcodeFormat.CODE_128,
+            BarcodeFormat.EAN_13,
+            BarcodeFormat.EAN_8,
+            BarcodeFormat.UPC_A,
+            BarcodeFormat.DATA_MATRIX
+    );
+
+    // 连续扫码（闸机模式）：扫到结果后不关闭界面，逐条推送到JS，直到显式停止
+    public boolean continuous = false;
+    // 连续扫码时相同结果的去重窗口（毫秒），小于等于0表示不去重
+    public long dedupWindowMs = ScanDedupCache.DEFAULT_WINDOW_MS;
+    // 解码格式名称（BarcodeFormat枚举名），为空时使用默认格式
+    public String[] formats = null;
+    // 扫码窗口（裁剪区域）宽高，单位dp，小于等于0时按全预览解码
+    public int scanWindowWidth = 0;
+    public int scanWindowHeight = 0;
+    // TRY_HARDER 解码提示
+    public boolean tryHarder = false;
+    // 同时尝试反色码（ALSO_INVERTED）
+    public boolean inverted = false;
+
+    /**
+     * 从JS参数解析
+     * @param options JS传入的参数，可为空
+     */
+    public static ScanOptions fromReadableMap(ReadableMap options) {
+        ScanOptions scanOptions = new ScanOptions();
+        if (options == null) {
+            return scanOptions;
+        }
+        if (options.hasKey("continuous") && !options.isNull("continuous")) {
+            scanOptions.continuous = options.getBoolean("continuous");
+        }
+        if (options.hasKey("dedupWindowMs") && !options.isNull("dedupWindowMs")) {
+            scanOptions.dedupWindowMs = (long) options.getDouble("dedupWindowMs");
+        }
+        if (options.hasKey("formats") && !options.isNull("formats")) {
+            ReadableArray formatArray = options.getArray("formats");
+            String[] formats = new String[formatArray.size()];
+            for (int i = 0; i < formats.length; i++) {
+                formats[i] = formatArray.getString(i);
+            }
+            scanOptions.formats = formats;
+        }
+        if (options.hasKey("scanWindow") && !options.isNull("scanWindow")) {
+            ReadableMap scanWindow = options.getMap("scanWindow");
+            if (scanWindow.hasKey("width") && scanWindow.hasKey("height")) {
+                scanOptions.scanWindowWidth = scanWindow.getInt("width");
+                scanOptions.scanWindowHeight = scanWindow.getInt("height");
+            }
+        }
+        if (options.hasKey("tryHarder") && !options.isNull("tryHarder")) {
+            scanOptions.tryHarder = options.getBoolean("tryHarder");
+        }
+        if (options.hasKey("inverted") && !options.isNull("inverted")) {
+            scanOptions.inverted = options.getBoolean("inverted");
+        }
+        return scanOptions;
+    }
+
+    /**
+     * 从Intent解析
+     */
+    public static ScanOptions fromIntent(Intent intent) {
+        ScanOptions scanOptions = new ScanOptions();
+        if (intent == null) {
+            return scanOptions;
+        }
+        scanOptions.continuous = intent.getBooleanExtra(EXTRA_CONTINUOUS, false);
+        scanOptions.dedupWindowMs = intent.getLongExtra(EXTRA_DEDUP_WINDOW_MS, ScanDedupCache.DEFAULT_WINDOW_MS);
+        scanOptions.formats = intent.getStringArrayExtra(EXTRA_FORMATS);
+        scanOptions.scanWindowWidth = intent.getIntExtra(EXTRA_WINDOW_WIDTH, 0);
+        scanOptions.scanWindowHeight = intent.getIntExtra(EXTRA_WINDOW_HEIGHT, 0);
+        scanOptions.tryHarder = intent.getBooleanExtra(EXTRA_TRY_HARDER, false);
+        scanOptions.inverted = intent.getBooleanExtra(EXTRA_INVERTED, false);
+        return scanOptions;
+    }
+
+    /**
+     * 写入Intent
+     */
+    public void writeToIntent(Intent intent) {
+        intent.putExtra(EXTRA_CONTINUOUS, continuous);
+        intent.putExtra(EXTRA_DEDUP_WINDOW_MS, dedupWindowMs);
+        intent.putExtra(EXTRA_FORMATS, formats);
+        intent.putExtra(EXTRA_WINDOW_WIDTH, scanWindowWidth);
+        intent.putExtra(EXTRA_WINDOW_HEIGHT, scanWindowHeight);
+        intent.putExtra(EXTRA_TRY_HARDER, tryHarder);
+        intent.putExtra(EXTRA_INVERTED, inverted);
+    }
+
+    /**
+     * 解析解码格式，无效的格式名称会被忽略
+     */
+    public List<BarcodeFormat> resolveFormats() {
+        if (formats == null || formats.length == 0) {
+            return DEFAULT_FORMATS;
+        }
+        List<BarcodeFormat> result = new ArrayList<>();
+        for (String format : formats) {
+            try {
+                result.add(BarcodeFormat.valueOf(format));
+            } catch (IllegalArgumentException e) {
+                // 忽略无效格式
+            }
+        }
+        return result.isEmpty() ? DEFAULT_FORMATS : result;
+    }
+
+    /**
+     * 构建解码提示
+     */
+    public Map<DecodeHintType, Object> buildHints() {
+        Map<DecodeHintType, Object> hints = new EnumMap<>(DecodeHintType.class);
+        if (tryHarder) {
+            hints.put(DecodeHintType.TRY_HARDER, Boolean.TRUE);
+        }
+        if (inverted) {
+            hints.put(DecodeHintType.ALSO_INVERTED, Boolean.TRUE);
+        }
+        return hints;
+    }
+
+    /**
+     * 是否指定了扫码窗口
+     */
+    public boolean hasScanWindow() {
+        return scanWindowWidth > 0 && scanWindowHeight > 0;
+    }
+}
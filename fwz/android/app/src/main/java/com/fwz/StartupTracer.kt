@@ -0,0 +1,143 @@
+package com.fwz
+
+import android.content.Context
+import android.os.Process
+import android.os.SystemClock
+import com.fwz.core.StartupTrace
+import org.json.JSONArray
+import org.json.JSONObject
+import java.io.File
+
+/**
+ * 冷启动阶段时间线
+ * 以进程启动时间（Process.getStartElapsedRealtime）为零点，用单调时钟记录 Application/MainActivity/本地库等阶段；
+ * JS 首帧渲染后标记 firstRender 并把本次时间线写入 filesDir/startup-traces，保留最近 MAX_HISTORY 次启动
+ */
+object StartupTracer {
+
+  private const val TAG = "StartupTracer"
+  private const val DIR_NAME = "startup-traces"
+  private const val MAX_HISTORY = 20
+  const val FIRST_RENDER = "js.firstRender"
+
+  private val originNanos = Process.getStartElapsedRealtime() * 1_000_000L
+  private val trace = StartupTrace({ SystemClock.elapsedRealtimeNanos() }, originNanos)
+  // 本次启动的标识（墙上时间），也是持久化文件名
+  private val launchId = System.currentTimeMillis()
+
+  @Volatile private var dir: File? = null
+  @Volatile private var persisted = false
+
+  /**
+   * 在 Application.onCreate 开头调用，补记进程启动到此刻的阶段
+   */
+  @JvmStatic
+  fun init(context: Context) {
+    dir = File(context.filesDir, DIR_NAME)
+    trace.record("process.bindApplication", originNanos, SystemClock.elapsedRealtimeNanos())
+  }
+
+  /**
+   * 开始阶段，当前线程上未结束的阶段为其父阶段；返回值需调用 end()
+   */
+  @JvmStatic
+  fun begin(name: String): StartupTrace.Span = trace.begin(name)
+
+  /**
+   * 在阶段内执行 block
+   */
+  inline fun <T> span(name: String, block: () -> T): T {
+    val span = begin(name)
+    try {
+      return block()
+    } finally {
+      span.end()
+    }
+  }
+
+  @JvmStatic
+  fun mark(name: String) {
+    trace.mark(name)
+    if (name == FIRST_RENDER) {
+      CardLog.i(TAG) { "冷启动到首帧渲染 ${trace.elapsedMs()}ms" }
+      persist()
+    }
+  }
+
+  private fun persist() {
+    val target = dir ?: return
+    if (persisted) {
+      return
+    }
+    persisted = true
+    Thread({
+      try {
+        if (!target.isDirectory && !target.mkdirs()) {
+          CardLog.w(TAG, "创建启动记录目录失败: $target")
+          return@Thread
+        }
+        val json = "{\"launchId\":$launchId,\"spans\":${trace.toJson()}}"
+        File(target, "$launchId.json").writeText(json)
+        historyFiles(target).drop(MAX_HISTORY).forEach { it.delete() }
+      } catch (e: Exception) {
+        CardLog.e(TAG, "保存启动记录失败", e)
+      }
+    }, "startup-trace").start()
+  }
+
+  /**
+   * 从新到旧排序的历史记录文件
+   */
+  private fun historyFiles(target: File): List<File> =
+    target.listFiles { _, name -> name.endsWith(".json") }
+      ?.sortedByDescending { it.name.removeSuffix(".json").toLongOrNull() ?: 0L }
+      ?: emptyList()
+
+  /**
+   * 本次启动：{ launchId, elapsedMs, persisted, spans: [{ id, parentId, name, thread, startMs, endMs, durationMs }] }
+   */
+  @JvmStatic
+  fun snapshot(): Map<String, Any> = mapOf(
+    "launchId" to launchId.toDouble(),
+    "elapsedMs" to trace.elapsedMs(),
+    "persisted" to persisted,
+    "spans" to trace.snapshot()
+  )
+
+  /**
+   * 最近 limit 次已保存的启动记录（含本次，若已保存），从新到旧：[{ launchId, spans }]
+   * 读文件，不要在主线程调用
+   */
+  @JvmStatic
+  fun history(limit: Int): List<Map<String, Any>> {
+    val target = dir ?: return emptyList()
+    val result = ArrayList<Map<String, Any>>()
+    for (file in historyFiles(target).take(limit)) {
+      try {
+        val json = JSONObject(file.readText())
+        result.add(mapOf(
+          "launchId" to json.optDouble("launchId"),
+          "spans" to toList(json.optJSONArray("spans") ?: JSONArray())
+        ))
+      } catch (e: Exception) {
+        CardLog.w(TAG, "启动记录已损坏，删除: ${file.name}")
+        file.delete()
+      }
+    }
+    return result
+  }
+
+  private fun toList(array: JSONArray): List<Map<String, Any>> {
+    val list = ArrayList<Map<String, Any>>(array.length())
+    for (i in 0 until array.length()) {
+      val item = array.getJSONObject(i)
+      val map = HashMap<String, Any>()
+      for (key in item.keys()) {
+        val value = item.get(key)
+        map[key] = if (value is Number) value.toDouble() else value.toString()
+      }
+      list.add(map)
+    }
+    return list
+  }
+}
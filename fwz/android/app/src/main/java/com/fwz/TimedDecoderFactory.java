@@ -0,0 +1,132 @@
+package com.fwz;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.LuminanceSource;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.Result;
+import com.google.zxing.ResultPoint;
+import com.journeyapps.barcodescanner.Decoder;
+import com.journeyapps.barcodescanner.DecoderFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 带耗时统计的解码器工厂
+ * 包装实际的 DecoderFactory，统计每帧解码耗时，每隔 LOG_INTERVAL_FRAMES 帧输出一次平均/最大耗时；
+ * 并可统计"开始扫码 -> 首帧进入解码"的耗时
+ */
+public class TimedDecoderFactory implements DecoderFactory {
+    private static final String TAG = "TimedDecoderFactory";
+    private static final int LOG_INTERVAL_FRAMES = 30;
+
+    private final DecoderFactory delegate;
+
+    // 首帧统计
+    private long decodeRequestedAt = 0;
+    private FirstFrameListener firstFrameListener;
+
+    // 解码统计，只在解码线程上更新
+    private long frameCount = 0;
+    private long totalDecodeNanos = 0;
+    private long maxDecodeNanos = 0;
+    private long intervalFrames = 0;
+    private long intervalNanos = 0;
+    private long intervalMaxNanos = 0;
+
+    public TimedDecoderFactory(DecoderFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 首帧解码回调
+     */
+    public interface FirstFrameListener {
+        void onFirstFrame(long elapsedMs);
+    }
+
+    /**
+     * 标记开始扫码，下一帧进入解码时回调耗时
+     */
+    public synchronized void markDecodeRequested(FirstFrameListener listener) {
+        decodeRequestedAt = SystemClock.elapsedRealtime();
+        firstFrameListener = listener;
+    }
+
+    @Override
+    public Decoder createDecoder(Map<DecodeHintType, ?> baseHints) {
+        return new TimedDecoder(delegate.createDecoder(baseHints));
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized double getAverageDecodeMs() {
+        return frameCount == 0 ? 0 : totalDecodeNanos / 1_000_000.0 / frameCount;
+    }
+
+    public synchronized double getMaxDecodeMs() {
+        return maxDecodeNanos / 1_000_000.0;
+    }
+
+    private synchronized void onFrameDecoded(long decodeNanos, boolean found) {
+        if (decodeRequestedAt > 0) {
+            long elapsedMs = SystemClock.elapsedRealtime() - decodeRequestedAt;
+            decodeRequestedAt = 0;
+            if (firstFrameListener != null) {
+                firstFrameListener.onFirstFrame(elapsedMs);
+                firstFrameListener = null;
+            }
+        }
+        frameCount++;
+        totalDecodeNanos += decodeNanos;
+        maxDecodeNanos = Math.max(maxDecodeNanos, decodeNanos);
+
+        intervalFrames++;
+        intervalNanos += decodeNanos;
+        intervalMaxNanos = Math.max(intervalMaxNanos, decodeNanos);
+        if (found || intervalFrames >= LOG_INTERVAL_FRAMES) {
+            Log.d(TAG, "解码耗时: frames=" + intervalFrames
+                    + ", avg=" + String.format("%.2f", intervalNanos / 1_000_000.0 / intervalFrames) + "ms"
+                    + ", max=" + String.format("%.2f", intervalMaxNanos / 1_000_000.0) + "ms"
+                    + (found ? ", 已解码成功" : ""));
+            intervalFrames = 0;
+            intervalNanos = 0;
+            intervalMaxNanos = 0;
+        }
+    }
+
+    /**
+     * 统计耗时的解码器，实际解码交给被包装的解码器
+     */
+    private class TimedDecoder extends Decoder {
+        private final Decoder decoder;
+
+        TimedDecoder(Decoder decoder) {
+            super(new MultiFormatReader());
+            this.decoder = decoder;
+        }
+
+        @Override
+        public Result decode(LuminanceSource source) {
+            long start = SystemClock.elapsedRealtimeNanos();
+            Result result = decoder.decode(source);
+            onFrameDecoded(SystemClock.elapsedRealtimeNanos() - start, result != null);
+            return result;
+        }
+
+        @Override
+        public List<ResultPoint> getPossibleResultPoints() {
+            return decoder.getPossibleResultPoints();
+        }
+
+        @Override
+        public void foundPossibleResultPoint(ResultPoint point) {
+            decoder.foundPossibleResultPoint(point);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.fwz;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.fwz.core.CardResult;
+import com.fwz.core.ReadCardScheduler;
+import com.fwz.core.RotatingLogDirectory;
+import com.tecsun.jni.TSCISCONFIG;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TSCISCONFIG 日志（TSLOG）管理
+ * 日志目录由外部存储根目录改为应用私有目录（filesDir/tslog/TSLOG，SDK按天写入 yyyy-MM-dd.txt），
+ * 后台线程定期按大小轮转并清理过期文件；日志级别可在运行时切换并持久化，无需重启。
+ * TSCISCONFIG 的调用与读卡命令共享SDK静态状态，统一经 ReadCardScheduler 以后台优先级执行
+ */
+public final class TsLogManager {
+    private static final String TAG = "TsLogManager";
+    private static final String PREFS_NAME = "tslog";
+    private static final String KEY_LEVEL = "level";
+    // 现场原有配置
+    public static final int DEFAULT_LEVEL = 4;
+    private static final long MAX_FILE_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_AGE_DAYS = 7;
+    private static final long MAX_TOTAL_BYTES = 32 * 1024 * 1024;
+    private static final long MAINTENANCE_INTERVAL_MINUTES = 15;
+
+    private static volatile TsLogManager instance;
+
+    private final File rootDir;
+    private final SharedPreferences prefs;
+    private final RotatingLogDirectory logDirectory;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "tslog-maintenance");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private volatile int level;
+    private boolean started = false;
+    private volatile RotatingLogDirectory.Result lastResult;
+    private volatile long lastMaintenanceAt = 0;
+
+    private TsLogManager(Context context) {
+        this.rootDir = new File(context.getFilesDir(), "tslog");
+        this.prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.level = prefs.getInt(KEY_LEVEL, DEFAULT_LEVEL);
+        // SDK 在传入目录下创建 TSLOG 子目录
+        this.logDirectory = new RotatingLogDirectory(new File(rootDir, "TSLOG"),
+                MAX_FILE_BYTES, MAX_AGE_DAYS, MAX_TOTAL_BYTES);
+    }
+
+    public static TsLogManager getInstance(Context context) {
+        if (instance == null) {
+            synchronized (TsLogManager.class) {
+                if (instance == null) {
+                    instance = new TsLogManager(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 初始化 TSLOG 并启动定期维护，重复调用无效
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        if (!rootDir.isDirectory() && !rootDir.mkdirs()) {
+            CardLog.w(TAG, "创建TSLOG目录失败: " + rootDir);
+        }
+        int startLevel = level;
+        submitNative("tslogInit", () -> {
+            TSCISCONFIG.iInitTSLOG(rootDir.getAbsolutePath().getBytes(), startLevel);
+            TSCISCONFIG.TSLOG_NORMAL(rootDir.getAbsolutePath());
+            return CardResult.ok();
+        }, () -> CardLog.i(TAG, () -> "TSLOG 目录: " + rootDir + ", 级别: " + startLevel));
+        executor.scheduleWithFixedDelay(this::maintain, 0, MAINTENANCE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 切换 TSLOG 级别（重新初始化SDK日志），onApplied 在 card-io 线程上回调
+     * @param newLevel 日志级别，取值由SDK定义（原配置为4）
+     */
+    public void setLevel(int newLevel, Runnable onApplied) {
+        level = newLevel;
+        prefs.edit().putInt(KEY_LEVEL, newLevel).apply();
+        reinitNative(newLevel, () -> {
+            CardLog.i(TAG, () -> "TSLOG 级别已切换为 " + newLevel);
+            if (onApplied != null) {
+                onApplied.run();
+            }
+        });
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    private void maintain() {
+        try {
+            RotatingLogDirectory.Result result = logDirectory.maintain(System.currentTimeMillis());
+            if (result.rotated) {
+                // 当天文件已改名，重新初始化让SDK写入新文件
+                reinitNative(level, null);
+            }
+            if (result.rotated || result.deletedFiles > 0) {
+                CardLog.i(TAG, () -> "TSLOG 维护: 轮转=" + result.rotated + ", 删除=" + result.deletedFiles
+                        + ", 剩余" + result.fileCount + "个文件/" + result.totalBytes + "B");
+            }
+            lastResult = result;
+            lastMaintenanceAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            CardLog.e(TAG, "TSLOG 维护失败", e);
+        }
+    }
+
+    private void reinitNative(int logLevel, Runnable onDone) {
+        submitNative("tslogReinit", () -> {
+            TSCISCONFIG.iInitTSLOG(rootDir.getAbsolutePath().getBytes(), logLevel);
+            return CardResult.ok();
+        }, onDone);
+    }
+
+    /**
+     * 经读卡调度器执行 TSCISCONFIG 调用，不与读卡命令并发；失败只记录日志，onDone 总会回调
+     */
+    private void submitNative(String name, ReadCardScheduler.Work work, Runnable onDone) {
+        ReadCardScheduler.getInstance().submit(name, ReadCardScheduler.PRIORITY_BACKGROUND, work, outcome -> {
+            if (outcome.resultCode != 0) {
+                CardLog.w(TAG, "TSLOG 初始化失败: " + outcome.errorInfo);
+            }
+            if (onDone != null) {
+                onDone.run();
+            }
+        });
+    }
+
+    /**
+     * TSLOG 状态：{ dir, level, fileCount, totalBytes, rotated, deleted, deletedBytes, lastMaintenanceAt }
+     */
+    public Map<String, Object> snapshot() {
+        RotatingLogDirectory.Result result = lastResult;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("dir", logDirectory.getDir().getAbsolutePath());
+        stats.put("level", level);
+        stats.put("fileCount", result != null ? result.fileCount : 0);
+        stats.put("totalBytes", result != null ? (double) result.totalBytes : 0.0);
+        stats.put("rotated", (double) logDirectory.getRotatedCount());
+        stats.put("deleted", (double) logDirectory.getDeletedCount());
+        stats.put("deletedBytes", (double) logDirectory.getDeletedBytes());
+        stats.put("lastMaintenanceAt", (double) lastMaintenanceAt);
+        return stats;
+    }
+}
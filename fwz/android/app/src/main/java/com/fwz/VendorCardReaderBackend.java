@@ -0,0 +1,152 @@
+package com.fwz;
+
+import android.app.Activity;
+import android.nfc.Tag;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+
+import com.fwz.core.CardReaderBackend;
+import com.fwz.core.CardResult;
+import com.fwz.core.ReaderMetrics;
+import com.sunrise.reader.IDecodeIDServerListener;
+import com.sunrizetech.idhelper.ConsantHelper;
+import com.tecsun.readic.ReadCard;
+
+import sunrise.api.CommonUtil;
+import sunrise.nfc.SRnfcCardReader;
+
+/**
+ * 厂商SDK读卡后端
+ * 社保卡/电子社保卡使用 tecsun ReadCard（同步调用，需在 card-io 线程上执行），
+ * 身份证使用 sunrise SRnfcCardReader（异步，结果经主线程 Handler 回调）
+ */
+public class VendorCardReaderBackend implements CardReaderBackend<Tag> {
+    private static final String TAG = "VendorCardReaderBackend";
+    private static final int ID_CARD_SERVER_TV = 5555;
+    // SDK读证进度消息（msg.obj 为进度百分比）
+    private static final int ID_CARD_PROGRESS = 10001;
+    public static final int ERROR_NOT_ID_CARD = -2;
+    public static final int ERROR_NOT_BOUND = -3;
+
+    private static final VendorCardReaderBackend INSTANCE = new VendorCardReaderBackend();
+
+    private ReadCard readCard;
+    private SRnfcCardReader idCardReader;
+    private IdCardCallback pendingIdCard;
+
+    private VendorCardReaderBackend() {
+    }
+
+    public static VendorCardReaderBackend getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public CardResult init(String url, String platformId) {
+        CardResult result = capture(instance().iInitParms(url, platformId));
+        CardLog.i(TAG, () -> "iInitParms platformId=" + platformId + ", initResult=" + result.resultCode);
+        return result;
+    }
+
+    @Override
+    public CardResult readSocialCard(Tag tag, int iType, String sceneCode) {
+        return capture(instance().iReadCardBas(tag, iType, sceneCode));
+    }
+
+    @Override
+    public CardResult checkEssCard(String qrCode, String businessType) {
+        return capture(instance().iCheckESSCard(qrCode, businessType));
+    }
+
+    /**
+     * 绑定身份证读卡器，需在主线程调用
+     * @param activity 读卡器所属的Activity
+     * @return 读卡器，用于启用/禁用系统NFC消息
+     */
+    public SRnfcCardReader bindIdCardReader(Activity activity) {
+        Handler handler = new Handler(Looper.getMainLooper()) {
+            @Override
+            public void handleMessage(Message msg) {
+                onIdCardMessage(msg);
+            }
+        };
+        idCardReader = new SRnfcCardReader(handler, activity);
+        // 设置解密服务器监听
+        idCardReader.setDecodeServerListener(new IDecodeIDServerListener() {
+            @Override
+            public void getThisServer(String ip, int port) {
+                CardLog.d(TAG, () -> "获取解密服务器信息: " + ip + ":" + port);
+            }
+
+            @Override
+            public void getThisServer(String ip, int port, int recount) {
+                CardLog.d(TAG, () -> "身份证解密服务器: " + ip + ":" + port + ", 重连次数: " + recount);
+            }
+        });
+        return idCardReader;
+    }
+
+    /**
+     * 读取身份证，需在主线程调用，结果在主线程回调
+     */
+    @Override
+    public void readIdCard(Tag tag, IdCardCallback callback) {
+        if (idCardReader == null) {
+            callback.onError(ERROR_NOT_BOUND, "身份证读卡器未初始化");
+            return;
+        }
+        long verifyAt = System.nanoTime();
+        boolean isIdCard = tag != null && idCardReader.isNFC(tag);
+        ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.SDK_READ, verifyAt);
+        if (!isIdCard) {
+            callback.onError(ERROR_NOT_ID_CARD, "不是有效的身份证");
+            return;
+        }
+        // 生成业务流水号
+        GuidUtils.Companion.getInstance().newRandom();
+        CommonUtil.getInstance().setBusiSerial(GuidUtils.Companion.getInstance().getCurrentId());
+        pendingIdCard = callback;
+        idCardReader.readIDCardByJson();
+    }
+
+    private void onIdCardMessage(Message msg) {
+        if (msg.what == ID_CARD_SERVER_TV) {
+            CardLog.d(TAG, () -> "身份证服务器信息: " + msg.obj);
+            return;
+        }
+        if (msg.what == ID_CARD_PROGRESS) {
+            // 读证进度，读卡尚未结束
+            IdCardCallback callback = pendingIdCard;
+            if (callback != null && msg.obj instanceof Integer) {
+                callback.onProgress((Integer) msg.obj);
+            }
+            return;
+        }
+        IdCardCallback callback = pendingIdCard;
+        pendingIdCard = null;
+        if (callback == null) {
+            CardLog.w(TAG, () -> "没有等待中的身份证读取，忽略消息: " + msg.what);
+            return;
+        }
+        if (msg.what == ConsantHelper.READ_CARD_SUCCESS) {
+            callback.onSuccess((String) msg.obj);
+        } else {
+            callback.onError(msg.what, msg.obj != null ? msg.obj.toString() : "未知错误");
+        }
+    }
+
+    private ReadCard instance() {
+        if (readCard == null) {
+            readCard = new ReadCard();
+        }
+        return readCard;
+    }
+
+    /**
+     * 在调用线程上采集 getErr/getOut（静态状态，必须紧跟SDK调用）
+     */
+    private static CardResult capture(int resultCode) {
+        return new CardResult(resultCode, ReadCard.getErr(), ReadCard.getOut());
+    }
+}
@@ -0,0 +1,250 @@
+package com.fwz;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.module.annotations.ReactModule;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.fwz.core.OfflineVerificationQueue;
+import com.fwz.core.PendingVerification;
+import com.fwz.core.VerificationJournal;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 离线核销队列模块
+ * 核销请求写入本地日志后立即返回，由后台线程批量提交；断网时按指数退避重试，网络恢复后立即提交。
+ * 队列为进程级单例，进程被杀后重启时从日志恢复未提交的记录
+ */
+@ReactModule(name = "VerificationQueue")
+public class VerificationQueueModule extends ReactContextBaseJavaModule {
+    private static final String TAG = "VerificationQueue";
+    private static final String PREFS_NAME = "verification_queue";
+    private static final String KEY_TOKEN = "accessToken";
+    public static final String EVENT_SUBMITTED = "onVerificationSubmitted";
+    public static final String EVENT_BACKOFF = "onVerificationQueueBackoff";
+
+    private static OfflineVerificationQueue queue;
+    private static volatile String token;
+
+    private final ReactApplicationContext reactContext;
+
+    public VerificationQueueModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+        this.reactContext = reactContext;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "VerificationQueue";
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        try {
+            obtainQueue(reactContext).setListener(new OfflineVerificationQueue.Listener() {
+                @Override
+                public void onSubmitted(PendingVerification entry, OfflineVerificationQueue.SubmitResult result) {
+                    WritableMap params = Arguments.createMap();
+                    params.putDouble("id", entry.id);
+                    params.putString("orderId", entry.orderId);
+                    params.putString("identityType", entry.identityType);
+                    params.putBoolean("success", result.outcome == OfflineVerificationQueue.Outcome.ACCEPTED);
+                    params.putString("code", result.code);
+                    params.putString("msg", result.message);
+                    params.putDouble("createdAt", entry.createdAt);
+                    emitEvent(EVENT_SUBMITTED, params);
+                }
+
+                @Override
+                public void onBackoff(long delayMs, int pending, String reason) {
+                    WritableMap params = Arguments.createMap();
+                    params.putDouble("delayMs", delayMs);
+                    params.putInt("pending", pending);
+                    params.putString("reason", reason);
+                    emitEvent(EVENT_BACKOFF, params);
+                }
+            });
+        } catch (IOException e) {
+            Log.e(TAG, "打开核销日志失败", e);
+        }
+    }
+
+    /**
+     * 获取进程级队列，首次调用时打开日志并注册网络恢复监听
+     */
+    private static synchronized OfflineVerificationQueue obtainQueue(Context context) throws IOException {
+        if (queue != null) {
+            return queue;
+        }
+        Context appContext = context.getApplicationContext();
+        SharedPreferences prefs = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        token = prefs.getString(KEY_TOKEN, null);
+
+        File journalFile = new File(new File(appContext.getFilesDir(), "verification"), "journal.log");
+        queue = new OfflineVerificationQueue(new VerificationJournal(journalFile),
+                new OkHttpVerificationSubmitter(() -> token));
+
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) appContext.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager != null) {
+            connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+                @Override
+                public void onAvailable(@NonNull Network network) {
+                    OfflineVerificationQueue current = queue;
+                    if (current != null && current.getPendingCount() > 0) {
+                        Log.d(TAG, "网络已恢复，提交离线核销: " + current.getPendingCount());
+                        current.onConnectivityRestored();
+                    }
+                }
+            });
+        }
+        if (queue.getPendingCount() > 0) {
+            Log.d(TAG, "恢复未提交的核销记录: " + queue.getPendingCount());
+            queue.flushNow();
+        }
+        return queue;
+    }
+
+    /**
+     * 核销：写入本地日志后立即返回，由后台提交
+     * @param request 核销请求体 { orderId, touristIds?, verificationNum? }
+     * @param identity 核销凭证 { identityType: card/qr/idcard/order, identity, busiSerial? }，未传 busiSerial 时为该条记录新生成
+     * @param accessToken 当前登录token，为空时使用上次保存的token
+     * @param promise 返回 { id, pending, online }
+     */
+    @ReactMethod
+    public void enqueueVerification(ReadableMap request, ReadableMap identity, String accessToken, Promise promise) {
+        try {
+            if (accessToken != null && !accessToken.isEmpty()) {
+                saveToken(accessToken);
+            }
+            JSONObject body = new JSONObject(request.toHashMap());
+            String identityType = identity != null && identity.hasKey("identityType")
+                    ? identity.getString("identityType") : PendingVerification.IDENTITY_ORDER;
+            String identityValue = identity != null && identity.hasKey("identity")
+                    ? identity.getString("identity") : "";
+            String busiSerial = identity != null && identity.hasKey("busiSerial")
+                    ? identity.getString("busiSerial") : null;
+            if (busiSerial == null || busiSerial.isEmpty()) {
+                // 每条记录独立的业务流水号（格式同 GuidUtils），不能复用读卡会话的当前ID
+                busiSerial = UUID.randomUUID().toString().replace("-", "");
+            }
+
+            // JS数字经桥接后为Double，订单号按整数格式保存
+            Object orderIdValue = body.opt("orderId");
+            String orderId = orderIdValue instanceof Number
+                    ? JSONObject.numberToString((Number) orderIdValue) : body.optString("orderId");
+
+            PendingVerification entry = obtainQueue(reactContext).enqueue(identityType, identityValue,
+                    orderId, busiSerial, body.toString());
+
+            WritableMap result = Arguments.createMap();
+            result.putDouble("id", entry.id);
+            result.putInt("pending", queue.getPendingCount());
+            result.putBoolean("online", isOnline());
+            promise.resolve(result);
+        } catch (IOException | org.json.JSONException e) {
+            Log.e(TAG, "写入核销日志失败", e);
+            promise.reject("E_JOURNAL", "写入核销日志失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 更新登录token（登录后调用），并立即提交因未登录而积压的记录
+     */
+    @ReactMethod
+    public void setToken(String accessToken, Promise promise) {
+        saveToken(accessToken);
+        try {
+            obtainQueue(reactContext).flushNow();
+            promise.resolve(true);
+        } catch (IOException e) {
+            promise.reject("E_JOURNAL", e.getMessage());
+        }
+    }
+
+    /**
+     * 立即提交（忽略退避等待）
+     */
+    @ReactMethod
+    public void flushNow(Promise promise) {
+        try {
+            obtainQueue(reactContext).flushNow();
+            promise.resolve(true);
+        } catch (IOException e) {
+            promise.reject("E_JOURNAL", e.getMessage());
+        }
+    }
+
+    /**
+     * 获取队列统计
+     * @param promise 返回 { pending, enqueued, accepted, rejected, retries, batches, backoffAttempts, nextRetryAt, online }
+     */
+    @ReactMethod
+    public void getStats(Promise promise) {
+        try {
+            WritableMap stats = Arguments.makeNativeMap(obtainQueue(reactContext).getStats());
+            stats.putBoolean("online", isOnline());
+            promise.resolve(stats);
+        } catch (IOException e) {
+            promise.reject("E_JOURNAL", e.getMessage());
+        }
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // RN事件订阅所需
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // RN事件订阅所需
+    }
+
+    private void saveToken(String accessToken) {
+        token = accessToken;
+        reactContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .edit().putString(KEY_TOKEN, accessToken).apply();
+    }
+
+    private boolean isOnline() {
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) reactContext.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager == null) {
+            return false;
+        }
+        NetworkCapabilities capabilities =
+                connectivityManager.getNetworkCapabilities(connectivityManager.getActiveNetwork());
+        return capabilities != null && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+    }
+
+    private void emitEvent(String eventName, WritableMap params) {
+        if (reactContext.hasActiveReactInstance()) {
+            reactContext
+                .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(eventName, params);
+        } else {
+            Log.w(TAG, "ReactContext未就绪，无法发送事件: " + eventName);
+        }
+    }
+}
@@ -1,49 +1,80 @@
 package com.fwz;
 
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ActivityEventListener;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.Promise;
 import com.hjq.xtoast.XToast;
 import android.widget.Toast;
 import android.app.Activity;
-import android.util.Log;
 import android.content.Intent;
 import android.Manifest;
 import android.content.pm.PackageManager;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
 import com.fwz.R;
-import android.provider.Settings;
-import java.security.MessageDigest;
-import java.util.UUID;
-import android.os.Build;
 // 正确的导入方式
 import com.tecsun.readic.BuildConfig;
 import com.tecsun.readic.utils.LogUntil;
-import com.tecsun.readic.ReadCard;
 import android.nfc.Tag;
 import com.facebook.react.module.annotations.ReactModule;
+import com.fwz.core.CardEventMaps;
+import com.fwz.core.CardPayloadParser;
+import com.fwz.core.CardResult;
+import com.fwz.core.EssQrResult;
+import com.fwz.core.ReadCardScheduler;
+import com.fwz.core.ReaderMetrics;
+import com.fwz.core.SimulatedCardReaderBackend;
+import com.fwz.core.SocialCardInfo;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.fwz.specs.NativeXToastModuleSpec;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@ReactModule(name = "XToastModule")
-public class XToastModule extends ReactContextBaseJavaModule {
+/**
+ * 社保卡/扫码/设备ID模块
+ * 基于 codegen 规范 NativeXToastModuleSpec，新架构下以 TurboModule（JSI）加载，旧架构下仍走桥接
+ */
+@ReactModule(name = XToastModule.NAME)
+public class XToastModule extends NativeXToastModuleSpec implements ActivityEventListener {
+    public static final String NAME = "XToastModule";
     private final ReactApplicationContext reactContext;
     private static final String TAG = "XToastModule";
     private static final int REQUEST_CAMERA_PERMISSION = 1001;
     private static final int REQUEST_CODE_SCAN = 2001;
     private Promise scanPromise;
+    private ScanOptions scanOptions = new ScanOptions();
+    private final AtomicInteger batchSequence = new AtomicInteger();
 
     public XToastModule(ReactApplicationContext reactContext) {
         super(reactContext);
         this.reactContext = reactContext;
+        // 读卡事件分发器缓存当前 ReactContext
+        CardEventDispatcher.getInstance().attach(reactContext);
+        // 模块由 CardModulesPackage 懒加载，扫码结果监听随模块注册
+        reactContext.addActivityEventListener(this);
+    }
+
+    @Override
+    public void invalidate() {
+        reactContext.removeActivityEventListener(this);
+        CardEventDispatcher.getInstance().detach(reactContext);
+        super.invalidate();
     }
 
     @Override
     public String getName() {
-        return "XToastModule";
+        return NAME;
     }
     
+    @Override
     @ReactMethod
     public void isXToastAvailable(Callback callback) {
         try {
@@ -51,13 +82,14 @@ public class XToastModule extends ReactContextBaseJavaModule {
             Class.forName("com.hjq.xtoast.XToast");
             callback.invoke(null, true);
         } catch (Exception e) {
-            Log.e(TAG, "XToast库不可用错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "XToast库不可用错误: " + e.getMessage(), e);
             callback.invoke(e.getMessage(), false);
         }
     }
     
+    @Override
     @ReactMethod
-    public void showSimpleToast(String message, int duration) {
+    public void showSimpleToast(String message, double duration) {
         try {
             Activity activity = reactContext.getCurrentActivity();
             if (activity != null) {
@@ -68,10 +100,11 @@ public class XToastModule extends ReactContextBaseJavaModule {
                 Toast.makeText(reactContext, message, duration > 0 ? Toast.LENGTH_LONG : Toast.LENGTH_SHORT).show();
             }
         } catch (Exception e) {
-            Log.e(TAG, "显示普通Toast错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "显示普通Toast错误: " + e.getMessage(), e);
         }
     }
 
+    @Override
     @ReactMethod
     public void showToast() {
         try {
@@ -89,26 +122,33 @@ public class XToastModule extends ReactContextBaseJavaModule {
                             .setText(android.R.id.message, "这是一个XToast消息")
                             .show();
                     } catch (Exception e) {
-                        Log.e(TAG, "XToast显示错误: " + e.getMessage(), e);
+                        CardLog.e(TAG, "XToast显示错误: " + e.getMessage(), e);
                         // 回退到使用普通Toast
                         Toast.makeText(activity, "XToast显示错误: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                     }
                 });
             } else {
-                Log.e(TAG, "无法获取当前活动");
+                CardLog.e(TAG, "无法获取当前活动");
                 // 如果活动不可用，使用普通Toast
                 Toast.makeText(reactContext, "无法获取当前活动", Toast.LENGTH_SHORT).show();
             }
         } catch (Exception e) {
-            Log.e(TAG, "showToast错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "showToast错误: " + e.getMessage(), e);
             e.printStackTrace();
             // 如果XToast调用错误，使用普通Toast作为备选
             Toast.makeText(reactContext, "XToast调用错误: " + e.getMessage(), Toast.LENGTH_SHORT).show();
         }
     }
     
+    /**
+     * 启动扫码
+     * @param options 扫码参数，continuous=true 时进入连续扫码（闸机）模式，
+     *                每条结果通过 onQRCodeScanned 事件推送，调用 stopQRCodeScan 后返回扫码数量
+     * @param promise 单次模式返回扫码结果，连续模式返回 {mode, count}
+     */
+    @Override
     @ReactMethod
-    public void startQRCodeScan(Promise promise) {
+    public void startQRCodeScan(@Nullable ReadableMap options, Promise promise) {
         Activity currentActivity = reactContext.getCurrentActivity();
         if (currentActivity == null) {
             promise.reject("E_ACTIVITY_DOES_NOT_EXIST", "Activity不存在");
@@ -116,6 +156,7 @@ public class XToastModule extends ReactContextBaseJavaModule {
         }
         
         this.scanPromise = promise;
+        this.scanOptions = ScanOptions.fromReadableMap(options);
         
         // 检查相机权限
         if (ContextCompat.checkSelfPermission(currentActivity, Manifest.permission.CAMERA) 
@@ -136,6 +177,10 @@ public class XToastModule extends ReactContextBaseJavaModule {
             if (currentActivity != null) {
                 // 启动ZXing扫码活动
                 Intent intent = new Intent(currentActivity, QRScanActivity.class);
+                scanOptions.writeToIntent(intent);
+                if (scanOptions.continuous) {
+                    QRScanActivity.setScanListener(this::onContinuousScanned);
+                }
                 currentActivity.startActivityForResult(intent, REQUEST_CODE_SCAN);
             } else {
                 if (scanPromise != null) {
@@ -144,7 +189,7 @@ public class XToastModule extends ReactContextBaseJavaModule {
                 }
             }
         } catch (Exception e) {
-            Log.e(TAG, "启动扫码活动错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "启动扫码活动错误: " + e.getMessage(), e);
             if (scanPromise != null) {
                 scanPromise.reject("E_SCAN_FAILED", "启动扫码活动失败: " + e.getMessage());
                 scanPromise = null;
@@ -152,6 +197,74 @@ public class XToastModule extends ReactContextBaseJavaModule {
         }
     }
     
+    /**
+     * 停止连续扫码
+     * @param promise 返回是否存在正在运行的扫码界面
+     */
+    @Override
+    @ReactMethod
+    public void stopQRCodeScan(Promise promise) {
+        promise.resolve(QRScanActivity.stopActive());
+    }
+
+    /**
+     * 获取扫码去重缓存统计
+     * @param promise 返回命中（被丢弃的重复结果）与未命中次数
+     */
+    @Override
+    @ReactMethod
+    public void getScanDedupStats(Promise promise) {
+        ScanDedupCache cache = ScanDedupCache.getInstance();
+        com.facebook.react.bridge.WritableMap stats = new com.facebook.react.bridge.WritableNativeMap();
+        stats.putDouble("hitCount", cache.getHitCount());
+        stats.putDouble("missCount", cache.getMissCount());
+        stats.putDouble("evictionCount", cache.getEvictionCount());
+        stats.putInt("size", cache.size());
+        stats.putDouble("windowMs", cache.getWindowMs());
+        promise.resolve(stats);
+    }
+
+    /**
+     * 清空扫码去重缓存与统计
+     */
+    @Override
+    @ReactMethod
+    public void resetScanDedupStats(Promise promise) {
+        ScanDedupCache.getInstance().reset();
+        promise.resolve(true);
+    }
+
+    /**
+     * 获取扫码相机指标
+     * @param promise 返回"开始扫码 -> 首帧进入解码"耗时，分冷启动与相机预热两类统计
+     */
+    @Override
+    @ReactMethod
+    public void getScanMetrics(Promise promise) {
+        CameraKeepAlive keepAlive = CameraKeepAlive.getInstance();
+        com.facebook.react.bridge.WritableMap metrics = new com.facebook.react.bridge.WritableNativeMap();
+        metrics.putDouble("lastTimeToFirstFrameMs", keepAlive.getLastFirstFrameMs());
+        metrics.putBoolean("lastWarm", keepAlive.isLastWarm());
+        metrics.putDouble("coldCount", keepAlive.getColdCount());
+        metrics.putDouble("coldAverageMs", keepAlive.getColdAverageMs());
+        metrics.putDouble("warmCount", keepAlive.getWarmCount());
+        metrics.putDouble("warmAverageMs", keepAlive.getWarmAverageMs());
+        metrics.putDouble("idleTimeoutMs", keepAlive.getIdleTimeoutMs());
+        promise.resolve(metrics);
+    }
+
+    /**
+     * 连续扫码结果推送到JS
+     */
+    private void onContinuousScanned(String text, String format, int index) {
+        com.facebook.react.bridge.WritableMap params = new com.facebook.react.bridge.WritableNativeMap();
+        params.putString("text", text);
+        params.putString("format", format);
+        params.putInt("index", index);
+        params.putDouble("timestamp", System.currentTimeMillis());
+        emitEvent("onQRCodeScanned", params);
+    }
+    
     // 处理权限请求结果
     public void onRequestPermissionsResult(int requestCode, String[] permissions, int[] grantResults) {
         if (requestCode == REQUEST_CAMERA_PERMISSION) {
@@ -169,9 +282,18 @@ public class XToastModule extends ReactContextBaseJavaModule {
     }
     
     // 处理扫码结果
+    @Override
     public void onActivityResult(Activity activity, int requestCode, int resultCode, Intent data) {
         if (requestCode == REQUEST_CODE_SCAN) {
-            if (resultCode == Activity.RESULT_OK && data != null && scanPromise != null) {
+            if (scanOptions.continuous) {
+                QRScanActivity.setScanListener(null);
+                if (scanPromise != null) {
+                    com.facebook.react.bridge.WritableMap summary = new com.facebook.react.bridge.WritableNativeMap();
+                    summary.putString("mode", "continuous");
+                    summary.putInt("count", data != null ? data.getIntExtra(QRScanActivity.EXTRA_SCAN_COUNT, 0) : 0);
+                    scanPromise.resolve(summary);
+                }
+            } else if (resultCode == Activity.RESULT_OK && data != null && scanPromise != null) {
                 String result = data.getStringExtra("SCAN_RESULT");
                 if (result != null) {
                     scanPromise.resolve(result);
@@ -184,101 +306,88 @@ public class XToastModule extends ReactContextBaseJavaModule {
         }
     }
 
+    /**
+     * 模块常量：deviceUniqueId（JS 可在首屏同步读取，无需等待Promise）
+     */
+    @Override
+    protected Map<String, Object> getTypedExportedConstants() {
+        Map<String, Object> constants = new HashMap<>();
+        constants.put("deviceUniqueId", getUniqueDeviceId());
+        return constants;
+    }
+
     /**
      * 获取设备唯一编码
      * @param promise 用于将结果返回给React Native
      */
+    @Override
     @ReactMethod
     public void getDeviceUniqueId(Promise promise) {
         try {
             String uniqueId = getUniqueDeviceId();
             promise.resolve(uniqueId);
         } catch (Exception e) {
-            Log.e(TAG, "获取设备唯一编码错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "获取设备唯一编码错误: " + e.getMessage(), e);
             promise.reject("E_DEVICE_ID", "获取设备唯一ID失败: " + e.getMessage());
         }
     }
 
     /**
-     * 生成设备唯一标识符
-     * 使用Android ID、设备序列号、构建信息等组合生成一个持久的唯一ID
+     * 同步获取设备唯一编码（JSI 下直接返回，无需经过Promise往返）
      */
-    private String getUniqueDeviceId() {
-        String deviceId = "";
-        
-        // 尝试获取Android ID
-        String androidId = Settings.Secure.getString(reactContext.getContentResolver(), Settings.Secure.ANDROID_ID);
-        
-        // 如果Android ID可用且不是模拟器默认ID
-        if (androidId != null && !"9774d56d682e549c".equals(androidId)) {
-            deviceId = androidId;
-        } else {
-            // 备用方案：使用设备的构建信息创建唯一ID
-            deviceId = "35" + // 使用电信的IMEI前缀作为前导
-                    Build.BOARD.length() % 10 +
-                    Build.BRAND.length() % 10 +
-                    Build.DEVICE.length() % 10 +
-                    Build.DISPLAY.length() % 10 +
-                    Build.HOST.length() % 10 +
-                    Build.ID.length() % 10 +
-                    Build.MANUFACTURER.length() % 10 +
-                    Build.MODEL.length() % 10 +
-                    Build.PRODUCT.length() % 10 +
-                    Build.TAGS.length() % 10 +
-                    Build.TYPE.length() % 10 +
-                    Build.USER.length() % 10;
-        }
-        
-        // 将ID转换为UUID格式
+    @Override
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public String getDeviceUniqueIdSync() {
         try {
-            byte[] data = deviceId.getBytes("UTF-8");
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] digest = md.digest(data);
-            
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            
-            return sb.toString();
+            return getUniqueDeviceId();
         } catch (Exception e) {
-            // 如果转换失败，返回随机UUID
-            return UUID.randomUUID().toString();
+            CardLog.e(TAG, "同步获取设备唯一编码错误: " + e.getMessage(), e);
+            return "";
         }
     }
 
+    /**
+     * 设备唯一标识符，启动时已在后台计算并持久化（见 DeviceIdStore）
+     */
+    private String getUniqueDeviceId() {
+        return DeviceIdStore.getInstance(reactContext).get();
+    }
+
     /**
      * 初始化参数
      * @param url URL地址
      * @param platformId 机构编号
      * @param promise 用于将结果返回给React Native
      */
+    @Override
     @ReactMethod
     public void initParms(String url, String platformId, Promise promise) {
-        try {
-            
-            int result = iInitCodeParms(url, platformId);
-            Log.i(TAG, "initParms执行结果: " + result);
-            promise.resolve(result);
-        } catch (Exception e) {
-            Log.e(TAG, "初始化参数错误: " + e.getMessage(), e);
-            promise.reject("E_INIT_PARAMS", e.getMessage());
-        }
+        ReadCardScheduler.getInstance().submit("initParms", ReadCardScheduler.PRIORITY_INTERACTIVE,
+                () -> {
+                    long startAt = System.nanoTime();
+                    CardResult result = iInitCodeParms(url, platformId);
+                    ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.SDK_INIT, startAt);
+                    return result;
+                },
+                outcome -> {
+                    CardLog.i(TAG, () -> "initParms执行结果: " + outcome.resultCode);
+                    promise.resolve(outcome.resultCode);
+                });
     }
     
     /**
      * 调用硬件接口初始化参数
      * @param url URL地址
      * @param platformId 机构编号
-     * @return 返回执行结果，0表示成功
+     * @return 返回执行结果，resultCode为0表示成功
      */
-    private int iInitCodeParms(String url, String platformId) {
+    private CardResult iInitCodeParms(String url, String platformId) {
         try {
-            ReadCard readCard = new ReadCard();
-            return readCard.iInitParms(url, platformId);
+            // 同一组参数只初始化一次，会话常驻复用
+            return ReadCardSession.ensureInitialized(url, platformId);
         } catch (Exception e) {
-            Log.e(TAG, "调用iInitParms接口错误: " + e.getMessage(), e);
-            return -1;
+            CardLog.e(TAG, "调用iInitParms接口错误: " + e.getMessage(), e);
+            return CardResult.error(-1, e.getMessage());
         }
     }
     
@@ -288,35 +397,122 @@ public class XToastModule extends ReactContextBaseJavaModule {
      * @param data 业务类型
      * @param promise 用于将结果返回给React Native
      */
+    @Override
     @ReactMethod
     public void checkESSCard(String qrCod, String data, Promise promise) {
-        try {
-            int result = iCheckESSCard(qrCod, data);
-            String errorMsg = ReadCard.getErr();
-            String resultStr = ReadCard.getOut();
-            Log.i(TAG, "checkESSCard执行结果: " + result + ", 错误信息: " + errorMsg + ", 结果信息: " + resultStr);
-            
-            com.facebook.react.bridge.WritableMap resultMap = new com.facebook.react.bridge.WritableNativeMap();
-            resultMap.putInt("resultCode", result);
-            resultMap.putString("errorMsg", errorMsg);
-            resultMap.putString("resultStr", resultStr);
-            // 提取身份证号（社会保障号码，第二个字段）
-            try {
-                if (resultStr != null && !resultStr.isEmpty()) {
-                    String[] fields = resultStr.split("\\|");
-                    if (fields.length > 1) {
-                        String idNo = fields[3].trim();
-                        resultMap.putString("idNo", idNo);
-                        Log.i(TAG, "提取的身份证号: " + idNo);
+        ReadCardScheduler.getInstance().submit("checkESSCard", ReadCardScheduler.PRIORITY_INTERACTIVE,
+                () -> iCheckESSCard(qrCod, data),
+                outcome -> {
+                    try {
+                        com.facebook.react.bridge.WritableMap resultMap = buildESSCardResult(outcome);
+                        long emitAt = System.nanoTime();
+                        promise.resolve(resultMap);
+                        ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.BRIDGE_EMIT, emitAt);
+                    } catch (Exception e) {
+                        CardLog.e(TAG, "电子二维码解析错误: " + e.getMessage(), e);
+                        promise.reject("E_CHECK_ESS_CARD", "电子二维码解析错误: " + e.getMessage());
                     }
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "提取身份证号错误: " + e.getMessage(), e);
-            }
-            promise.resolve(resultMap);
-        } catch (Exception e) {
-            Log.e(TAG, "电子二维码解析错误: " + e.getMessage(), e);
-            promise.reject("E_CHECK_ESS_CARD", "电子二维码解析错误: " + e.getMessage());
+                });
+    }
+
+    /**
+     * 组装电子二维码解析结果
+     * @param outcome 调度器采集的执行结果
+     */
+    private com.facebook.react.bridge.WritableMap buildESSCardResult(ReadCardScheduler.Outcome outcome) {
+        int result = outcome.resultCode;
+        String errorMsg = outcome.errorInfo;
+        String resultStr = outcome.resultInfo;
+        CardLog.d(TAG, () -> "checkESSCard执行结果: " + result + ", 错误信息: " + errorMsg + ", 结果信息: " + resultStr);
+
+        // 二维码路径的到达阶段为 提交 -> card-io线程开始处理
+        ReaderMetrics.getInstance().record(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.TAG_DISCOVERED,
+                outcome.waitMs * 1_000_000L);
+        // 提取身份证号（第4个字段），字段不足时不返回idNo
+        long parseAt = System.nanoTime();
+        EssQrResult essQrResult = new EssQrResult();
+        boolean parsed = CardPayloadParser.parseEssQr(resultStr, essQrResult);
+        ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.JSON_PARSE, parseAt);
+        if (parsed) {
+            CardLog.d(TAG, () -> "提取的身份证号: " + essQrResult.idNo);
+        }
+        return Arguments.makeNativeMap(CardEventMaps.essCardResult(
+                result, errorMsg, resultStr, outcome.waitMs, outcome.execMs, essQrResult));
+    }
+    
+    /**
+     * 批量电子二维码解析（团队票）
+     * 所有二维码在同一个已初始化的会话上依次执行，每条结果就绪后立即通过 onESSCardBatchItem 事件推送，
+     * 全部完成后返回汇总
+     * @param qrCodes 电子社保卡二维码数据列表
+     * @param data 业务类型
+     * @param promise 返回批量汇总结果
+     */
+    @Override
+    @ReactMethod
+    public void checkESSCardBatch(ReadableArray qrCodes, String data, Promise promise) {
+        int total = qrCodes != null ? qrCodes.size() : 0;
+        int batchId = batchSequence.incrementAndGet();
+        long startedAt = SystemClock.elapsedRealtime();
+        if (total == 0) {
+            promise.resolve(buildBatchSummary(batchId, 0, 0, startedAt));
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(total);
+        AtomicInteger successCount = new AtomicInteger();
+        for (int i = 0; i < total; i++) {
+            final int index = i;
+            final String qrCod = qrCodes.getString(i);
+            // 批量校验按后台优先级排队，不阻塞期间单独发起的扫码校验
+            ReadCardScheduler.getInstance().submit("checkESSCardBatch", ReadCardScheduler.PRIORITY_BACKGROUND,
+                    () -> iCheckESSCard(qrCod, data),
+                    outcome -> {
+                        if (outcome.resultCode == 0) {
+                            successCount.incrementAndGet();
+                        }
+                        try {
+                            com.facebook.react.bridge.WritableMap item = buildESSCardResult(outcome);
+                            item.putInt("batchId", batchId);
+                            item.putInt("index", index);
+                            item.putInt("total", total);
+                            item.putString("qrCode", qrCod);
+                            long emitAt = System.nanoTime();
+                            emitEvent("onESSCardBatchItem", item);
+                            ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.BRIDGE_EMIT, emitAt);
+                        } catch (Exception e) {
+                            CardLog.e(TAG, "批量二维码结果推送错误: " + e.getMessage(), e);
+                        }
+                        if (remaining.decrementAndGet() == 0) {
+                            promise.resolve(buildBatchSummary(batchId, total, successCount.get(), startedAt));
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 组装批量解析汇总
+     */
+    private com.facebook.react.bridge.WritableMap buildBatchSummary(int batchId, int total, int successCount, long startedAt) {
+        com.facebook.react.bridge.WritableMap summary = new com.facebook.react.bridge.WritableNativeMap();
+        summary.putInt("batchId", batchId);
+        summary.putInt("total", total);
+        summary.putInt("successCount", successCount);
+        summary.putInt("failCount", total - successCount);
+        summary.putDouble("totalMs", SystemClock.elapsedRealtime() - startedAt);
+        return summary;
+    }
+
+    /**
+     * 发送事件到JS层
+     */
+    private void emitEvent(String eventName, com.facebook.react.bridge.WritableMap params) {
+        if (reactContext.hasActiveReactInstance()) {
+            reactContext
+                .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(eventName, params);
+        } else {
+            CardLog.w(TAG, () -> "ReactContext未就绪，无法发送事件: " + eventName);
         }
     }
     
@@ -324,69 +520,65 @@ public class XToastModule extends ReactContextBaseJavaModule {
      * 调用硬件接口进行电子二维码解析
      * @param qrCod 电子社保卡二维码数据
      * @param data 业务类型（01 业务查询，02 缴费支付，03 其他，04 异地就医）
-     * @return 返回执行结果，0表示成功
+     * @return 返回执行结果，resultCode为0表示成功
      */
-    private int iCheckESSCard(String qrCod, String data) {
+    private CardResult iCheckESSCard(String qrCod, String data) {
         try {
-            // 调用硬件接口
-            ReadCard readCard = new ReadCard();
-            Log.i(TAG, "iCheckESSCard: " + qrCod + "   " + data);
-            int result = readCard.iCheckESSCard(qrCod, data);
-            Log.i(TAG, "错误信息：" +  ReadCard.getErr());  
+            // 调用硬件接口（复用已初始化的会话）
+            CardLog.d(TAG, () -> "iCheckESSCard: " + qrCod + "   " + data);
+            // iCheckESSCard 由SDK向服务端校验二维码，耗时计入 decodeServer 阶段
+            long startAt = System.nanoTime();
+            CardResult result = ReadCardSession.call(backend -> backend.checkEssCard(qrCod, data));
+            ReaderMetrics.getInstance().recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.DECODE_SERVER, startAt);
             return result;
         } catch (Exception e) {
-            Log.e(TAG, "调用iCheckESSCard接口错误: " + e.getMessage(), e);
-            return -1;
+            CardLog.e(TAG, "调用iCheckESSCard接口错误: " + e.getMessage(), e);
+            return CardResult.error(-1, e.getMessage());
         }
     }
 
     /**
      * 读取实体社保卡基本信息
      * @param tag NFC标签对象
-     * @param iType 操作卡的类型：1-接触式操作卡；2-非接触式操作卡；3-自动寻卡，接触式操作卡优先；4-自动寻卡，非接触式操作卡优先
+     * @param cardReadType 操作卡的类型：1-接触式操作卡；2-非接触式操作卡；3-自动寻卡，接触式操作卡优先；4-自动寻卡，非接触式操作卡优先
      * @param sceneCode 场景编码
      * @param promise 用于将结果返回给React Native
      */
+    @Override
     @ReactMethod
-    public void readCardInfo(int iType, String sceneCode, Promise promise) {
-        try {
-            // 由于React Native无法直接传递Tag对象，这里我们传null，实际应用中可能需要通过NFC Manager获取
-            Tag tag = null;
-            Log.i(TAG, "readCardInfo执行结果: " + iType + ", 场景编码: " + sceneCode);  
-            int result = iReadCardBas(tag, iType, sceneCode);
-            String errorMsg = ReadCard.getErr();
-            String resultStr = ReadCard.getOut();
-            
-            Log.i(TAG, "readCardInfo执行结果: " + result + ", 错误信息: " + errorMsg + ", 结果信息: " + resultStr);
-            
-            com.facebook.react.bridge.WritableMap resultMap = new com.facebook.react.bridge.WritableNativeMap();
-            resultMap.putInt("resultCode", result);
-            resultMap.putString("errorMsg", errorMsg);
-            resultMap.putString("data", resultStr);
-            
-            // 解析返回的数据
-            if (result == 0 && resultStr != null && !resultStr.isEmpty()) {
-                try {
-                    String[] fields = resultStr.split("\\|");
-                    
-                    if (fields.length > 9) {
-                        resultMap.putString("areaCode", fields[0]); // 发卡地区行政区划代码
-                        resultMap.putString("socialSecurityNumber", fields[1]); // 社会保障号码
-                        resultMap.putString("cardNumber", fields[2]); // 卡号
-                        resultMap.putString("identityNumber", fields[3]); // 身份证号
-                        resultMap.putString("name", fields[4]); // 姓名
-                        // 更多字段可以根据需要解析
+    public void readCardInfo(double cardReadType, String sceneCode, Promise promise) {
+        int iType = (int) cardReadType;
+        // 由于React Native无法直接传递Tag对象，这里我们传null，实际应用中可能需要通过NFC Manager获取
+        Tag tag = null;
+        CardLog.d(TAG, () -> "readCardInfo执行结果: " + iType + ", 场景编码: " + sceneCode);
+        ReadCardScheduler.getInstance().submit("readCardInfo", ReadCardScheduler.PRIORITY_INTERACTIVE,
+                () -> iReadCardBas(tag, iType, sceneCode),
+                outcome -> {
+                    try {
+                        promise.resolve(buildCardInfoResult(outcome));
+                    } catch (Exception e) {
+                        CardLog.e(TAG, "读取社保卡信息错误: " + e.getMessage(), e);
+                        promise.reject("E_READ_CARD", "读取社保卡信息错误: " + e.getMessage());
                     }
-                } catch (Exception e) {
-                    Log.e(TAG, "解析社保卡数据错误: " + e.getMessage(), e);
-                }
-            }
-            
-            promise.resolve(resultMap);
-        } catch (Exception e) {
-            Log.e(TAG, "读取社保卡信息错误: " + e.getMessage(), e);
-            promise.reject("E_READ_CARD", "读取社保卡信息错误: " + e.getMessage());
-        }
+                });
+    }
+
+    /**
+     * 组装实体社保卡读取结果
+     * @param outcome 调度器采集的执行结果
+     */
+    private com.facebook.react.bridge.WritableMap buildCardInfoResult(ReadCardScheduler.Outcome outcome) {
+        int result = outcome.resultCode;
+        String errorMsg = outcome.errorInfo;
+        String resultStr = outcome.resultInfo;
+
+        CardLog.d(TAG, () -> "readCardInfo执行结果: " + result + ", 错误信息: " + errorMsg + ", 结果信息: " + resultStr);
+
+        // 解析返回的数据，缺失的字段返回空字符串
+        SocialCardInfo cardInfo = new SocialCardInfo();
+        boolean parsed = result == 0 && CardPayloadParser.parseSocialCard(resultStr, cardInfo);
+        return Arguments.makeNativeMap(CardEventMaps.socialCardInfo(
+                result, errorMsg, resultStr, outcome.waitMs, outcome.execMs, parsed ? cardInfo : null));
     }
     
     /**
@@ -394,16 +586,164 @@ public class XToastModule extends ReactContextBaseJavaModule {
      * @param tag NFC标签对象
      * @param iType 操作卡的类型：1-接触式操作卡；2-非接触式操作卡；3-自动寻卡，接触式操作卡优先；4-自动寻卡，非接触式操作卡优先
      * @param sceneCode 场景编码
-     * @return 返回执行结果，0表示成功
+     * @return 返回执行结果，resultCode为0表示成功
      */
-    private int iReadCardBas(Tag tag, int iType, String sceneCode) {
+    private CardResult iReadCardBas(Tag tag, int iType, String sceneCode) {
         try {
-            ReadCard readCard = new ReadCard();
-            return readCard.iReadCardBas(tag, iType, sceneCode);
+            return ReadCardSession.call(backend -> backend.readSocialCard(tag, iType, sceneCode));
         } catch (Exception e) {
-            Log.e(TAG, "调用iReadCardBas接口错误: " + e.getMessage(), e);
-            return -1;
+            CardLog.e(TAG, "调用iReadCardBas接口错误: " + e.getMessage(), e);
+            return CardResult.error(-1, e.getMessage());
+        }
+    }
+
+    /**
+     * 获取读卡命令调度器状态
+     * @param promise 返回队列深度与等待耗时
+     */
+    @Override
+    @ReactMethod
+    public void getCardSchedulerStats(Promise promise) {
+        ReadCardScheduler scheduler = ReadCardScheduler.getInstance();
+        com.facebook.react.bridge.WritableMap stats = new com.facebook.react.bridge.WritableNativeMap();
+        stats.putInt("queueDepth", scheduler.getQueueDepth());
+        stats.putDouble("executedCount", scheduler.getExecutedCount());
+        stats.putDouble("averageWaitMs", scheduler.getAverageWaitMs());
+        stats.putDouble("maxWaitMs", scheduler.getMaxWaitMs());
+        stats.putDouble("callbackErrors", scheduler.getCallbackErrorCount());
+        promise.resolve(stats);
+    }
+
+    /**
+     * 切换读卡后端（仅调试包）
+     * 模拟后端按默认延迟分布与错误率返回测试数据，无需真实卡片与服务端即可演练完整流程
+     * @param simulated true-模拟后端，false-厂商SDK
+     */
+    @Override
+    @ReactMethod
+    public void useSimulatedCardBackend(boolean simulated, Promise promise) {
+        if (!com.fwz.BuildConfig.DEBUG) {
+            promise.reject("E_NOT_SUPPORTED", "仅调试包支持切换读卡后端");
+            return;
+        }
+        if (simulated) {
+            ReadCardSession.setBackend(SimulatedCardReaderBackend.<Tag>builder().build());
+        } else {
+            ReadCardSession.setBackend(VendorCardReaderBackend.getInstance());
         }
+        promise.resolve(simulated);
+    }
+
+    /**
+     * 获取核验链路分阶段延迟统计
+     * @param promise 返回 { since, socialCard, idCard, essQr }，每个阶段包含 count、meanMs、p50Ms、p95Ms、p99Ms、maxMs
+     */
+    @Override
+    @ReactMethod
+    public void getReaderMetrics(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(ReaderMetrics.getInstance().snapshot()));
+    }
+
+    /**
+     * 获取读卡事件分发统计
+     * @param promise 返回 { emitted, coalesced, dropped, pending, replayed, expired, evicted, replayMaxAgeMs, byEvent }
+     */
+    @Override
+    @ReactMethod
+    public void getCardEventStats(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(CardEventDispatcher.getInstance().snapshot()));
+    }
+
+    /**
+     * JS端订阅读卡事件后调用，重放 ReactContext 未就绪期间缓存的事件
+     * @param promise 返回重放的事件数
+     */
+    @Override
+    @ReactMethod
+    public void replayPendingCardEvents(Promise promise) {
+        promise.resolve(CardEventDispatcher.getInstance().replayPending());
+    }
+
+    /**
+     * 设置缓存事件的最大保留时间
+     * @param maxAgeMs 超过该时间的事件不再重放
+     */
+    @Override
+    @ReactMethod
+    public void setCardEventReplayMaxAge(double maxAgeMs) {
+        CardEventDispatcher.getInstance().setReplayMaxAgeMs((long) maxAgeMs);
+    }
+
+    /**
+     * 获取读卡SDK本地库的后台加载状态
+     * @param promise 返回 { done, success, error, totalMs, libraries: { name: ms } }
+     */
+    @Override
+    @ReactMethod
+    public void getNativeLibraryStatus(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(NativeLibraries.snapshot()));
+    }
+
+    /**
+     * 运行时切换 TSCISCONFIG 日志（TSLOG）级别，持久化后下次启动沿用
+     * @param level 日志级别，取值由SDK定义（默认4）
+     * @param promise 切换完成后返回当前级别
+     */
+    @Override
+    @ReactMethod
+    public void setTsLogLevel(double level, Promise promise) {
+        TsLogManager manager = TsLogManager.getInstance(reactContext);
+        manager.setLevel((int) level, () -> promise.resolve(manager.getLevel()));
+    }
+
+    /**
+     * 获取 TSLOG 目录状态
+     * @param promise 返回 { dir, level, fileCount, totalBytes, rotated, deleted, deletedBytes, lastMaintenanceAt }
+     */
+    @Override
+    @ReactMethod
+    public void getTsLogStats(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(TsLogManager.getInstance(reactContext).snapshot()));
+    }
+
+    /**
+     * 记录启动时间点，JS 首帧渲染时传入 js.firstRender（同时保存本次启动时间线）
+     */
+    @Override
+    @ReactMethod
+    public void markStartupPhase(String name) {
+        StartupTracer.mark(name);
+    }
+
+    /**
+     * 获取本次启动的阶段时间线
+     * @param promise 返回 { launchId, elapsedMs, persisted, spans: [{ id, parentId, name, thread, startMs, endMs, durationMs }] }
+     */
+    @Override
+    @ReactMethod
+    public void getStartupTrace(Promise promise) {
+        promise.resolve(Arguments.makeNativeMap(StartupTracer.snapshot()));
+    }
+
+    /**
+     * 获取最近几次启动的时间线，从新到旧
+     * @param limit 最多返回的次数
+     * @param promise 返回 [{ launchId, spans }]
+     */
+    @Override
+    @ReactMethod
+    public void getStartupHistory(double limit, Promise promise) {
+        promise.resolve(Arguments.makeNativeArray(StartupTracer.history((int) limit)));
+    }
+
+    /**
+     * 清空核验链路延迟统计（如换班时）
+     */
+    @Override
+    @ReactMethod
+    public void resetReaderMetrics(Promise promise) {
+        ReaderMetrics.getInstance().reset();
+        promise.resolve(true);
     }
 
     /**
@@ -411,22 +751,60 @@ public class XToastModule extends ReactContextBaseJavaModule {
      * @param cardType 读卡类型：1-社保卡，2-身份证
      * @param promise 用于将结果返回给React Native
      */
+    @Override
     @ReactMethod
-    public void setCardType(int cardType, Promise promise) {
+    public void setCardType(double cardTypeValue, Promise promise) {
+        int cardType = (int) cardTypeValue;
         try {
             Activity currentActivity = reactContext.getCurrentActivity();
             if (currentActivity instanceof MainActivity) {
                 MainActivity mainActivity = (MainActivity) currentActivity;
                 mainActivity.setCurrentCardType(cardType);
-                Log.d(TAG, "设置读卡类型: " + cardType);
+                CardLog.d(TAG, () -> "设置读卡类型: " + cardType);
                 promise.resolve("设置成功");
             } else {
-                Log.e(TAG, "无法获取MainActivity实例");
+                CardLog.e(TAG, "无法获取MainActivity实例");
                 promise.reject("E_ACTIVITY_ERROR", "无法获取MainActivity实例");
             }
         } catch (Exception e) {
-            Log.e(TAG, "设置读卡类型错误: " + e.getMessage(), e);
+            CardLog.e(TAG, "设置读卡类型错误: " + e.getMessage(), e);
             promise.reject("E_SET_CARD_TYPE", "设置读卡类型错误: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 同步获取当前读卡类型
+     * @return 读卡类型：0-未设置，1-社保卡，2-身份证；Activity不可用时返回0
+     */
+    @Override
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public double getCardType() {
+        Activity currentActivity = reactContext.getCurrentActivity();
+        if (currentActivity instanceof MainActivity) {
+            return ((MainActivity) currentActivity).getCurrentCardType();
+        }
+        return 0;
+    }
+
+    /**
+     * 空操作，用于测量异步调用往返开销
+     */
+    @Override
+    @ReactMethod
+    public void ping(Promise promise) {
+        promise.resolve(SystemClock.elapsedRealtime());
+    }
+
+    /**
+     * 空操作，用于测量同步调用开销（桥接下为阻塞调用，JSI 下为直接调用）
+     */
+    @Override
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public double pingSync() {
+        return SystemClock.elapsedRealtime();
+    }
+
+    @Override
+    public void onNewIntent(Intent intent) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.fwz.core.bench;
+
+import com.fwz.core.CardEventMaps;
+import com.fwz.core.CardPayloadParser;
+import com.fwz.core.EssQrResult;
+import com.fwz.core.SocialCardInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 发送到JS的结果组装（不含 Arguments.makeNativeMap 的JNI转换）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardEventMapsBenchmark {
+
+    // 测试数据，非真实卡片信息
+    private final String socialCardPayload =
+            "440100|440101199001011234|A12345678|440100D15600000512345678|张三|"
+                    + "008C8002B0E8A12345678900000000|3.00|20200101|20300101|T0001|D0001|";
+    private final String essQrPayload = "440100|1|张三|440101199001011234|20250716|";
+
+    private final SocialCardInfo socialCardInfo = new SocialCardInfo();
+    private final EssQrResult essQrResult = new EssQrResult();
+
+    @Benchmark
+    public Map<String, Object> socialCardResultEvent() {
+        return CardEventMaps.socialCardResult(0, "", socialCardPayload, 1, 0, 850, 0, 2, 853);
+    }
+
+    @Benchmark
+    public Map<String, Object> socialCardInfoResult() {
+        CardPayloadParser.parseSocialCard(socialCardPayload, socialCardInfo);
+        return CardEventMaps.socialCardInfo(0, "", socialCardPayload, 1, 850, socialCardInfo);
+    }
+
+    @Benchmark
+    public Map<String, Object> essCardResult() {
+        CardPayloadParser.parseEssQr(essQrPayload, essQrResult);
+        return CardEventMaps.essCardResult(0, "", essQrPayload, 1, 420, essQrResult);
+    }
+}
@@ -0,0 +1,124 @@
+package com.fwz.core.bench;
+
+import com.fwz.core.AsyncLogger;
+import com.fwz.core.IdCardInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单次身份证读取的日志开销（读卡线程上的耗时与内存分配）
+ * eagerSync：原实现，约40条 Log.d 在调用处拼接字符串（含带照片的原始JSON）并同步输出；
+ * asyncDebug：调试包，经 AsyncLogger 入队，脱敏与输出在写线程，每次读取后等待写线程输出完毕（含线程交接，偏保守）；
+ * asyncRelease：release 级别（INFO），DEBUG 日志不拼接、不入队。
+ * eagerSync 未计入 logcat 的实际写入，为原实现开销的下限
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardLoggingBenchmark {
+    private static final String TAG = "MainActivity";
+    private static final int CONSTANT_LINES = 32;
+
+    // 测试数据，非真实证件信息；照片为约30KB的Base64
+    private String identityJson;
+    private final IdCardInfo info = new IdCardInfo();
+    private int hasTag = 1;
+
+    private AsyncLogger debugLogger;
+    private AsyncLogger releaseLogger;
+    // 写线程输出的字符数，模拟 logcat 写入且避免被优化掉
+    private volatile long writtenChars;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder photo = new StringBuilder(30 * 1024);
+        while (photo.length() < 30 * 1024) {
+            photo.append("/9j/4AAQSkZJRgABAQEASABIAAD/2wBDAAgGBgcGBQgHBwcJCQgKDBQNDAsLDBkSEw8UHRofHh0aHBwgJC4n");
+        }
+        identityJson = "{\"name\":\"张三\",\"gender\":\"男\",\"nation\":\"汉\",\"birthday\":\"19900101\","
+                + "\"address\":\"广东省广州市天河区某某路1号\",\"idNum\":\"440101199001011234\","
+                + "\"issueOrg\":\"广州市公安局天河分局\",\"effectDate\":\"20200101\",\"expireDate\":\"20400101\","
+                + "\"photo\":\"" + photo + "\",\"idType\":\"\",\"dn\":\"0123456789ABCDEF\"}";
+        info.name = "张三";
+        info.gender = "男";
+        info.nation = "汉";
+        info.idNum = "440101199001011234";
+        info.idType = "";
+        debugLogger = new AsyncLogger(AsyncLogger.DEFAULT_CAPACITY, AsyncLogger.DEBUG, true,
+                (level, tag, message, error) -> writtenChars += message.length());
+        releaseLogger = new AsyncLogger(AsyncLogger.DEFAULT_CAPACITY, AsyncLogger.INFO, true,
+                (level, tag, message, error) -> writtenChars += message.length());
+    }
+
+    /**
+     * 输出丢弃数量，确认缓冲未写满（写满时新日志被丢弃，结果会偏低）
+     */
+    @TearDown(Level.Trial)
+    public void report() throws InterruptedException {
+        debugLogger.flush(5000);
+        releaseLogger.flush(5000);
+        System.out.println("debug: submitted=" + debugLogger.getSubmittedCount()
+                + ", dropped=" + debugLogger.getDroppedCount()
+                + "; release: submitted=" + releaseLogger.getSubmittedCount()
+                + ", dropped=" + releaseLogger.getDroppedCount());
+    }
+
+    @Benchmark
+    public void eagerSync(Blackhole blackhole) {
+        for (int i = 0; i < CONSTANT_LINES; i++) {
+            blackhole.consume("处理身份证读取消息: what=" + i);
+        }
+        blackhole.consume("检查标签状态: hasTag=" + hasTag);
+        blackhole.consume("身份证读取成功，原始数据: " + identityJson);
+        blackhole.consume("身份证读取成功，原始数据长度: " + identityJson.length());
+        blackhole.consume("提取身份证基本信息: 姓名=" + info.name + ", 性别=" + info.gender
+                + ", 民族=" + info.nation + ", 身份证号=" + info.idNum);
+        blackhole.consume("身份证照片数据: " + identityJson.substring(identityJson.indexOf("\"photo\"")));
+        blackhole.consume("发送身份证读取成功结果到JS层");
+        blackhole.consume("身份证读取成功处理完成");
+        blackhole.consume("身份证读取状态已重置: hasTag=" + hasTag);
+    }
+
+    @Benchmark
+    public void asyncDebug() throws InterruptedException {
+        logRead(debugLogger);
+        debugLogger.flush(1000);
+    }
+
+    @Benchmark
+    public void asyncRelease() {
+        logRead(releaseLogger);
+    }
+
+    private void logRead(AsyncLogger logger) {
+        for (int i = 0; i < CONSTANT_LINES; i++) {
+            final int what = i;
+            logger.log(AsyncLogger.DEBUG, TAG, () -> "处理身份证读取消息: what=" + what, null);
+        }
+        logger.log(AsyncLogger.DEBUG, TAG, () -> "检查标签状态: hasTag=" + hasTag, null);
+        logger.log(AsyncLogger.DEBUG, TAG, () -> "身份证读取成功，原始数据长度: " + identityJson.length(), null);
+        logger.log(AsyncLogger.DEBUG, TAG, () -> "提取身份证基本信息: 姓名=" + info.name + ", 性别=" + info.gender
+                + ", 民族=" + info.nation + ", 类型=" + info.idType, null);
+        logger.log(AsyncLogger.DEBUG, TAG, "发送身份证读取成功结果到JS层", null);
+        logger.log(AsyncLogger.DEBUG, TAG, "身份证读取成功处理完成", null);
+        logger.log(AsyncLogger.DEBUG, TAG, () -> "身份证读取状态已重置: hasTag=" + hasTag, null);
+        logger.log(AsyncLogger.INFO, TAG, "身份证读取完成", null);
+    }
+}
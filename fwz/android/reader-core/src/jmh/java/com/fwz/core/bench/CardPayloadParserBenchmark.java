@@ -0,0 +1,73 @@
+package com.fwz.core.bench;
+
+import com.fwz.core.CardPayloadParser;
+import com.fwz.core.EssQrResult;
+import com.fwz.core.SocialCardInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getOut() 结果解析：原 split("\\|") 实现 与 PipeCursor 实现对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardPayloadParserBenchmark {
+
+    // 测试数据，非真实卡片信息
+    private final String socialCardPayload =
+            "440100|440101199001011234|A12345678|440100D15600000512345678|张三|"
+                    + "008C8002B0E8A12345678900000000|3.00|20200101|20300101|T0001|D0001|";
+    private final String essQrPayload = "440100|1|张三|440101199001011234|20250716|";
+
+    private final SocialCardInfo socialCardInfo = new SocialCardInfo();
+    private final EssQrResult essQrResult = new EssQrResult();
+
+    @Benchmark
+    public void socialCardSplit(Blackhole bh) {
+        // 与 XToastModule.readCardInfo 原实现一致
+        String[] fields = socialCardPayload.split("\\|");
+        if (fields.length > 9) {
+            bh.consume(fields[0]);
+            bh.consume(fields[1]);
+            bh.consume(fields[2]);
+            bh.consume(fields[3]);
+            bh.consume(fields[4]);
+        }
+    }
+
+    @Benchmark
+    public void socialCardCursor(Blackhole bh) {
+        CardPayloadParser.parseSocialCard(socialCardPayload, socialCardInfo);
+        bh.consume(socialCardInfo);
+    }
+
+    @Benchmark
+    public void essQrSplit(Blackhole bh) {
+        // 与 XToastModule.checkESSCard 原实现一致
+        String[] fields = essQrPayload.split("\\|");
+        if (fields.length > 1) {
+            bh.consume(fields[3].trim());
+        }
+    }
+
+    @Benchmark
+    public void essQrCursor(Blackhole bh) {
+        CardPayloadParser.parseEssQr(essQrPayload, essQrResult);
+        bh.consume(essQrResult.idNo);
+    }
+}
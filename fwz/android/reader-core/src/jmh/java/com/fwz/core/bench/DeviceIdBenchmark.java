@@ -0,0 +1,80 @@
+package com.fwz.core.bench;
+
+import com.fwz.core.DeviceIds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 设备唯一编码生成：MD5 + 十六进制编码
+ * *Format 为原实现（每字节 String.format("%02x")），用于与查表实现对比；
+ * cached 为启动后读取缓存的开销（模块实际调用路径）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceIdBenchmark {
+
+    private final String androidId = "a1b2c3d4e5f60718";
+    private final byte[] digest = {
+            0x12, 0x34, 0x56, 0x78, (byte) 0x9a, (byte) 0xbc, (byte) 0xde, (byte) 0xf0,
+            0x0f, 0x1e, 0x2d, 0x3c, 0x4b, 0x5a, 0x69, 0x78
+    };
+
+    private volatile String cachedId = DeviceIds.fromSeed(androidId);
+
+    @Benchmark
+    public String fromSeed() {
+        return DeviceIds.fromSeed(androidId);
+    }
+
+    @Benchmark
+    public String fromSeedFormat() throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        return toHexFormat(md.digest(androidId.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String hexOnly() {
+        return DeviceIds.toHex(digest);
+    }
+
+    @Benchmark
+    public String hexOnlyFormat() {
+        return toHexFormat(digest);
+    }
+
+    @Benchmark
+    public String cached() {
+        return cachedId;
+    }
+
+    @Benchmark
+    public String fallbackSeed() {
+        return DeviceIds.fallbackSeed("board", "brand", "device", "display", "host", "id",
+                "manufacturer", "model", "product", "release-keys", "user", "builder");
+    }
+
+    private static String toHexFormat(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
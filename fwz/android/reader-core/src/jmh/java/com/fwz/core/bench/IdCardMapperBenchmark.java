@@ -0,0 +1,84 @@
+package com.fwz.core.bench;
+
+import com.fwz.core.CardEventMaps;
+import com.fwz.core.FieldSource;
+import com.fwz.core.IdCardInfo;
+import com.fwz.core.IdCardMapper;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 身份证JSON结果处理：JSON解析 + 字段映射 + 事件组装
+ * 照片取约1KB的Base64数据，与真实读卡结果的量级接近
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdCardMapperBenchmark {
+
+    private String identityCardJson;
+    private JSONObject parsed;
+    private FieldSource parsedSource;
+    private final IdCardInfo info = new IdCardInfo();
+
+    @Setup
+    public void setup() {
+        // 测试数据，非真实证件信息
+        StringBuilder photo = new StringBuilder();
+        for (int i = 0; i < 1024; i++) {
+            photo.append((char) ('A' + i % 26));
+        }
+        JSONObject json = new JSONObject();
+        json.put("name", "张三");
+        json.put("gender", "男");
+        json.put("nation", "汉");
+        json.put("birthday", "19900101");
+        json.put("address", "广东省广州市天河区某某路1号");
+        json.put("idNum", "440101199001011234");
+        json.put("issueOrg", "广州市公安局天河分局");
+        json.put("effectDate", "20200101");
+        json.put("expireDate", "20400101");
+        json.put("photo", photo.toString());
+        json.put("idType", "");
+        json.put("dn", "0123456789ABCDEF");
+        identityCardJson = json.toString();
+        parsed = new JSONObject(identityCardJson);
+        parsedSource = key -> parsed.optString(key, "");
+    }
+
+    @Benchmark
+    public void parseOnly(Blackhole bh) {
+        bh.consume(new JSONObject(identityCardJson));
+    }
+
+    @Benchmark
+    public void mapOnly(Blackhole bh) {
+        IdCardMapper.map(parsedSource, info);
+        bh.consume(info);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseMapAndBuildEvent() {
+        // 与 MainActivity.handleIdCardSuccess 一致
+        JSONObject identityCard = new JSONObject(identityCardJson);
+        IdCardMapper.map(key -> identityCard.optString(key, ""), info);
+        return CardEventMaps.idCardSuccess(info);
+    }
+}
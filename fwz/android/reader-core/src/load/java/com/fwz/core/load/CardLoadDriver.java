@@ -0,0 +1,196 @@
+package com.fwz.core.load;
+
+import com.fwz.core.CardEventMaps;
+import com.fwz.core.CardPayloadParser;
+import com.fwz.core.CardReaderBackend;
+import com.fwz.core.CardResult;
+import com.fwz.core.CardSession;
+import com.fwz.core.EssQrResult;
+import com.fwz.core.LatencyModel;
+import com.fwz.core.ReadCardScheduler;
+import com.fwz.core.ReaderMetrics;
+import com.fwz.core.SimulatedCardReaderBackend;
+import com.fwz.core.SocialCardInfo;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 读卡链路压测
+ * 以固定到达速率向 调度器 -> 会话 -> 模拟后端 -> 结果解析 -> 事件组装 注入合成刷卡，
+ * 输出吞吐、错误数与 ReaderMetrics 分阶段延迟。无需设备，可在CI上运行：
+ *   ./gradlew :reader-core:loadTest -Pload.taps=5000 -Pload.rate=3000 -Pload.timeScale=0.01
+ * 参数：taps 刷卡总数，rate 每分钟到达数，timeScale 模拟延迟缩放，errorRate 错误率，
+ *      sessionExpiryRate 会话失效率，mix 社保卡/二维码/身份证占比（如 60,30,10）
+ */
+public final class CardLoadDriver {
+    private static final String INIT_URL = "https://simulated.invalid/doPost";
+    private static final String PLATFORM_ID = "sim";
+    private static final String SCENE_CODE = "000001";
+    private static final String ESS_BUSINESS_TYPE = "01|票务核销|000001|";
+
+    private CardLoadDriver() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int taps = intArg(args, 0, 3000);
+        int ratePerMinute = intArg(args, 1, 3000);
+        double timeScale = doubleArg(args, 2, 0.01);
+        double errorRate = doubleArg(args, 3, 0.02);
+        double sessionExpiryRate = doubleArg(args, 4, 0.005);
+        int[] mix = mixArg(args, 5, new int[]{60, 30, 10});
+
+        SimulatedCardReaderBackend<Object> backend = SimulatedCardReaderBackend.builder()
+                .initLatency(LatencyModel.logNormal(300, 900))
+                .socialCardLatency(LatencyModel.logNormal(800, 2000))
+                .essCardLatency(LatencyModel.logNormal(400, 1200))
+                .idCardLatency(LatencyModel.logNormal(1200, 3000))
+                .errorRate(errorRate)
+                .sessionExpiryRate(sessionExpiryRate)
+                .timeScale(timeScale)
+                .build();
+        CardSession<Object> session = new CardSession<>(backend);
+        ReadCardScheduler scheduler = new ReadCardScheduler("card-io-load");
+        ReaderMetrics metrics = ReaderMetrics.getInstance();
+        metrics.reset();
+
+        CountDownLatch done = new CountDownLatch(taps);
+        AtomicLong failures = new AtomicLong();
+        Random random = new Random(7);
+        long intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ratePerMinute);
+        int mixTotal = mix[0] + mix[1] + mix[2];
+
+        System.out.println("taps=" + taps + ", rate=" + ratePerMinute + "/min, timeScale=" + timeScale
+                + ", errorRate=" + errorRate + ", sessionExpiryRate=" + sessionExpiryRate
+                + ", mix=" + mix[0] + "/" + mix[1] + "/" + mix[2]);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < taps; i++) {
+            // 开环到达：按计划时间注入，不等待前一次完成
+            long due = startedAt + i * intervalNanos;
+            long delay = due - System.nanoTime();
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            int roll = random.nextInt(mixTotal);
+            if (roll < mix[0]) {
+                submitSocialCard(scheduler, session, metrics, done, failures);
+            } else if (roll < mix[0] + mix[1]) {
+                submitEssQr(scheduler, session, metrics, done, failures);
+            } else {
+                submitIdCard(backend, metrics, done, failures);
+            }
+        }
+        done.await();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        System.out.println(String.format("completed=%d, failures=%d, elapsed=%.1fs, throughput=%.0f/min",
+                taps, failures.get(), elapsedSeconds, taps / elapsedSeconds * 60));
+        System.out.println(String.format("scheduler: executed=%d, avgWait=%.1fms, maxWait=%dms, sessionReinit=%d",
+                scheduler.getExecutedCount(), scheduler.getAverageWaitMs(), scheduler.getMaxWaitMs(),
+                session.getReinitCount()));
+        printMetrics(metrics.snapshot());
+    }
+
+    private static void submitSocialCard(ReadCardScheduler scheduler, CardSession<Object> session,
+                                         ReaderMetrics metrics, CountDownLatch done, AtomicLong failures) {
+        long tagAt = System.nanoTime();
+        scheduler.submit("nfc-tap", ReadCardScheduler.PRIORITY_NFC_TAP, () -> {
+            long startedAt = System.nanoTime();
+            metrics.record(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.TAG_DISCOVERED, startedAt - tagAt);
+            session.ensureInitialized(INIT_URL, PLATFORM_ID);
+            long initDoneAt = System.nanoTime();
+            metrics.record(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.SDK_INIT, initDoneAt - startedAt);
+            CardResult result = session.call(b -> b.readSocialCard(null, 2, SCENE_CODE));
+            metrics.recordSince(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.SDK_READ, initDoneAt);
+            return result;
+        }, outcome -> {
+            long parseAt = System.nanoTime();
+            SocialCardInfo info = new SocialCardInfo();
+            boolean parsed = outcome.resultCode == 0 && CardPayloadParser.parseSocialCard(outcome.resultInfo, info);
+            CardEventMaps.socialCardInfo(outcome.resultCode, outcome.errorInfo, outcome.resultInfo,
+                    outcome.waitMs, outcome.execMs, parsed ? info : null);
+            metrics.recordSince(ReaderMetrics.Path.SOCIAL_CARD, ReaderMetrics.Stage.JSON_PARSE, parseAt);
+            if (outcome.resultCode != 0) {
+                failures.incrementAndGet();
+            }
+            done.countDown();
+        });
+    }
+
+    private static void submitEssQr(ReadCardScheduler scheduler, CardSession<Object> session,
+                                    ReaderMetrics metrics, CountDownLatch done, AtomicLong failures) {
+        scheduler.submit("checkESSCard", ReadCardScheduler.PRIORITY_INTERACTIVE, () -> {
+            session.ensureInitialized(INIT_URL, PLATFORM_ID);
+            long startAt = System.nanoTime();
+            CardResult result = session.call(b -> b.checkEssCard("simulated-qr", ESS_BUSINESS_TYPE));
+            metrics.recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.DECODE_SERVER, startAt);
+            return result;
+        }, outcome -> {
+            metrics.record(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.TAG_DISCOVERED, outcome.waitMs * 1_000_000L);
+            long parseAt = System.nanoTime();
+            EssQrResult essQrResult = new EssQrResult();
+            CardPayloadParser.parseEssQr(outcome.resultInfo, essQrResult);
+            CardEventMaps.essCardResult(outcome.resultCode, outcome.errorInfo, outcome.resultInfo,
+                    outcome.waitMs, outcome.execMs, essQrResult);
+            metrics.recordSince(ReaderMetrics.Path.ESS_QR, ReaderMetrics.Stage.JSON_PARSE, parseAt);
+            if (outcome.resultCode != 0) {
+                failures.incrementAndGet();
+            }
+            done.countDown();
+        });
+    }
+
+    private static void submitIdCard(SimulatedCardReaderBackend<Object> backend, ReaderMetrics metrics,
+                                     CountDownLatch done, AtomicLong failures) {
+        long readAt = System.nanoTime();
+        backend.readIdCard(null, new CardReaderBackend.IdCardCallback() {
+            @Override
+            public void onSuccess(String identityCardJson) {
+                metrics.recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.DECODE_SERVER, readAt);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(int errorCode, String errorInfo) {
+                metrics.recordSince(ReaderMetrics.Path.ID_CARD, ReaderMetrics.Stage.DECODE_SERVER, readAt);
+                failures.incrementAndGet();
+                done.countDown();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printMetrics(Map<String, Object> snapshot) {
+        for (Map.Entry<String, Object> path : snapshot.entrySet()) {
+            if (!(path.getValue() instanceof Map)) {
+                continue;
+            }
+            for (Map.Entry<String, Object> stage : ((Map<String, Object>) path.getValue()).entrySet()) {
+                Map<String, Object> h = (Map<String, Object>) stage.getValue();
+                System.out.println(String.format("%-11s %-14s count=%6.0f  p50=%8.2fms  p95=%8.2fms  p99=%8.2fms  max=%8.2fms",
+                        path.getKey(), stage.getKey(), h.get("count"), h.get("p50Ms"), h.get("p95Ms"),
+                        h.get("p99Ms"), h.get("maxMs")));
+            }
+        }
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index && !args[index].isEmpty() ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    private static double doubleArg(String[] args, int index, double defaultValue) {
+        return args.length > index && !args[index].isEmpty() ? Double.parseDouble(args[index]) : defaultValue;
+    }
+
+    private static int[] mixArg(String[] args, int index, int[] defaultValue) {
+        if (args.length <= index || args[index].isEmpty()) {
+            return defaultValue;
+        }
+        String[] parts = args[index].split(",");
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim())};
+    }
+}
@@ -0,0 +1,199 @@
+package com.fwz.core;
+
+import java.util.function.Supplier;
+
+/**
+ * 异步日志
+ * 调用线程只做级别判断与消息构建（Supplier 仅在级别开启时求值），写入固定容量的环形缓冲后立即返回；
+ * 脱敏（{@link LogRedactor}）与实际输出在后台写线程完成。缓冲写满时丢弃新日志并计数，不阻塞读卡线程
+ */
+public final class AsyncLogger {
+    // 与 android.util.Log 的级别取值一致
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    public static final int DEFAULT_CAPACITY = 512;
+    private static final int DRAIN_BATCH = 64;
+
+    /**
+     * 日志输出，在写线程上调用
+     */
+    public interface Sink {
+        void write(int level, String tag, String message, Throwable error);
+    }
+
+    private final Sink sink;
+    private final boolean redact;
+    private volatile int minLevel;
+
+    // 环形缓冲（槽位预分配，写入时复用）
+    private final Object lock = new Object();
+    private final int[] levels;
+    private final String[] tags;
+    private final String[] messages;
+    private final Throwable[] errors;
+    private int head = 0;
+    private int size = 0;
+    private boolean writerWaiting = false;
+
+    // 统计
+    private long submittedCount = 0;
+    private long droppedCount = 0;
+    private long writtenCount = 0;
+
+    public AsyncLogger(int capacity, int minLevel, boolean redact, Sink sink) {
+        this.levels = new int[capacity];
+        this.tags = new String[capacity];
+        this.messages = new String[capacity];
+        this.errors = new Throwable[capacity];
+        this.minLevel = minLevel;
+        this.redact = redact;
+        this.sink = sink;
+        Thread writer = new Thread(this::drainLoop, "card-log");
+        writer.setDaemon(true);
+        writer.setPriority(Thread.MIN_PRIORITY);
+        writer.start();
+    }
+
+    public boolean isLoggable(int level) {
+        return level >= minLevel;
+    }
+
+    public void setMinLevel(int level) {
+        this.minLevel = level;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    public void log(int level, String tag, String message, Throwable error) {
+        if (level < minLevel) {
+            return;
+        }
+        enqueue(level, tag, message, error);
+    }
+
+    /**
+     * 级别关闭时不调用 message，避免拼接字符串
+     */
+    public void log(int level, String tag, Supplier<String> message, Throwable error) {
+        if (level < minLevel) {
+            return;
+        }
+        enqueue(level, tag, message.get(), error);
+    }
+
+    private void enqueue(int level, String tag, String message, Throwable error) {
+        synchronized (lock) {
+            submittedCount++;
+            if (size == levels.length) {
+                droppedCount++;
+                return;
+            }
+            int tail = (head + size) % levels.length;
+            levels[tail] = level;
+            tags[tail] = tag;
+            messages[tail] = message;
+            errors[tail] = error;
+            size++;
+            if (writerWaiting) {
+                writerWaiting = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        int[] batchLevels = new int[DRAIN_BATCH];
+        String[] batchTags = new String[DRAIN_BATCH];
+        String[] batchMessages = new String[DRAIN_BATCH];
+        Throwable[] batchErrors = new Throwable[DRAIN_BATCH];
+        while (true) {
+            int count;
+            synchronized (lock) {
+                while (size == 0) {
+                    writerWaiting = true;
+                    lock.notifyAll();
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                count = Math.min(size, DRAIN_BATCH);
+                for (int i = 0; i < count; i++) {
+                    int index = (head + i) % levels.length;
+                    batchLevels[i] = levels[index];
+                    batchTags[i] = tags[index];
+                    batchMessages[i] = messages[index];
+                    batchErrors[i] = errors[index];
+                    tags[index] = null;
+                    messages[index] = null;
+                    errors[index] = null;
+                }
+                head = (head + count) % levels.length;
+                size -= count;
+            }
+            for (int i = 0; i < count; i++) {
+                String message = redact ? LogRedactor.redact(batchMessages[i]) : batchMessages[i];
+                try {
+                    sink.write(batchLevels[i], batchTags[i], message, batchErrors[i]);
+                } catch (RuntimeException ignored) {
+                    // 日志输出失败不影响业务
+                }
+                batchTags[i] = null;
+                batchMessages[i] = null;
+                batchErrors[i] = null;
+            }
+            synchronized (lock) {
+                writtenCount += count;
+            }
+        }
+    }
+
+    /**
+     * 等待缓冲中的日志全部输出（用于退出前与基准测试）
+     * @return 超时前是否已全部输出
+     */
+    public boolean flush(long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (lock) {
+            while (writtenCount + droppedCount < submittedCount) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                lock.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    public long getSubmittedCount() {
+        synchronized (lock) {
+            return submittedCount;
+        }
+    }
+
+    public long getDroppedCount() {
+        synchronized (lock) {
+            return droppedCount;
+        }
+    }
+
+    public long getWrittenCount() {
+        synchronized (lock) {
+            return writtenCount;
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fwz.core;
+
+import java.util.Random;
+
+/**
+ * 指数退避
+ * 每次失败后等待时间翻倍（带±20%抖动），上限 maxMs；成功或网络恢复后重置
+ */
+public final class Backoff {
+    private final long baseMs;
+    private final long maxMs;
+    private final Random random;
+    private int attempts = 0;
+
+    public Backoff(long baseMs, long maxMs) {
+        this(baseMs, maxMs, new Random());
+    }
+
+    public Backoff(long baseMs, long maxMs, Random random) {
+        this.baseMs = baseMs;
+        this.maxMs = maxMs;
+        this.random = random;
+    }
+
+    /**
+     * 记录一次失败
+     * @return 下次重试前的等待时间（毫秒）
+     */
+    public synchronized long nextDelayMs() {
+        long delay = baseMs << Math.min(attempts, 20);
+        if (delay <= 0 || delay > maxMs) {
+            delay = maxMs;
+        }
+        attempts++;
+        double jitter = 0.8 + random.nextDouble() * 0.4;
+        return Math.min(maxMs, (long) (delay * jitter));
+    }
+
+    public synchronized void reset() {
+        attempts = 0;
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,48 @@
+package com.fwz.core;
+
+/**
+ * 缓存的接口响应
+ * etag/lastModified 用于过期后的条件请求（If-None-Match / If-Modified-Since）
+ */
+public final class CacheEntry {
+    public final String key;
+    public final String body;
+    public final String etag;
+    public final String lastModified;
+    public final long storedAt;
+    public final long expiresAt;
+
+    public CacheEntry(String key, String body, String etag, String lastModified, long storedAt, long expiresAt) {
+        this.key = key;
+        this.body = body != null ? body : "";
+        this.etag = etag != null ? etag : "";
+        this.lastModified = lastModified != null ? lastModified : "";
+        this.storedAt = storedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isFresh(long now) {
+        return now < expiresAt;
+    }
+
+    /**
+     * 是否可以发起条件请求
+     */
+    public boolean canRevalidate() {
+        return !etag.isEmpty() || !lastModified.isEmpty();
+    }
+
+    /**
+     * 服务端返回304后延长有效期
+     */
+    public CacheEntry refreshed(long now, long ttlMs) {
+        return new CacheEntry(key, body, etag, lastModified, now, now + ttlMs);
+    }
+
+    /**
+     * 估算占用字节数（UTF-16字符）
+     */
+    public int weight() {
+        return (key.length() + body.length() + etag.length() + lastModified.length()) * 2 + 64;
+    }
+}
@@ -0,0 +1,221 @@
+package com.fwz.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 发送到JS的读卡事件/结果组装
+ * 只使用 String、Integer、Double、Map 类型的值，Android 端用 Arguments.makeNativeMap 转换
+ */
+public final class CardEventMaps {
+    public static final String STATUS_START = "start";
+    public static final String STATUS_RESULT = "result";
+    public static final String STATUS_IDCARD_START = "idcard_start";
+    public static final String STATUS_IDCARD_PROGRESS = "idcard_progress";
+    public static final String STATUS_IDCARD_SUCCESS = "idcard_success";
+    public static final String STATUS_IDCARD_ERROR = "idcard_error";
+    public static final String TYPE_IDCARD = "idcard";
+
+    // 社保卡读卡各阶段耗时字段，顺序与 socialCardResult 的 stageMs 参数一致
+    private static final String[] SOCIAL_CARD_STAGES = {
+            "queueMs", "initMs", "readMs", "captureMs", "dispatchMs", "totalMs"
+    };
+
+    private CardEventMaps() {
+    }
+
+    /**
+     * 社保卡开始读卡事件
+     */
+    public static Map<String, Object> socialCardStart() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_START);
+        return map;
+    }
+
+    /**
+     * 社保卡读卡结果事件
+     * @param stageMs 各阶段耗时：queueMs、initMs、readMs、captureMs、dispatchMs、totalMs
+     */
+    public static Map<String, Object> socialCardResult(int resultCode, String errorInfo, String resultInfo,
+                                                       long... stageMs) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_RESULT);
+        map.put("errorInfo", errorInfo);
+        map.put("resultInfo", resultInfo);
+        map.put("resultCode", resultCode);
+        if (stageMs.length == SOCIAL_CARD_STAGES.length) {
+            Map<String, Object> timings = new LinkedHashMap<>();
+            for (int i = 0; i < stageMs.length; i++) {
+                timings.put(SOCIAL_CARD_STAGES[i], (double) stageMs[i]);
+            }
+            map.put("timings", timings);
+        }
+        return map;
+    }
+
+    /**
+     * 身份证开始读卡事件
+     */
+    public static Map<String, Object> idCardStart() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_IDCARD_START);
+        map.put("type", TYPE_IDCARD);
+        return map;
+    }
+
+    /**
+     * 身份证读证进度事件
+     */
+    public static Map<String, Object> idCardProgress(int percent) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_IDCARD_PROGRESS);
+        map.put("type", TYPE_IDCARD);
+        map.put("progress", percent);
+        return map;
+    }
+
+    /**
+     * 身份证读卡成功事件
+     * 照片已写入缓存文件时只返回 photoUri 与宽高，否则返回Base64的photo（为空时不返回）；按证件类型返回对应的附加字段
+     */
+    public static Map<String, Object> idCardSuccess(IdCardInfo info) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_IDCARD_SUCCESS);
+        map.put("type", TYPE_IDCARD);
+        map.put("name", info.name);
+        map.put("gender", info.gender);
+        map.put("nation", info.nation);
+        map.put("birthday", info.birthday);
+        map.put("address", info.address);
+        map.put("idNum", info.idNum);
+        map.put("issueOrg", info.issueOrg);
+        map.put("effectDate", info.effectDate);
+        map.put("expireDate", info.expireDate);
+        if (info.hasPhotoFile()) {
+            map.put("photoUri", info.photoUri);
+            map.put("photoWidth", info.photoWidth);
+            map.put("photoHeight", info.photoHeight);
+        } else if (info.hasPhoto()) {
+            // 照片文件写入失败时回退为Base64
+            map.put("photo", info.photo);
+        }
+        map.put("idType", info.idType);
+        switch (info.idType) {
+            case IdCardInfo.TYPE_FOREIGNER:
+                map.put("nationality", info.nation);
+                map.put("englishName", info.englishName);
+                break;
+            case IdCardInfo.TYPE_HK_MACAO_TW:
+                map.put("signCount", info.signCount);
+                map.put("passNum", info.passNum);
+                break;
+            default:
+                map.put("dn", info.dn);
+                break;
+        }
+        return map;
+    }
+
+    /**
+     * 身份证读卡失败事件
+     * @param errorCode 错误码，为null时不返回
+     */
+    public static Map<String, Object> idCardError(String errorInfo, Integer errorCode) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", STATUS_IDCARD_ERROR);
+        map.put("type", TYPE_IDCARD);
+        map.put("errorInfo", errorInfo);
+        if (errorCode != null) {
+            map.put("errorCode", errorCode);
+        }
+        return map;
+    }
+
+    /**
+     * 电子二维码解析结果
+     * @param parsed 已解析的结果，未解析到身份证号时不返回idNo
+     */
+    public static Map<String, Object> essCardResult(int resultCode, String errorMsg, String resultStr,
+                                                    long waitMs, long execMs, EssQrResult parsed) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("resultCode", resultCode);
+        map.put("errorMsg", errorMsg);
+        map.put("resultStr", resultStr);
+        map.put("waitMs", (double) waitMs);
+        map.put("execMs", (double) execMs);
+        if (parsed != null && parsed.hasIdNo()) {
+            map.put("idNo", parsed.idNo);
+        }
+        return map;
+    }
+
+    /**
+     * 实体社保卡读取结果
+     * @param cardInfo 已解析的卡片信息，为null时只返回原始结果
+     */
+    public static Map<String, Object> socialCardInfo(int resultCode, String errorMsg, String data,
+                                                     long waitMs, long execMs, SocialCardInfo cardInfo) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("resultCode", resultCode);
+        map.put("errorMsg", errorMsg);
+        map.put("data", data);
+        map.put("waitMs", (double) waitMs);
+        map.put("execMs", (double) execMs);
+        if (cardInfo != null) {
+            map.put("areaCode", cardInfo.areaCode);
+            map.put("socialSecurityNumber", cardInfo.socialSecurityNumber);
+            map.put("cardNumber", cardInfo.cardNumber);
+            map.put("cardIdentifier", cardInfo.cardIdentifier);
+            map.put("identityNumber", cardInfo.cardIdentifier); // 兼容旧字段（第4个字段）
+            map.put("name", cardInfo.name);
+            map.put("cardResetInfo", cardInfo.cardResetInfo);
+            map.put("specVersion", cardInfo.specVersion);
+            map.put("issueDate", cardInfo.issueDate);
+            map.put("expireDate", cardInfo.expireDate);
+            map.put("terminalNumber", cardInfo.terminalNumber);
+            map.put("terminalDeviceNumber", cardInfo.terminalDeviceNumber);
+            map.put("fieldCount", cardInfo.fieldCount);
+        }
+        return map;
+    }
+
+    /**
+     * 估算事件经桥接序列化后的字节数（按JSON计算键、值与分隔符，字符串按UTF-8计）
+     */
+    public static int estimatePayloadBytes(Map<String, Object> map) {
+        int bytes = 2;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            bytes += utf8Length(entry.getKey()) + 4;
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                bytes += utf8Length((String) value) + 2;
+            } else if (value instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> nested = (Map<String, Object>) value;
+                bytes += estimatePayloadBytes(nested);
+            } else {
+                bytes += String.valueOf(value).length();
+            }
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fwz.core;
+
+/**
+ * ReadCard.getOut() 竖线分隔结果解析
+ * 基于 {@link PipeCursor} 逐字段解析，替代 split("\\|") + 手工取下标，
+ * 缺失字段不会越界。游标按线程复用，非线程安全的结果对象由调用方提供
+ */
+public final class CardPayloadParser {
+
+    private static final ThreadLocal<PipeCursor> CURSOR = new ThreadLocal<PipeCursor>() {
+        @Override
+        protected PipeCursor initialValue() {
+            return new PipeCursor();
+        }
+    };
+
+    private CardPayloadParser() {
+    }
+
+    /**
+     * 解析实体社保卡基本信息
+     * @param payload getOut() 结果
+     * @param out 结果对象，会先被清空
+     * @return 是否解析到至少一个字段
+     */
+    public static boolean parseSocialCard(String payload, SocialCardInfo out) {
+        out.clear();
+        PipeCursor cursor = CURSOR.get().reset(payload);
+        while (cursor.next()) {
+            switch (cursor.index()) {
+                case 0: out.areaCode = cursor.field(); break;
+                case 1: out.socialSecurityNumber = cursor.field(); break;
+                case 2: out.cardNumber = cursor.field(); break;
+                case 3: out.cardIdentifier = cursor.field(); break;
+                case 4: out.name = cursor.field(); break;
+                case 5: out.cardResetInfo = cursor.field(); break;
+                case 6: out.specVersion = cursor.field(); break;
+                case 7: out.issueDate = cursor.field(); break;
+                case 8: out.expireDate = cursor.field(); break;
+                case 9: out.terminalNumber = cursor.field(); break;
+                case 10: out.terminalDeviceNumber = cursor.field(); break;
+                default: break;
+            }
+            out.fieldCount = cursor.index() + 1;
+        }
+        return out.fieldCount > 0;
+    }
+
+    /**
+     * 解析电子社保卡二维码结果
+     * @param payload getOut() 结果
+     * @param out 结果对象，会先被清空
+     * @return 是否解析到身份证号
+     */
+    public static boolean parseEssQr(String payload, EssQrResult out) {
+        out.clear();
+        PipeCursor cursor = CURSOR.get().reset(payload);
+        while (cursor.next()) {
+            if (cursor.index() == EssQrResult.ID_NO_INDEX) {
+                out.idNo = cursor.field();
+            }
+            out.fieldCount = cursor.index() + 1;
+        }
+        return out.hasIdNo();
+    }
+}
@@ -0,0 +1,67 @@
+package com.fwz.core;
+
+/**
+ * 读卡后端
+ * 厂商SDK（tecsun ReadCard、sunrise SRnfcCardReader）与模拟后端的统一接口。
+ * 除 readIdCard 外均为同步调用，由 {@link ReadCardScheduler} 在 card-io 线程上串行执行
+ *
+ * @param <T> NFC标签类型（Android 端为 android.nfc.Tag）
+ */
+public interface CardReaderBackend<T> {
+
+    /**
+     * 初始化参数（iInitParms）
+     * @param url 服务地址
+     * @param platformId 机构编号
+     */
+    CardResult init(String url, String platformId);
+
+    /**
+     * 读取实体社保卡基本信息（iReadCardBas）
+     * @param tag NFC标签，可为null
+     * @param iType 操作卡的类型：1-接触式；2-非接触式；3-自动寻卡，接触式优先；4-自动寻卡，非接触式优先
+     * @param sceneCode 场景编码
+     */
+    CardResult readSocialCard(T tag, int iType, String sceneCode);
+
+    /**
+     * 电子社保卡二维码校验（iCheckESSCard）
+     * @param qrCode 二维码数据
+     * @param businessType 业务类型
+     */
+    CardResult checkEssCard(String qrCode, String businessType);
+
+    /**
+     * 读取身份证（含解码服务器往返），结果异步回调
+     * @param tag NFC标签
+     * @param callback 结果回调，回调线程由实现决定
+     */
+    void readIdCard(T tag, IdCardCallback callback);
+
+    /**
+     * 结果是否表示会话已失效（需重新 init 后重试）
+     * 只按后端明确的返回码或固定错误信息判断，不做关键字匹配；默认不重试
+     */
+    default boolean isSessionExpired(CardResult result) {
+        return false;
+    }
+
+    /**
+     * 身份证读取回调
+     */
+    interface IdCardCallback {
+        /**
+         * @param identityCardJson 身份证JSON数据
+         */
+        void onSuccess(String identityCardJson);
+
+        void onError(int errorCode, String errorInfo);
+
+        /**
+         * 读证进度（SDK在读卡过程中多次回调，读卡结束前可能不会到达100）
+         * @param percent 进度百分比
+         */
+        default void onProgress(int percent) {
+        }
+    }
+}
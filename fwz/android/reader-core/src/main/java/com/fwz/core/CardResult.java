@@ -0,0 +1,31 @@
+package com.fwz.core;
+
+/**
+ * 读卡后端调用结果
+ * 对应厂商SDK的 返回值 + getErr() + getOut()，在调用线程上一次性采集
+ */
+public final class CardResult {
+    private static final CardResult OK = new CardResult(0, "", "");
+
+    public final int resultCode;
+    public final String errorInfo;
+    public final String resultInfo;
+
+    public CardResult(int resultCode, String errorInfo, String resultInfo) {
+        this.resultCode = resultCode;
+        this.errorInfo = errorInfo != null ? errorInfo : "";
+        this.resultInfo = resultInfo != null ? resultInfo : "";
+    }
+
+    public static CardResult ok() {
+        return OK;
+    }
+
+    public static CardResult error(int resultCode, String errorInfo) {
+        return new CardResult(resultCode, errorInfo, "");
+    }
+
+    public boolean isSuccess() {
+        return resultCode == 0;
+    }
+}
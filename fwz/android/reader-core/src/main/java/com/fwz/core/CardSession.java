@@ -0,0 +1,95 @@
+package com.fwz.core;
+
+/**
+ * 读卡会话管理
+ * 同一组 (url, platformId) 只初始化一次，初始化后的后端常驻复用；
+ * 仅当后端判定会话已失效（{@link CardReaderBackend#isSessionExpired}）时才重新初始化并重试一次
+ *
+ * @param <T> NFC标签类型
+ */
+public final class CardSession<T> {
+
+    /**
+     * 后端调用
+     */
+    public interface BackendCall<T> {
+        CardResult invoke(CardReaderBackend<T> backend) throws Exception;
+    }
+
+    private CardReaderBackend<T> backend;
+    private String url;
+    private String platformId;
+    private boolean initialized = false;
+    private long reinitCount = 0;
+
+    public CardSession(CardReaderBackend<T> backend) {
+        this.backend = backend;
+    }
+
+    public synchronized CardReaderBackend<T> getBackend() {
+        return backend;
+    }
+
+    /**
+     * 切换后端，下次调用时重新初始化
+     */
+    public synchronized void setBackend(CardReaderBackend<T> backend) {
+        this.backend = backend;
+        initialized = false;
+    }
+
+    /**
+     * 确保会话已按 (url, platformId) 初始化
+     * @return 初始化结果；会话已就绪时直接返回成功
+     */
+    public synchronized CardResult ensureInitialized(String url, String platformId) {
+        if (initialized && url.equals(this.url) && platformId.equals(this.platformId)) {
+            return CardResult.ok();
+        }
+        this.url = url;
+        this.platformId = platformId;
+        return initialize();
+    }
+
+    /**
+     * 在已初始化的会话上执行后端调用
+     * 未初始化时先初始化，失败则直接返回初始化结果；若返回会话失效，重新初始化后重试一次
+     */
+    public synchronized CardResult call(BackendCall<T> call) throws Exception {
+        if (!initialized && url != null && platformId != null) {
+            CardResult init = initialize();
+            if (!init.isSuccess()) {
+                return init;
+            }
+        }
+        CardResult result = call.invoke(backend);
+        if (!result.isSuccess() && url != null && platformId != null && backend.isSessionExpired(result)) {
+            invalidate();
+            reinitCount++;
+            if (initialize().isSuccess()) {
+                return call.invoke(backend);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 标记会话失效，下次调用时重新初始化
+     */
+    public synchronized void invalidate() {
+        initialized = false;
+    }
+
+    /**
+     * 因会话失效而重新初始化的次数
+     */
+    public synchronized long getReinitCount() {
+        return reinitCount;
+    }
+
+    private CardResult initialize() {
+        CardResult result = backend.init(url, platformId);
+        initialized = result.isSuccess();
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fwz.core;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * 设备唯一编码生成
+ * 对 Android ID（不可用时为构建信息拼接的伪IMEI）做MD5，输出32位小写十六进制
+ */
+public final class DeviceIds {
+    // 模拟器的默认 Android ID
+    public static final String EMULATOR_ANDROID_ID = "9774d56d682e549c";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private DeviceIds() {
+    }
+
+    /**
+     * Android ID 是否可用
+     */
+    public static boolean isUsableAndroidId(String androidId) {
+        return androidId != null && !EMULATOR_ANDROID_ID.equals(androidId);
+    }
+
+    /**
+     * 由构建信息生成伪IMEI
+     * @param buildFields Build.BOARD、BRAND、DEVICE、DISPLAY、HOST、ID、MANUFACTURER、MODEL、PRODUCT、TAGS、TYPE、USER
+     */
+    public static String fallbackSeed(String... buildFields) {
+        StringBuilder sb = new StringBuilder(2 + buildFields.length);
+        sb.append("35"); // 使用电信的IMEI前缀作为前导
+        for (String field : buildFields) {
+            sb.append((field != null ? field.length() : 0) % 10);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成设备唯一编码
+     * @param seed Android ID 或 fallbackSeed 结果
+     * @return MD5的十六进制字符串，MD5不可用时返回随机UUID
+     */
+    public static String fromSeed(String seed) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            return toHex(md.digest(seed.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * 字节数组转小写十六进制（查表，不经过 String.format）
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            chars[i * 2] = HEX_DIGITS[v >>> 4];
+            chars[i * 2 + 1] = HEX_DIGITS[v & 0x0f];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,180 @@
+package com.fwz.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 容量受限的磁盘缓存
+ * 每个条目一个文件（文件名为key的SHA-1），总大小超过上限时按最近访问时间淘汰；
+ * 写入先写临时文件再重命名，进程被杀时不会留下不完整的条目
+ */
+public final class DiskLruStore {
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".entry";
+
+    private final File dir;
+    private final long maxBytes;
+    // 文件名 -> 大小，按访问顺序排列（最久未访问在前）
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+
+    public DiskLruStore(File dir, long maxBytes) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("无法创建目录: " + dir);
+        }
+        load();
+    }
+
+    private void load() {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> entries = new ArrayList<>();
+        for (File file : files) {
+            if (file.getName().endsWith(SUFFIX)) {
+                entries.add(file);
+            } else {
+                // 残留的临时文件
+                file.delete();
+            }
+        }
+        Collections.sort(entries, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File file : entries) {
+            sizes.put(file.getName(), file.length());
+            totalBytes += file.length();
+        }
+        trim();
+    }
+
+    public synchronized CacheEntry get(String key) {
+        String name = fileName(key);
+        // get 同时更新访问顺序
+        if (sizes.get(name) == null) {
+            return null;
+        }
+        File file = new File(dir, name);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                remove(name);
+                return null;
+            }
+            String storedKey = in.readUTF();
+            if (!storedKey.equals(key)) {
+                return null;
+            }
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            long storedAt = in.readLong();
+            long expiresAt = in.readLong();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            file.setLastModified(System.currentTimeMillis());
+            return new CacheEntry(key, new String(body, "UTF-8"), etag, lastModified, storedAt, expiresAt);
+        } catch (IOException e) {
+            remove(name);
+            return null;
+        }
+    }
+
+    public synchronized void put(CacheEntry entry) throws IOException {
+        String name = fileName(entry.key);
+        File tmp = new File(dir, name + ".tmp");
+        byte[] body = entry.body.getBytes("UTF-8");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(entry.key);
+            out.writeUTF(entry.etag);
+            out.writeUTF(entry.lastModified);
+            out.writeLong(entry.storedAt);
+            out.writeLong(entry.expiresAt);
+            out.writeInt(body.length);
+            out.write(body);
+        }
+        File file = new File(dir, name);
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+            throw new IOException("写入缓存失败: " + file);
+        }
+        Long previous = sizes.put(name, file.length());
+        totalBytes += file.length() - (previous != null ? previous : 0);
+        trim();
+    }
+
+    public synchronized void remove(String key) {
+        removeFile(fileName(key));
+    }
+
+    /**
+     * 删除key以指定前缀开头的条目（需读取条目头部）
+     */
+    public synchronized void removeByPrefix(String prefix) {
+        for (String name : new ArrayList<>(sizes.keySet())) {
+            File file = new File(dir, name);
+            boolean matches;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                in.readInt();
+                matches = in.readUTF().startsWith(prefix);
+            } catch (IOException e) {
+                matches = true;
+            }
+            // 流关闭后再删除
+            if (matches) {
+                removeFile(name);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        for (String name : new ArrayList<>(sizes.keySet())) {
+            removeFile(name);
+        }
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    public synchronized int count() {
+        return sizes.size();
+    }
+
+    private void removeFile(String name) {
+        Long size = sizes.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        new File(dir, name).delete();
+    }
+
+    private void trim() {
+        while (totalBytes > maxBytes && !sizes.isEmpty()) {
+            Map.Entry<String, Long> eldest = sizes.entrySet().iterator().next();
+            removeFile(eldest.getKey());
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes("UTF-8"));
+            return DeviceIds.toHex(digest) + SUFFIX;
+        } catch (NoSuchAlgorithmException | IOException e) {
+            return Integer.toHexString(key.hashCode()) + SUFFIX;
+        }
+    }
+}
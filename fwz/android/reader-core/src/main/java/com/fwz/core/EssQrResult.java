@@ -0,0 +1,25 @@
+package com.fwz.core;
+
+/**
+ * 电子社保卡二维码解析结果（iCheckESSCard 的 getOut() 结果）
+ * 竖线分隔，目前只确认第4个字段（序号3）为身份证号；其余字段的含义SDK未提供文档，不做解析，需要时从原始结果中读取。
+ * 实例可复用，每次解析前会被清空
+ */
+public final class EssQrResult {
+    public static final int ID_NO_INDEX = 3;
+
+    // 身份证号，字段缺失时为null
+    public String idNo = null;
+
+    // 实际解析到的字段数
+    public int fieldCount = 0;
+
+    public boolean hasIdNo() {
+        return idNo != null && !idNo.isEmpty();
+    }
+
+    void clear() {
+        idNo = null;
+        fieldCount = 0;
+    }
+}
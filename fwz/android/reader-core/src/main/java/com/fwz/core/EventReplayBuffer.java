@@ -0,0 +1,122 @@
+package com.fwz.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 待重放事件环形缓冲
+ * 容量固定，写满后覆盖最早的事件（计为 evicted）；取出时丢弃超过 maxAgeMs 的事件（计为 expired），其余按写入顺序返回。
+ * 时间由调用方传入，便于测试与使用单调时钟
+ *
+ * @param <E> 事件类型
+ */
+public final class EventReplayBuffer<E> {
+    private final Object[] events;
+    private final long[] enqueuedAt;
+    private volatile long maxAgeMs;
+    private int head = 0;
+    private int size = 0;
+
+    private long bufferedCount = 0;
+    private long replayedCount = 0;
+    private long evictedCount = 0;
+    private long expiredCount = 0;
+
+    public EventReplayBuffer(int capacity, long maxAgeMs) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity必须大于0");
+        }
+        this.events = new Object[capacity];
+        this.enqueuedAt = new long[capacity];
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * 写入事件，缓冲已满时覆盖最早的一条
+     * @return 是否覆盖了旧事件
+     */
+    public synchronized boolean add(E event, long nowMs) {
+        boolean evicted = false;
+        if (size == events.length) {
+            head = (head + 1) % events.length;
+            size--;
+            evictedCount++;
+            evicted = true;
+        }
+        int tail = (head + size) % events.length;
+        events[tail] = event;
+        enqueuedAt[tail] = nowMs;
+        size++;
+        bufferedCount++;
+        return evicted;
+    }
+
+    /**
+     * 取出全部未过期事件（按写入顺序）并清空缓冲
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<E> drain(long nowMs) {
+        List<E> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % events.length;
+            if (nowMs - enqueuedAt[index] > maxAgeMs) {
+                expiredCount++;
+            } else {
+                result.add((E) events[index]);
+            }
+            events[index] = null;
+        }
+        head = 0;
+        size = 0;
+        replayedCount += result.size();
+        return result;
+    }
+
+    /**
+     * 丢弃已过期事件，不影响其余事件的顺序
+     * @return 丢弃数量
+     */
+    public synchronized int expire(long nowMs) {
+        int removed = 0;
+        while (size > 0 && nowMs - enqueuedAt[head] > maxAgeMs) {
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+            removed++;
+        }
+        expiredCount += removed;
+        return removed;
+    }
+
+    public void setMaxAgeMs(long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public long getMaxAgeMs() {
+        return maxAgeMs;
+    }
+
+    public int getCapacity() {
+        return events.length;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getBufferedCount() {
+        return bufferedCount;
+    }
+
+    public synchronized long getReplayedCount() {
+        return replayedCount;
+    }
+
+    public synchronized long getEvictedCount() {
+        return evictedCount;
+    }
+
+    public synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+}
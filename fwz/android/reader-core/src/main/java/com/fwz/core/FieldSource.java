@@ -0,0 +1,15 @@
+package com.fwz.core;
+
+/**
+ * 按名称取字符串字段的数据源
+ * 用于隔离具体的JSON实现（Android 的 org.json、测试数据等），reader-core 不依赖任何JSON库
+ */
+public interface FieldSource {
+
+    /**
+     * 获取字段值
+     * @param key 字段名
+     * @return 字段值，字段不存在时返回空字符串
+     */
+    String optString(String key);
+}
@@ -0,0 +1,58 @@
+package com.fwz.core;
+
+/**
+ * 身份证信息（SRnfcCardReader.readIDCardByJson 结果）
+ * 缺失的字段为空字符串。实例可复用，每次映射前会被清空
+ */
+public final class IdCardInfo {
+    public static final String TYPE_FOREIGNER = "I";       // 外国人永久居留身份证
+    public static final String TYPE_HK_MACAO_TW = "J";     // 港澳台居民居住证
+
+    public String name = "";        // 姓名
+    public String gender = "";      // 性别
+    public String nation = "";      // 民族（外国人身份证为国籍）
+    public String birthday = "";    // 出生日期
+    public String address = "";     // 住址
+    public String idNum = "";       // 身份证号码
+    public String issueOrg = "";    // 签发机关
+    public String effectDate = "";  // 有效期起始日期
+    public String expireDate = "";  // 有效期截止日期
+    public String photo = "";       // 照片（Base64）
+    public String idType = "";      // 证件类型
+    public String englishName = ""; // 英文姓名（外国人身份证）
+    public String signCount = "";   // 签发次数（港澳台居住证）
+    public String passNum = "";     // 通行证号码（港澳台居住证）
+    public String dn = "";          // DN码（普通身份证）
+    public String photoUri = "";    // 照片缓存文件（file://），写入后不再通过桥接传递Base64
+    public int photoWidth = 0;
+    public int photoHeight = 0;
+
+    public boolean hasPhoto() {
+        return !photo.isEmpty();
+    }
+
+    public boolean hasPhotoFile() {
+        return !photoUri.isEmpty();
+    }
+
+    void clear() {
+        name = "";
+        gender = "";
+        nation = "";
+        birthday = "";
+        address = "";
+        idNum = "";
+        issueOrg = "";
+        effectDate = "";
+        expireDate = "";
+        photo = "";
+        idType = "";
+        englishName = "";
+        signCount = "";
+        passNum = "";
+        dn = "";
+        photoUri = "";
+        photoWidth = 0;
+        photoHeight = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.fwz.core;
+
+/**
+ * 身份证JSON结果映射
+ * 只读取当前证件类型用得到的字段
+ */
+public final class IdCardMapper {
+
+    private IdCardMapper() {
+    }
+
+    /**
+     * 映射身份证信息
+     * @param source 身份证JSON数据源
+     * @param out 结果对象，会先被清空
+     */
+    public static void map(FieldSource source, IdCardInfo out) {
+        out.clear();
+        out.name = nonNull(source.optString("name"));
+        out.gender = nonNull(source.optString("gender"));
+        out.nation = nonNull(source.optString("nation"));
+        out.birthday = nonNull(source.optString("birthday"));
+        out.address = nonNull(source.optString("address"));
+        out.idNum = nonNull(source.optString("idNum"));
+        out.issueOrg = nonNull(source.optString("issueOrg"));
+        out.effectDate = nonNull(source.optString("effectDate"));
+        out.expireDate = nonNull(source.optString("expireDate"));
+        out.photo = nonNull(source.optString("photo"));
+        out.idType = nonNull(source.optString("idType"));
+
+        switch (out.idType) {
+            case IdCardInfo.TYPE_FOREIGNER:
+                out.englishName = nonNull(source.optString("englishName"));
+                break;
+            case IdCardInfo.TYPE_HK_MACAO_TW:
+                out.signCount = nonNull(source.optString("signCount"));
+                out.passNum = nonNull(source.optString("passNum"));
+                break;
+            default:
+                out.dn = nonNull(source.optString("dn"));
+                break;
+        }
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+}
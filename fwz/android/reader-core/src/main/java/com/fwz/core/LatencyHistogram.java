@@ -0,0 +1,112 @@
+package com.fwz.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁固定分桶延迟直方图
+ * 桶边界固定（0.1ms ~ 30s，约按1.5倍递增），记录只做原子自增，可在任意线程并发调用；
+ * 分位数取所在桶的上边界，精度与桶宽一致
+ */
+public final class LatencyHistogram {
+
+    // 桶上边界（微秒），最后一个桶收纳所有更大的值
+    private static final long[] BOUNDS_MICROS = {
+            100, 200, 300, 500, 750,
+            1_000, 1_500, 2_000, 3_000, 5_000, 7_500,
+            10_000, 15_000, 20_000, 30_000, 50_000, 75_000,
+            100_000, 150_000, 200_000, 300_000, 500_000, 750_000,
+            1_000_000, 1_500_000, 2_000_000, 3_000_000, 5_000_000, 7_500_000,
+            10_000_000, 15_000_000, 20_000_000, 30_000_000
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MICROS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 记录一次耗时
+     * @param nanos 耗时（纳秒）
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.incrementAndGet();
+        sumMicros.addAndGet(micros);
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            // 重试直到更新成功
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 计算分位数
+     * @param quantile 0~1
+     * @return 分位数（毫秒），无数据时为0
+     */
+    public double percentileMs(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * quantile));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                long upper = i < BOUNDS_MICROS.length ? BOUNDS_MICROS[i] : maxMicros.get();
+                return Math.min(upper, maxMicros.get()) / 1_000.0;
+            }
+        }
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * 导出统计快照：count、mean、p50、p95、p99、max（毫秒）
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long total = count.get();
+        result.put("count", (double) total);
+        result.put("meanMs", total == 0 ? 0d : sumMicros.get() / 1_000.0 / total);
+        result.put("p50Ms", percentileMs(0.50));
+        result.put("p95Ms", percentileMs(0.95));
+        result.put("p99Ms", percentileMs(0.99));
+        result.put("maxMs", maxMicros.get() / 1_000.0);
+        return result;
+    }
+
+    /**
+     * 清空统计
+     * 与并发记录之间不保证原子性，只用于换班等低频场景
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sumMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    private static int bucketIndex(long micros) {
+        int low = 0;
+        int high = BOUNDS_MICROS.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (BOUNDS_MICROS[mid] < micros) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
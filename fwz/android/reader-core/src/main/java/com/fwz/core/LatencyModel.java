@@ -0,0 +1,54 @@
+package com.fwz.core;
+
+import java.util.Random;
+
+/**
+ * 模拟延迟分布
+ */
+public abstract class LatencyModel {
+
+    /**
+     * 采样一次延迟
+     * @return 延迟（毫秒），不小于0
+     */
+    public abstract long sampleMs(Random random);
+
+    /**
+     * 固定延迟
+     */
+    public static LatencyModel fixed(final long ms) {
+        return new LatencyModel() {
+            @Override
+            public long sampleMs(Random random) {
+                return ms;
+            }
+        };
+    }
+
+    /**
+     * [minMs, maxMs] 均匀分布
+     */
+    public static LatencyModel uniform(final long minMs, final long maxMs) {
+        return new LatencyModel() {
+            @Override
+            public long sampleMs(Random random) {
+                return minMs + (long) (random.nextDouble() * (maxMs - minMs));
+            }
+        };
+    }
+
+    /**
+     * 对数正态分布，由中位数与P95确定，适合模拟带长尾的网络往返
+     */
+    public static LatencyModel logNormal(final double medianMs, final double p95Ms) {
+        final double mu = Math.log(medianMs);
+        // P95 对应标准正态分布的 1.645
+        final double sigma = Math.max(0, Math.log(p95Ms / medianMs) / 1.645);
+        return new LatencyModel() {
+            @Override
+            public long sampleMs(Random random) {
+                return Math.max(0, Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+            }
+        };
+    }
+}
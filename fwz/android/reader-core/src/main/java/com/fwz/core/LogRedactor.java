@@ -0,0 +1,109 @@
+package com.fwz.core;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 日志脱敏
+ * 丢弃照片等Base64内容，身份证号只保留前3位与后2位，姓名只保留首字，住址整体隐藏。
+ * 不含数字、引号、竖线与键值分隔符的短消息直接返回，不走正则
+ */
+public final class LogRedactor {
+    private static final int MIN_BASE64_LENGTH = 256;
+
+    // "photo":"<base64>"
+    private static final Pattern JSON_PHOTO = Pattern.compile("\"(photo|photoData|image)\"\\s*:\\s*\"([^\"]*)\"");
+    // 其它位置的长Base64串
+    private static final Pattern LONG_BASE64 = Pattern.compile("[A-Za-z0-9+/]{" + MIN_BASE64_LENGTH + ",}={0,2}");
+    // "name":"张三"、"address":"..."
+    private static final Pattern JSON_PERSON = Pattern.compile("\"(name|partyName|idName|address)\"\\s*:\\s*\"([^\"]*)\"");
+    // 姓名=张三、姓名：张三
+    private static final Pattern KEY_VALUE_NAME = Pattern.compile("(姓名|name)\\s*[=:：]\\s*([^\\s,，|\"]+)");
+    // 竖线分隔的 getOut() 结果中的中文姓名字段
+    private static final Pattern PIPE_NAME = Pattern.compile("(?<=\\|)([\\u4e00-\\u9fa5·]{2,6})(?=\\|)");
+    // 18位或15位身份证号
+    private static final Pattern ID_NUMBER = Pattern.compile("(?<![0-9A-Za-z])([0-9]{17}[0-9Xx]|[0-9]{15})(?![0-9A-Za-z])");
+
+    private LogRedactor() {
+    }
+
+    public static String redact(String message) {
+        if (message == null || (message.length() < MIN_BASE64_LENGTH && !mayContainSensitive(message))) {
+            return message;
+        }
+        String result = message;
+        if (result.length() >= MIN_BASE64_LENGTH || result.contains("photo") || result.contains("image")) {
+            result = replace(JSON_PHOTO, result, 2, m -> m.group(2).isEmpty() ? "" : "<已丢弃" + m.group(2).length() + "字符>");
+            result = replace(LONG_BASE64, result, 0, m -> "<Base64已丢弃" + m.group().length() + "字符>");
+        }
+        result = replace(JSON_PERSON, result, 2, m -> "address".equals(m.group(1)) ? "***" : maskName(m.group(2)));
+        result = replace(KEY_VALUE_NAME, result, 2, m -> maskName(m.group(2)));
+        result = replace(PIPE_NAME, result, 0, m -> maskName(m.group()));
+        result = replace(ID_NUMBER, result, 0, m -> maskIdNumber(m.group()));
+        return result;
+    }
+
+    /**
+     * 身份证号只保留前3位与后2位
+     */
+    public static String maskIdNumber(String idNumber) {
+        if (idNumber == null || idNumber.length() <= 5) {
+            return idNumber;
+        }
+        StringBuilder sb = new StringBuilder(idNumber.length());
+        sb.append(idNumber, 0, 3);
+        for (int i = 3; i < idNumber.length() - 2; i++) {
+            sb.append('*');
+        }
+        sb.append(idNumber, idNumber.length() - 2, idNumber.length());
+        return sb.toString();
+    }
+
+    /**
+     * 姓名只保留首字
+     */
+    public static String maskName(String name) {
+        if (name == null || name.length() <= 1) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        sb.append(name.charAt(0));
+        for (int i = 1; i < name.length(); i++) {
+            sb.append('*');
+        }
+        return sb.toString();
+    }
+
+    private static boolean mayContainSensitive(String message) {
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '"' || c == '|' || c == '=' || c == ':' || c == '：') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface Replacer {
+        String apply(Matcher matcher);
+    }
+
+    /**
+     * 只替换匹配中的 group 部分，其余原样保留
+     */
+    private static String replace(Pattern pattern, String input, int group, Replacer replacer) {
+        Matcher matcher = pattern.matcher(input);
+        if (!matcher.find()) {
+            return input;
+        }
+        StringBuilder sb = new StringBuilder(input.length());
+        int last = 0;
+        do {
+            sb.append(input, last, matcher.start(group));
+            sb.append(replacer.apply(matcher));
+            last = matcher.end(group);
+        } while (matcher.find());
+        sb.append(input, last, input.length());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,239 @@
+package com.fwz.core;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 离线核销队列
+ * 核销请求先写入 {@link VerificationJournal} 即返回，由后台线程按批提交；
+ * 网络异常时按指数退避重试，网络恢复时立即重试。服务端明确拒绝的记录同样视为已处理，不再重试
+ */
+public final class OfflineVerificationQueue {
+    public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final long DEFAULT_BACKOFF_BASE_MS = 2000;
+    public static final long DEFAULT_BACKOFF_MAX_MS = 5 * 60 * 1000;
+
+    /**
+     * 提交结果
+     */
+    public enum Outcome {
+        ACCEPTED,  // 服务端已受理
+        REJECTED,  // 服务端明确拒绝，不再重试
+        RETRY      // 网络异常、服务端错误或登录失效，稍后重试
+    }
+
+    /**
+     * 单条提交结果
+     */
+    public static final class SubmitResult {
+        public final Outcome outcome;
+        public final String code;      // 服务端返回的业务码（或 HTTP 状态码），本地异常时为空串
+        public final String message;
+
+        public SubmitResult(Outcome outcome, String code, String message) {
+            this.outcome = outcome;
+            this.code = code != null ? code : "";
+            this.message = message != null ? message : "";
+        }
+    }
+
+    /**
+     * 核销提交实现，在刷新线程上同步调用
+     */
+    public interface Submitter {
+        SubmitResult submit(PendingVerification entry) throws IOException;
+    }
+
+    /**
+     * 队列事件回调，在刷新线程上调用
+     */
+    public interface Listener {
+        void onSubmitted(PendingVerification entry, SubmitResult result);
+
+        void onBackoff(long delayMs, int pending, String reason);
+    }
+
+    private final VerificationJournal journal;
+    private final Submitter submitter;
+    private final int batchSize;
+    private final Backoff backoff;
+    private final ScheduledExecutorService executor;
+    private volatile Listener listener;
+
+    private ScheduledFuture<?> scheduledFlush;
+    private long nextRetryAt = 0;
+
+    // 统计
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private volatile int pendingCount;
+
+    public OfflineVerificationQueue(VerificationJournal journal, Submitter submitter) {
+        this(journal, submitter, DEFAULT_BATCH_SIZE,
+                new Backoff(DEFAULT_BACKOFF_BASE_MS, DEFAULT_BACKOFF_MAX_MS));
+    }
+
+    public OfflineVerificationQueue(VerificationJournal journal, Submitter submitter, int batchSize, Backoff backoff) {
+        this.journal = journal;
+        this.submitter = submitter;
+        this.batchSize = batchSize;
+        this.backoff = backoff;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "verification-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pendingCount = journal.pendingCount();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 在调用线程上写入日志后返回，提交在后台进行，不等待正在进行的网络请求
+     * @return 已持久化的记录
+     */
+    public PendingVerification enqueue(String identityType, String identity, String orderId,
+                                       String busiSerial, String body) throws IOException {
+        PendingVerification entry = journal.append(System.currentTimeMillis(), identityType, identity,
+                orderId, busiSerial, body);
+        enqueuedCount.incrementAndGet();
+        pendingCount = journal.pendingCount();
+        executor.execute(() -> {
+            // 处于退避等待时不提前打断
+            if (System.currentTimeMillis() >= nextRetryAt) {
+                scheduleFlush(0);
+            }
+        });
+        return entry;
+    }
+
+    /**
+     * 立即尝试提交（忽略当前退避等待）
+     */
+    public void flushNow() {
+        executor.execute(() -> {
+            nextRetryAt = 0;
+            scheduleFlush(0);
+        });
+    }
+
+    /**
+     * 网络恢复：重置退避并立即提交
+     */
+    public void onConnectivityRestored() {
+        executor.execute(() -> {
+            backoff.reset();
+            nextRetryAt = 0;
+            if (journal.pendingCount() > 0) {
+                scheduleFlush(0);
+            }
+        });
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pending", pendingCount);
+        stats.put("enqueued", (double) enqueuedCount.get());
+        stats.put("accepted", (double) acceptedCount.get());
+        stats.put("rejected", (double) rejectedCount.get());
+        stats.put("retries", (double) retryCount.get());
+        stats.put("batches", (double) batchCount.get());
+        stats.put("backoffAttempts", backoff.getAttempts());
+        stats.put("nextRetryAt", (double) nextRetryAt);
+        return stats;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 以下方法只在刷新线程上调用
+
+    private void scheduleFlush(long delayMs) {
+        if (scheduledFlush != null && !scheduledFlush.isDone()) {
+            if (scheduledFlush.getDelay(TimeUnit.MILLISECONDS) <= delayMs) {
+                return;
+            }
+            scheduledFlush.cancel(false);
+        }
+        scheduledFlush = executor.schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        scheduledFlush = null;
+        List<PendingVerification> batch = journal.pending(batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchCount.incrementAndGet();
+        String retryReason = null;
+        for (PendingVerification entry : batch) {
+            SubmitResult result;
+            try {
+                result = submitter.submit(entry);
+            } catch (IOException e) {
+                result = new SubmitResult(Outcome.RETRY, "", e.getMessage());
+            } catch (RuntimeException e) {
+                result = new SubmitResult(Outcome.RETRY, "", String.valueOf(e));
+            }
+            if (result.outcome == Outcome.RETRY) {
+                // 保持提交顺序，本批剩余记录留到下次
+                retryCount.incrementAndGet();
+                retryReason = result.message;
+                break;
+            }
+            // 每条处理完立即标记，进程中途被杀时已受理的记录不会再次提交
+            try {
+                journal.commit(Collections.singletonList(entry.id));
+            } catch (IOException e) {
+                // 标记未写入，该记录下次会再次提交
+                retryReason = "写入核销日志失败: " + e.getMessage();
+                break;
+            }
+            pendingCount = journal.pendingCount();
+            if (result.outcome == Outcome.ACCEPTED) {
+                acceptedCount.incrementAndGet();
+            } else {
+                rejectedCount.incrementAndGet();
+            }
+            Listener current = listener;
+            if (current != null) {
+                current.onSubmitted(entry, result);
+            }
+        }
+        pendingCount = journal.pendingCount();
+
+        if (retryReason != null) {
+            long delayMs = backoff.nextDelayMs();
+            nextRetryAt = System.currentTimeMillis() + delayMs;
+            scheduleFlush(delayMs);
+            Listener current = listener;
+            if (current != null) {
+                current.onBackoff(delayMs, pendingCount, retryReason);
+            }
+        } else {
+            backoff.reset();
+            nextRetryAt = 0;
+            if (pendingCount > 0) {
+                scheduleFlush(0);
+            }
+        }
+    }
+}
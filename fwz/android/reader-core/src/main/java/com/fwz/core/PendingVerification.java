@@ -0,0 +1,31 @@
+package com.fwz.core;
+
+/**
+ * 待提交的核销记录
+ * body 为核销接口的请求体（JSON字符串），原样提交
+ */
+public final class PendingVerification {
+    public static final String IDENTITY_CARD = "card";     // 实体社保卡
+    public static final String IDENTITY_QR = "qr";         // 电子社保卡二维码
+    public static final String IDENTITY_IDCARD = "idcard"; // 身份证
+    public static final String IDENTITY_ORDER = "order";   // 订单二维码
+
+    public final long id;
+    public final long createdAt;
+    public final String identityType;
+    public final String identity;
+    public final String orderId;
+    public final String busiSerial;
+    public final String body;
+
+    public PendingVerification(long id, long createdAt, String identityType, String identity,
+                               String orderId, String busiSerial, String body) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.identityType = identityType != null ? identityType : "";
+        this.identity = identity != null ? identity : "";
+        this.orderId = orderId != null ? orderId : "";
+        this.busiSerial = busiSerial != null ? busiSerial : "";
+        this.body = body != null ? body : "";
+    }
+}
@@ -0,0 +1,118 @@
+package com.fwz.core;
+
+/**
+ * 竖线分隔字段游标
+ * 在原字符串上按 '|' 逐个定位字段，不编译正则、不创建子串数组；
+ * 只有调用 {@link #field()} 时才为需要保留的字段创建字符串。实例可复用，非线程安全
+ */
+public final class PipeCursor {
+    private static final char SEPARATOR = '|';
+
+    private String source;
+    private int position;
+    private int fieldStart;
+    private int fieldEnd;
+    private int fieldIndex;
+
+    /**
+     * 重置游标到新的字符串开头
+     * @param source 竖线分隔的字符串，可为空
+     */
+    public PipeCursor reset(String source) {
+        this.source = source;
+        this.position = 0;
+        this.fieldStart = 0;
+        this.fieldEnd = 0;
+        this.fieldIndex = -1;
+        return this;
+    }
+
+    /**
+     * 移动到下一个字段
+     * 与 String.split 一致，末尾的空字段不计入
+     * @return 是否存在下一个字段
+     */
+    public boolean next() {
+        if (source == null || position > source.length()) {
+            return false;
+        }
+        int length = source.length();
+        if (position == length) {
+            // 已到末尾，最后一个分隔符之后没有内容
+            position = length + 1;
+            return false;
+        }
+        int end = source.indexOf(SEPARATOR, position);
+        if (end < 0) {
+            end = length;
+        }
+        fieldStart = position;
+        fieldEnd = end;
+        position = end + 1;
+        fieldIndex++;
+        if (fieldStart == fieldEnd && isTrailingEmpty()) {
+            position = length + 1;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 跳过若干字段
+     * @return 跳过后当前是否位于有效字段上
+     */
+    public boolean skip(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 当前字段的序号（从0开始）
+     */
+    public int index() {
+        return fieldIndex;
+    }
+
+    /**
+     * 当前字段内容，去除首尾空白
+     */
+    public String field() {
+        int start = fieldStart;
+        int end = fieldEnd;
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start == end ? "" : source.substring(start, end);
+    }
+
+    /**
+     * 当前字段是否为空（去除空白后）
+     */
+    public boolean isFieldEmpty() {
+        for (int i = fieldStart; i < fieldEnd; i++) {
+            if (source.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 当前空字段之后是否只剩空字段
+     */
+    private boolean isTrailingEmpty() {
+        for (int i = fieldEnd; i < source.length(); i++) {
+            if (source.charAt(i) != SEPARATOR) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
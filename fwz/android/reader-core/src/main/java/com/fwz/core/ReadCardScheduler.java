@@ -0,0 +1,208 @@
+package com.fwz.core;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 读卡命令调度器
+ * ReadCard.getOut()/getErr() 等结果为静态状态，所有后端访问必须经由此调度器串行执行；
+ * 调用与结果采集在同一个 card-io 线程上原子完成（见 {@link CardResult}），
+ * 命令按优先级排队（NFC实时刷卡优先于后台任务）
+ */
+public class ReadCardScheduler {
+
+    // 优先级，数值越小越优先
+    public static final int PRIORITY_NFC_TAP = 0;    // 实时NFC刷卡
+    public static final int PRIORITY_INTERACTIVE = 1; // JS发起的扫码校验、读卡、初始化
+    public static final int PRIORITY_BACKGROUND = 2;  // 批量/后台回流
+
+    private static final ReadCardScheduler INSTANCE = new ReadCardScheduler();
+
+    private final PriorityBlockingQueue<Command> queue = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong totalWaitMs = new AtomicLong();
+    private final AtomicLong maxWaitMs = new AtomicLong();
+    private final AtomicLong callbackErrorCount = new AtomicLong();
+    private volatile ErrorHandler errorHandler;
+
+    /**
+     * 后端命令，在 card-io 线程上执行
+     */
+    public interface Work {
+        CardResult run() throws Exception;
+    }
+
+    /**
+     * 命令完成回调，在 card-io 线程上执行
+     */
+    public interface Callback {
+        void onComplete(Outcome outcome);
+    }
+
+    /**
+     * 完成回调抛出异常（含 Error）时的处理（如写日志），在 card-io 线程上执行
+     */
+    public interface ErrorHandler {
+        void onCallbackError(String commandName, Throwable error);
+    }
+
+    /**
+     * 命令执行结果，附带排队与执行耗时
+     */
+    public static class Outcome {
+        public final int resultCode;
+        public final String errorInfo;
+        public final String resultInfo;
+        public final long waitMs;
+        public final long execMs;
+        public final int queueDepth;
+
+        Outcome(int resultCode, String errorInfo, String resultInfo, long waitMs, long execMs, int queueDepth) {
+            this.resultCode = resultCode;
+            this.errorInfo = errorInfo;
+            this.resultInfo = resultInfo;
+            this.waitMs = waitMs;
+            this.execMs = execMs;
+            this.queueDepth = queueDepth;
+        }
+    }
+
+    private static class Command implements Comparable<Command> {
+        final String name;
+        final int priority;
+        final long seq;
+        final long enqueuedAt;
+        final int queueDepth;
+        final Work work;
+        final Callback callback;
+
+        Command(String name, int priority, long seq, int queueDepth, Work work, Callback callback) {
+            this.name = name;
+            this.priority = priority;
+            this.seq = seq;
+            this.enqueuedAt = System.nanoTime();
+            this.queueDepth = queueDepth;
+            this.work = work;
+            this.callback = callback;
+        }
+
+        @Override
+        public int compareTo(Command other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(seq, other.seq);
+        }
+    }
+
+    private ReadCardScheduler() {
+        this("card-io");
+    }
+
+    /**
+     * 创建独立的调度器（压测等场景），应用内统一使用 {@link #getInstance()}
+     * @param threadName 工作线程名
+     */
+    public ReadCardScheduler(String threadName) {
+        Thread worker = new Thread(this::loop, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public static ReadCardScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 提交SDK命令
+     * @param name 命令名称
+     * @param priority 优先级
+     * @param work 后端调用
+     * @param callback 完成回调
+     */
+    public void submit(String name, int priority, Work work, Callback callback) {
+        queue.add(new Command(name, priority, sequence.incrementAndGet(), queue.size(), work, callback));
+    }
+
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 当前排队中的命令数
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * 完成回调抛出异常的次数
+     */
+    public long getCallbackErrorCount() {
+        return callbackErrorCount.get();
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs.get();
+    }
+
+    public double getAverageWaitMs() {
+        long executed = executedCount.get();
+        return executed == 0 ? 0 : (double) totalWaitMs.get() / executed;
+    }
+
+    private void loop() {
+        while (true) {
+            Command command;
+            try {
+                command = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            execute(command);
+        }
+    }
+
+    private void execute(Command command) {
+        long startedAt = System.nanoTime();
+        long waitMs = (startedAt - command.enqueuedAt) / 1_000_000;
+
+        CardResult result;
+        try {
+            result = command.work.run();
+        } catch (Throwable e) {
+            // 本地库缺失等 Error 同样转为失败结果，不能中断 card-io 线程
+            result = CardResult.error(-1, command.name + " 执行异常: " + e);
+        }
+        if (result == null) {
+            result = CardResult.error(-1, command.name + " 未返回结果");
+        }
+        long execMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        executedCount.incrementAndGet();
+        totalWaitMs.addAndGet(waitMs);
+        long max;
+        while (waitMs > (max = maxWaitMs.get()) && !maxWaitMs.compareAndSet(max, waitMs)) {
+            // 重试直到更新成功
+        }
+
+        if (command.callback != null) {
+            try {
+                command.callback.onComplete(new Outcome(result.resultCode, result.errorInfo,
+                        result.resultInfo, waitMs, execMs, command.queueDepth));
+            } catch (Throwable e) {
+                // 回调异常不能中断 card-io 线程
+                callbackErrorCount.incrementAndGet();
+                ErrorHandler handler = errorHandler;
+                if (handler != null) {
+                    handler.onCallbackError(command.name, e);
+                }
+            }
+        }
+    }
+}
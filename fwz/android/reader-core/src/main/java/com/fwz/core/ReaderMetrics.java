@@ -0,0 +1,114 @@
+package com.fwz.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 核验链路分阶段延迟统计
+ * 按 读卡路径 x 阶段 维护 {@link LatencyHistogram}，进程内全局单例
+ */
+public final class ReaderMetrics {
+
+    /**
+     * 读卡路径
+     */
+    public enum Path {
+        SOCIAL_CARD("socialCard"),
+        ID_CARD("idCard"),
+        ESS_QR("essQr");
+
+        public final String key;
+
+        Path(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 阶段
+     */
+    public enum Stage {
+        TAG_DISCOVERED("tagDiscovered"), // 标签到达 -> 开始处理
+        SDK_INIT("sdkInit"),             // SDK初始化
+        SDK_READ("sdkRead"),             // SDK读卡
+        DECODE_SERVER("decodeServer"),   // 解码服务器往返（身份证解码、电子社保卡二维码校验）
+        JSON_PARSE("jsonParse"),         // 结果解析（JSON或竖线分隔结果）
+        PHOTO("photo"),                  // 照片处理
+        BRIDGE_EMIT("bridgeEmit");       // 发送到JS
+
+        public final String key;
+
+        Stage(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final ReaderMetrics INSTANCE = new ReaderMetrics();
+
+    private final LatencyHistogram[][] histograms =
+            new LatencyHistogram[Path.values().length][Stage.values().length];
+    private volatile long resetAtMillis = System.currentTimeMillis();
+
+    private ReaderMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            for (int j = 0; j < histograms[i].length; j++) {
+                histograms[i][j] = new LatencyHistogram();
+            }
+        }
+    }
+
+    public static ReaderMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 记录阶段耗时
+     * @param nanos 耗时（纳秒）
+     */
+    public void record(Path path, Stage stage, long nanos) {
+        histograms[path.ordinal()][stage.ordinal()].recordNanos(nanos);
+    }
+
+    /**
+     * 记录从 startNanos（System.nanoTime()）到现在的耗时
+     */
+    public void recordSince(Path path, Stage stage, long startNanos) {
+        record(path, stage, System.nanoTime() - startNanos);
+    }
+
+    public LatencyHistogram histogram(Path path, Stage stage) {
+        return histograms[path.ordinal()][stage.ordinal()];
+    }
+
+    /**
+     * 导出快照，只包含有数据的阶段
+     * 结构：{ since, socialCard: { sdkRead: {count, meanMs, p50Ms, p95Ms, p99Ms, maxMs}, ... }, ... }
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("since", (double) resetAtMillis);
+        for (Path path : Path.values()) {
+            Map<String, Object> stages = new LinkedHashMap<>();
+            for (Stage stage : Stage.values()) {
+                LatencyHistogram histogram = histogram(path, stage);
+                if (histogram.getCount() > 0) {
+                    stages.put(stage.key, histogram.snapshot());
+                }
+            }
+            result.put(path.key, stages);
+        }
+        return result;
+    }
+
+    /**
+     * 清空所有统计（如换班时）
+     */
+    public void reset() {
+        for (LatencyHistogram[] row : histograms) {
+            for (LatencyHistogram histogram : row) {
+                histogram.reset();
+            }
+        }
+        resetAtMillis = System.currentTimeMillis();
+    }
+}
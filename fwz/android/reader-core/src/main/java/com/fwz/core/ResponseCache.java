@@ -0,0 +1,170 @@
+package com.fwz.core;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 两级接口响应缓存：内存LRU + 磁盘
+ * 内存层按估算字节数限制容量，未命中时读取磁盘层并回填内存；
+ * 过期条目保留用于条件请求，服务端返回304时刷新有效期并复用缓存内容
+ */
+public final class ResponseCache {
+    private final long maxMemoryBytes;
+    private final DiskLruStore disk;
+    private final LinkedHashMap<String, CacheEntry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes = 0;
+    // 每次失效（invalidatePrefix/clear）加一，磁盘读取期间发生失效时不回填内存
+    private long generation = 0;
+
+    // 统计
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * @param disk 磁盘层，可为null（只使用内存缓存）
+     */
+    public ResponseCache(long maxMemoryBytes, DiskLruStore disk) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.disk = disk;
+    }
+
+    /**
+     * 查找缓存（含已过期条目），不计入统计
+     */
+    public CacheEntry lookup(String key) {
+        long readGeneration;
+        synchronized (this) {
+            CacheEntry entry = memory.get(key);
+            if (entry != null) {
+                return entry;
+            }
+            readGeneration = generation;
+        }
+        if (disk == null) {
+            return null;
+        }
+        CacheEntry entry = disk.get(key);
+        if (entry != null) {
+            diskHits.incrementAndGet();
+            synchronized (this) {
+                if (generation == readGeneration) {
+                    putMemory(entry);
+                }
+            }
+        }
+        return entry;
+    }
+
+    public void put(CacheEntry entry) {
+        putMemory(entry);
+        if (disk != null) {
+            try {
+                disk.put(entry);
+            } catch (IOException e) {
+                // 磁盘写入失败只影响持久化，内存缓存仍然有效
+            }
+        }
+    }
+
+    /**
+     * 删除key以指定前缀开头的条目（如核销后清除该接口的缓存）
+     */
+    public void invalidatePrefix(String prefix) {
+        // 先删磁盘再删内存：期间从磁盘读到旧条目的 lookup 要么已回填（随后被删除），要么因代数变化不再回填
+        if (disk != null) {
+            disk.removeByPrefix(prefix);
+        }
+        synchronized (this) {
+            generation++;
+            Iterator<Map.Entry<String, CacheEntry>> iterator = memory.entrySet().iterator();
+            while (iterator.hasNext()) {
+                CacheEntry entry = iterator.next().getValue();
+                if (entry.key.startsWith(prefix)) {
+                    memoryBytes -= entry.weight();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        if (disk != null) {
+            disk.clear();
+        }
+        synchronized (this) {
+            generation++;
+            memory.clear();
+            memoryBytes = 0;
+        }
+    }
+
+    /**
+     * 记录未过期命中
+     */
+    public void recordHit(CacheEntry entry) {
+        hits.incrementAndGet();
+        bytesSaved.addAndGet(entry.body.length());
+    }
+
+    /**
+     * 记录304重新验证
+     */
+    public void recordRevalidated(CacheEntry entry) {
+        revalidated.incrementAndGet();
+        bytesSaved.addAndGet(entry.body.length());
+    }
+
+    public void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * 缓存统计
+     * @return { hits, revalidated, misses, hitRatio, bytesSaved, diskHits, memoryEntries, memoryBytes, diskEntries, diskBytes }
+     */
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.get();
+        long revalidatedCount = revalidated.get();
+        long total = hitCount + revalidatedCount + misses.get();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", (double) hitCount);
+        stats.put("revalidated", (double) revalidatedCount);
+        stats.put("misses", (double) misses.get());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) (hitCount + revalidatedCount) / total);
+        stats.put("bytesSaved", (double) bytesSaved.get());
+        stats.put("diskHits", (double) diskHits.get());
+        synchronized (this) {
+            stats.put("memoryEntries", memory.size());
+            stats.put("memoryBytes", (double) memoryBytes);
+        }
+        if (disk != null) {
+            stats.put("diskEntries", disk.count());
+            stats.put("diskBytes", (double) disk.size());
+        }
+        return stats;
+    }
+
+    private synchronized void putMemory(CacheEntry entry) {
+        CacheEntry previous = memory.put(entry.key, entry);
+        if (previous != null) {
+            memoryBytes -= previous.weight();
+        }
+        memoryBytes += entry.weight();
+        Iterator<Map.Entry<String, CacheEntry>> iterator = memory.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+            if (eldest == entry) {
+                break;
+            }
+            memoryBytes -= eldest.weight();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fwz.core;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 按天与大小轮转的日志目录
+ * 写入方按天追加到 yyyy-MM-dd.txt（TSLOG 的命名方式），本类只做维护：当天文件超过 maxFileBytes 时改名为
+ * yyyy-MM-dd.N.txt，删除超过 maxAgeDays 的文件，总大小超过 maxTotalBytes 时从最早的文件开始删除。
+ * 由调用方在后台线程定期调用 {@link #maintain(long)}
+ */
+public final class RotatingLogDirectory {
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+    private static final String SUFFIX = ".txt";
+
+    private final File dir;
+    private final long maxFileBytes;
+    private final int maxAgeDays;
+    private final long maxTotalBytes;
+
+    // 统计
+    private long rotatedCount = 0;
+    private long deletedCount = 0;
+    private long deletedBytes = 0;
+
+    /**
+     * 单次维护结果
+     */
+    public static final class Result {
+        public final boolean rotated;
+        public final int deletedFiles;
+        public final int fileCount;
+        public final long totalBytes;
+
+        Result(boolean rotated, int deletedFiles, int fileCount, long totalBytes) {
+            this.rotated = rotated;
+            this.deletedFiles = deletedFiles;
+            this.fileCount = fileCount;
+            this.totalBytes = totalBytes;
+        }
+    }
+
+    public RotatingLogDirectory(File dir, long maxFileBytes, int maxAgeDays, long maxTotalBytes) {
+        this.dir = dir;
+        this.maxFileBytes = maxFileBytes;
+        this.maxAgeDays = maxAgeDays;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    /**
+     * 当天的日志文件名
+     */
+    public static String activeFileName(long nowMs) {
+        return new SimpleDateFormat("yyyy-MM-dd", Locale.US).format(new Date(nowMs)) + SUFFIX;
+    }
+
+    public synchronized Result maintain(long nowMs) {
+        String activeName = activeFileName(nowMs);
+        boolean rotated = rotateIfOversized(new File(dir, activeName));
+
+        List<File> files = listLogFiles();
+        int deleted = 0;
+        long totalBytes = 0;
+        long cutoff = nowMs - maxAgeDays * DAY_MS;
+        List<File> kept = new ArrayList<>(files.size());
+        for (File file : files) {
+            if (!file.getName().equals(activeName) && file.lastModified() < cutoff) {
+                if (delete(file)) {
+                    deleted++;
+                    continue;
+                }
+            }
+            kept.add(file);
+            totalBytes += file.length();
+        }
+        // 超过总大小上限时从最早的文件开始删除，当天文件保留
+        for (File file : kept) {
+            if (totalBytes <= maxTotalBytes) {
+                break;
+            }
+            if (file.getName().equals(activeName)) {
+                continue;
+            }
+            long length = file.length();
+            if (delete(file)) {
+                deleted++;
+                totalBytes -= length;
+            }
+        }
+        return new Result(rotated, deleted, listLogFiles().size(), totalBytes);
+    }
+
+    private boolean rotateIfOversized(File active) {
+        if (!active.isFile() || active.length() <= maxFileBytes) {
+            return false;
+        }
+        String base = active.getName().substring(0, active.getName().length() - SUFFIX.length());
+        for (int index = 1; index < 1000; index++) {
+            File target = new File(dir, base + "." + index + SUFFIX);
+            if (!target.exists()) {
+                if (active.renameTo(target)) {
+                    rotatedCount++;
+                    return true;
+                }
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按修改时间从早到晚排序的日志文件
+     */
+    private List<File> listLogFiles() {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SUFFIX));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        List<File> list = new ArrayList<>(Arrays.asList(files));
+        Collections.sort(list, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        return list;
+    }
+
+    private boolean delete(File file) {
+        long length = file.length();
+        if (file.delete()) {
+            deletedCount++;
+            deletedBytes += length;
+            return true;
+        }
+        return false;
+    }
+
+    public File getDir() {
+        return dir;
+    }
+
+    public synchronized long getRotatedCount() {
+        return rotatedCount;
+    }
+
+    public synchronized long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public synchronized long getDeletedBytes() {
+        return deletedBytes;
+    }
+}
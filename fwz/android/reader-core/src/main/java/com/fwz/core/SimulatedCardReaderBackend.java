@@ -0,0 +1,248 @@
+package com.fwz.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 模拟读卡后端
+ * 按配置的延迟分布与错误率返回录制的结果，无需真实卡片、NFC与 tecsun/sunrise 服务端即可压测整条链路。
+ * 同步调用在调用线程上休眠模拟延迟；身份证读取在独立线程上异步回调
+ *
+ * @param <T> NFC标签类型，模拟后端不使用
+ */
+public final class SimulatedCardReaderBackend<T> implements CardReaderBackend<T> {
+    public static final int ERROR_SIMULATED = -1;
+    public static final int ERROR_SESSION_EXPIRED = -2;
+    public static final String SESSION_EXPIRED_MESSAGE = "会话已失效，请重新初始化";
+
+    private final LatencyModel initLatency;
+    private final LatencyModel socialCardLatency;
+    private final LatencyModel essCardLatency;
+    private final LatencyModel idCardLatency;
+    private final double errorRate;
+    private final double sessionExpiryRate;
+    private final double timeScale;
+    private final List<String> socialCardPayloads;
+    private final List<String> essQrPayloads;
+    private final List<String> idCardPayloads;
+    private final Random random;
+    private final ExecutorService idCardExecutor;
+
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong payloadIndex = new AtomicLong();
+
+    private SimulatedCardReaderBackend(Builder<T> builder) {
+        this.initLatency = builder.initLatency;
+        this.socialCardLatency = builder.socialCardLatency;
+        this.essCardLatency = builder.essCardLatency;
+        this.idCardLatency = builder.idCardLatency;
+        this.errorRate = builder.errorRate;
+        this.sessionExpiryRate = builder.sessionExpiryRate;
+        this.timeScale = builder.timeScale;
+        this.socialCardPayloads = Collections.unmodifiableList(new ArrayList<>(builder.socialCardPayloads));
+        this.essQrPayloads = Collections.unmodifiableList(new ArrayList<>(builder.essQrPayloads));
+        this.idCardPayloads = Collections.unmodifiableList(new ArrayList<>(builder.idCardPayloads));
+        this.random = new Random(builder.seed);
+        this.idCardExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "sim-idcard");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public CardResult init(String url, String platformId) {
+        callCount.incrementAndGet();
+        sleep(initLatency);
+        return CardResult.ok();
+    }
+
+    @Override
+    public CardResult readSocialCard(T tag, int iType, String sceneCode) {
+        return simulate(socialCardLatency, socialCardPayloads);
+    }
+
+    @Override
+    public CardResult checkEssCard(String qrCode, String businessType) {
+        return simulate(essCardLatency, essQrPayloads);
+    }
+
+    @Override
+    public void readIdCard(T tag, IdCardCallback callback) {
+        idCardExecutor.execute(() -> {
+            callback.onProgress(25);
+            CardResult result = simulate(idCardLatency, idCardPayloads);
+            if (result.isSuccess()) {
+                callback.onSuccess(result.resultInfo);
+            } else {
+                callback.onError(result.resultCode, result.errorInfo);
+            }
+        });
+    }
+
+    @Override
+    public boolean isSessionExpired(CardResult result) {
+        return result.resultCode == ERROR_SESSION_EXPIRED;
+    }
+
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    private CardResult simulate(LatencyModel latency, List<String> payloads) {
+        callCount.incrementAndGet();
+        sleep(latency);
+        double roll;
+        synchronized (random) {
+            roll = random.nextDouble();
+        }
+        if (roll < sessionExpiryRate) {
+            errorCount.incrementAndGet();
+            return CardResult.error(ERROR_SESSION_EXPIRED, SESSION_EXPIRED_MESSAGE);
+        }
+        if (roll < sessionExpiryRate + errorRate) {
+            errorCount.incrementAndGet();
+            return CardResult.error(ERROR_SIMULATED, "模拟读卡失败");
+        }
+        if (payloads.isEmpty()) {
+            return CardResult.ok();
+        }
+        String payload = payloads.get((int) (payloadIndex.getAndIncrement() % payloads.size()));
+        return new CardResult(0, "", payload);
+    }
+
+    private void sleep(LatencyModel latency) {
+        long ms;
+        synchronized (random) {
+            ms = latency.sampleMs(random);
+        }
+        long scaled = Math.round(ms * timeScale);
+        if (scaled <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(scaled);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 模拟后端配置
+     * 默认延迟取现场实测的量级，录制结果为测试数据（非真实证件信息）
+     */
+    public static final class Builder<T> {
+        private LatencyModel initLatency = LatencyModel.logNormal(300, 900);
+        private LatencyModel socialCardLatency = LatencyModel.logNormal(800, 2000);
+        private LatencyModel essCardLatency = LatencyModel.logNormal(400, 1200);
+        private LatencyModel idCardLatency = LatencyModel.logNormal(1200, 3000);
+        private double errorRate = 0.02;
+        private double sessionExpiryRate = 0.0;
+        private double timeScale = 1.0;
+        private List<String> socialCardPayloads = Arrays.asList(
+                "440100|440101199001011234|A12345678|440100D15600000512345678|张三|"
+                        + "008C8002B0E8A12345678900000000|3.00|20200101|20300101|T0001|D0001|");
+        private List<String> essQrPayloads = Arrays.asList("440100|1|张三|440101199001011234|20250716|");
+        private List<String> idCardPayloads = Arrays.asList(
+                "{\"name\":\"张三\",\"gender\":\"男\",\"nation\":\"汉\",\"birthday\":\"19900101\","
+                        + "\"address\":\"广东省广州市天河区某某路1号\",\"idNum\":\"440101199001011234\","
+                        + "\"issueOrg\":\"广州市公安局天河分局\",\"effectDate\":\"20200101\","
+                        + "\"expireDate\":\"20400101\",\"photo\":\"\",\"idType\":\"\",\"dn\":\"0123456789ABCDEF\"}");
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        public Builder<T> initLatency(LatencyModel latency) {
+            this.initLatency = latency;
+            return this;
+        }
+
+        public Builder<T> socialCardLatency(LatencyModel latency) {
+            this.socialCardLatency = latency;
+            return this;
+        }
+
+        public Builder<T> essCardLatency(LatencyModel latency) {
+            this.essCardLatency = latency;
+            return this;
+        }
+
+        public Builder<T> idCardLatency(LatencyModel latency) {
+            this.idCardLatency = latency;
+            return this;
+        }
+
+        /**
+         * 普通错误率（0~1）
+         */
+        public Builder<T> errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * 会话失效错误率（0~1），用于覆盖 CardSession 的重新初始化重试
+         */
+        public Builder<T> sessionExpiryRate(double sessionExpiryRate) {
+            this.sessionExpiryRate = sessionExpiryRate;
+            return this;
+        }
+
+        /**
+         * 延迟缩放系数，压测时可小于1以压缩墙钟时间
+         */
+        public Builder<T> timeScale(double timeScale) {
+            this.timeScale = timeScale;
+            return this;
+        }
+
+        /**
+         * 录制的 iReadCardBas getOut() 结果，按顺序循环返回
+         */
+        public Builder<T> socialCardPayloads(List<String> payloads) {
+            this.socialCardPayloads = payloads;
+            return this;
+        }
+
+        /**
+         * 录制的 iCheckESSCard getOut() 结果，按顺序循环返回
+         */
+        public Builder<T> essQrPayloads(List<String> payloads) {
+            this.essQrPayloads = payloads;
+            return this;
+        }
+
+        /**
+         * 录制的 readIDCardByJson 结果，按顺序循环返回
+         */
+        public Builder<T> idCardPayloads(List<String> payloads) {
+            this.idCardPayloads = payloads;
+            return this;
+        }
+
+        public Builder<T> seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SimulatedCardReaderBackend<T> build() {
+            return new SimulatedCardReaderBackend<>(this);
+        }
+    }
+}
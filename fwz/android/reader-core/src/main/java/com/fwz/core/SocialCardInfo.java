@@ -0,0 +1,47 @@
+package com.fwz.core;
+
+/**
+ * 实体社保卡基本信息（iReadCardBas 的 getOut() 结果）
+ * 字段顺序：发卡地区行政区划代码|社会保障号码|卡号|卡识别码|姓名|卡复位信息|规范版本|发卡日期|卡有效期|终端机编号|终端设备号|
+ * 缺失的字段为空字符串。实例可复用，每次解析前会被清空
+ */
+public final class SocialCardInfo {
+    public static final int FIELD_COUNT = 11;
+
+    public String areaCode = "";             // 发卡地区行政区划代码
+    public String socialSecurityNumber = ""; // 社会保障号码（身份证号）
+    public String cardNumber = "";           // 卡号
+    public String cardIdentifier = "";       // 卡识别码
+    public String name = "";                 // 姓名
+    public String cardResetInfo = "";        // 卡复位信息
+    public String specVersion = "";          // 规范版本
+    public String issueDate = "";            // 发卡日期
+    public String expireDate = "";           // 卡有效期
+    public String terminalNumber = "";       // 终端机编号
+    public String terminalDeviceNumber = ""; // 终端设备号
+
+    // 实际解析到的字段数
+    public int fieldCount = 0;
+
+    /**
+     * 是否包含完整的基本信息
+     */
+    public boolean isComplete() {
+        return fieldCount >= FIELD_COUNT;
+    }
+
+    void clear() {
+        areaCode = "";
+        socialSecurityNumber = "";
+        cardNumber = "";
+        cardIdentifier = "";
+        name = "";
+        cardResetInfo = "";
+        specVersion = "";
+        issueDate = "";
+        expireDate = "";
+        terminalNumber = "";
+        terminalDeviceNumber = "";
+        fieldCount = 0;
+    }
+}
@@ -0,0 +1,197 @@
+package com.fwz.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 冷启动阶段记录
+ * 阶段（span）带单调时钟的起止时间，同一线程上未结束的阶段自动作为父阶段，其它线程上的阶段挂在根下；
+ * 时间均以 originNanos（进程启动）为零点输出毫秒
+ */
+public final class StartupTrace {
+    public static final int ROOT_ID = 0;
+    private static final int MAX_SPANS = 256;
+
+    private final LongSupplier clockNanos;
+    private final long originNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private final ThreadLocal<ArrayDeque<Span>> openSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private int nextId = ROOT_ID + 1;
+
+    /**
+     * 单个阶段，调用 {@link #end()} 结束；支持 try-with-resources
+     */
+    public final class Span implements AutoCloseable {
+        public final int id;
+        public final int parentId;
+        public final String name;
+        public final String thread;
+        public final long startNanos;
+        private volatile long endNanos = -1;
+        private final boolean onStack;
+
+        Span(int id, int parentId, String name, long startNanos, long endNanos, boolean onStack) {
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.onStack = onStack;
+        }
+
+        public void end() {
+            if (endNanos >= 0) {
+                return;
+            }
+            endNanos = clockNanos.getAsLong();
+            if (onStack) {
+                ArrayDeque<Span> stack = openSpans.get();
+                // 子阶段未结束时一并出栈，避免错误的嵌套延续下去
+                while (!stack.isEmpty()) {
+                    if (stack.pop() == this) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        public boolean isEnded() {
+            return endNanos >= 0;
+        }
+
+        @Override
+        public void close() {
+            end();
+        }
+    }
+
+    public StartupTrace(LongSupplier clockNanos, long originNanos) {
+        this.clockNanos = clockNanos;
+        this.originNanos = originNanos;
+    }
+
+    /**
+     * 开始阶段，父阶段为当前线程上最近一个未结束的阶段
+     */
+    public Span begin(String name) {
+        ArrayDeque<Span> stack = openSpans.get();
+        Span parent = stack.peek();
+        Span span = add(name, parent != null ? parent.id : ROOT_ID, clockNanos.getAsLong(), -1, true);
+        if (span != null) {
+            stack.push(span);
+        }
+        return span != null ? span : detachedSpan(name);
+    }
+
+    /**
+     * 记录已知起止时间的阶段（如进程启动到 Application.onCreate）
+     */
+    public void record(String name, long startNanos, long endNanos) {
+        add(name, ROOT_ID, startNanos, endNanos, false);
+    }
+
+    /**
+     * 记录时间点（起止相同），如JS首帧渲染
+     */
+    public void mark(String name) {
+        long now = clockNanos.getAsLong();
+        ArrayDeque<Span> stack = openSpans.get();
+        Span parent = stack.peek();
+        add(name, parent != null ? parent.id : ROOT_ID, now, now, false);
+    }
+
+    private synchronized Span add(String name, int parentId, long startNanos, long endNanos, boolean onStack) {
+        if (spans.size() >= MAX_SPANS) {
+            return null;
+        }
+        Span span = new Span(nextId++, parentId, name, startNanos, endNanos, onStack);
+        spans.add(span);
+        return span;
+    }
+
+    /**
+     * 超出上限时返回不记录的阶段，调用方无需判空
+     */
+    private Span detachedSpan(String name) {
+        return new Span(-1, ROOT_ID, name, clockNanos.getAsLong(), -1, false);
+    }
+
+    /**
+     * 从进程启动到现在的毫秒数
+     */
+    public double elapsedMs() {
+        return toMs(clockNanos.getAsLong());
+    }
+
+    private double toMs(long nanos) {
+        return Math.round((nanos - originNanos) / 10_000.0) / 100.0;
+    }
+
+    /**
+     * 阶段列表，按开始顺序：[{ id, parentId, name, thread, startMs, endMs, durationMs }]，未结束的阶段 endMs 为 -1
+     */
+    public synchronized List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> result = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", span.id);
+            item.put("parentId", span.parentId);
+            item.put("name", span.name);
+            item.put("thread", span.thread);
+            double startMs = toMs(span.startNanos);
+            item.put("startMs", startMs);
+            long end = span.endNanos;
+            item.put("endMs", end >= 0 ? toMs(end) : -1.0);
+            item.put("durationMs", end >= 0 ? Math.round((end - span.startNanos) / 10_000.0) / 100.0 : -1.0);
+            result.add(item);
+        }
+        return result;
+    }
+
+    /**
+     * 序列化为JSON数组（持久化用）
+     */
+    public String toJson() {
+        List<Map<String, Object>> items = snapshot();
+        StringBuilder sb = new StringBuilder(items.size() * 96 + 2);
+        sb.append('[');
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Object> item = items.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(item.get("id"))
+                    .append(",\"parentId\":").append(item.get("parentId"))
+                    .append(",\"name\":");
+            appendString(sb, (String) item.get("name"));
+            sb.append(",\"thread\":");
+            appendString(sb, (String) item.get("thread"));
+            sb.append(",\"startMs\":").append(item.get("startMs"))
+                    .append(",\"endMs\":").append(item.get("endMs"))
+                    .append(",\"durationMs\":").append(item.get("durationMs"))
+                    .append('}');
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+}
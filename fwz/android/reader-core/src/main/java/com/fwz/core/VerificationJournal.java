@@ -0,0 +1,277 @@
+package com.fwz.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 核销记录追加日志
+ * 每条记录一行：追加记录（A）与已提交标记（C），行首为记录内容的CRC32，每次写入后 fsync，进程被杀或断电后可从日志恢复待提交记录；
+ * 已提交标记累积到一定数量后重写日志只保留待提交记录。
+ * 加载时丢弃没有换行结尾（写入中途崩溃）或校验失败的记录，并重写日志去掉这些残留，避免后续追加的记录与其拼接。
+ * 线程安全：追加在调用线程上，提交标记在 {@link OfflineVerificationQueue} 的刷新线程上
+ */
+public final class VerificationJournal {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String RECORD_APPEND = "A";
+    private static final String RECORD_COMMIT = "C";
+    private static final int APPEND_FIELDS = 8;
+    private static final int COMPACT_THRESHOLD = 64;
+
+    private final File file;
+    private final Map<Long, PendingVerification> pending = new LinkedHashMap<>();
+    private long nextId = 1;
+    private int commitsSinceCompaction = 0;
+    // 加载时丢弃的不完整/损坏记录数
+    private int droppedRecords = 0;
+
+    public VerificationJournal(File file) throws IOException {
+        this.file = file;
+        File dir = file.getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("无法创建目录: " + dir);
+        }
+        load();
+        if (commitsSinceCompaction > 0 || droppedRecords > 0) {
+            compact();
+        }
+    }
+
+    /**
+     * 追加一条待提交记录
+     * @return 带有日志分配的id的记录
+     */
+    public synchronized PendingVerification append(long createdAt, String identityType, String identity,
+                                      String orderId, String busiSerial, String body) throws IOException {
+        PendingVerification entry = new PendingVerification(nextId, createdAt, identityType, identity,
+                orderId, busiSerial, body);
+        StringBuilder line = new StringBuilder(80 + entry.body.length());
+        appendRecord(line, entry);
+        write(line.toString(), true);
+        nextId++;
+        pending.put(entry.id, entry);
+        return entry;
+    }
+
+    /**
+     * 标记记录已提交（一次写入）
+     */
+    public synchronized void commit(Collection<Long> ids) throws IOException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder(ids.size() * 24);
+        for (Long id : ids) {
+            appendChecked(lines, RECORD_COMMIT + "\t" + id);
+        }
+        write(lines.toString(), true);
+        for (Long id : ids) {
+            pending.remove(id);
+        }
+        commitsSinceCompaction += ids.size();
+        if (commitsSinceCompaction >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    /**
+     * 按追加顺序取出待提交记录
+     * @param limit 最多返回的条数
+     */
+    public synchronized List<PendingVerification> pending(int limit) {
+        List<PendingVerification> result = new ArrayList<>(Math.min(limit, pending.size()));
+        for (PendingVerification entry : pending.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 加载时丢弃的不完整或校验失败的记录数
+     */
+    public synchronized int getDroppedRecords() {
+        return droppedRecords;
+    }
+
+    private void load() throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        byte[] data = Files.readAllBytes(file.toPath());
+        int start = 0;
+        while (start < data.length) {
+            int end = start;
+            while (end < data.length && data[end] != '\n') {
+                end++;
+            }
+            if (end == data.length) {
+                // 没有换行结尾：写入中途崩溃留下的残缺记录
+                droppedRecords++;
+                break;
+            }
+            String record = verify(new String(data, start, end - start, UTF_8));
+            if (record == null || !apply(record)) {
+                droppedRecords++;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 校验行首的CRC32
+     * @return 记录内容，校验失败时返回 null
+     */
+    private static String verify(String line) {
+        int tab = line.indexOf('\t');
+        if (tab != 8) {
+            return null;
+        }
+        String record = line.substring(tab + 1);
+        try {
+            if (Long.parseLong(line.substring(0, tab), 16) != crc(record)) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return record;
+    }
+
+    private boolean apply(String record) {
+        String[] fields = record.split("\t", -1);
+        try {
+            if (RECORD_APPEND.equals(fields[0]) && fields.length == APPEND_FIELDS) {
+                long id = Long.parseLong(fields[1]);
+                pending.put(id, new PendingVerification(id, Long.parseLong(fields[2]),
+                        unescape(fields[3]), unescape(fields[4]), unescape(fields[5]),
+                        unescape(fields[6]), unescape(fields[7])));
+                nextId = Math.max(nextId, id + 1);
+                return true;
+            }
+            if (RECORD_COMMIT.equals(fields[0]) && fields.length == 2) {
+                pending.remove(Long.parseLong(fields[1]));
+                commitsSinceCompaction++;
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * 重写日志，只保留待提交记录
+     * 先写临时文件并 fsync，再替换原日志
+     */
+    private void compact() throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        StringBuilder content = new StringBuilder();
+        for (PendingVerification entry : pending.values()) {
+            appendRecord(content, entry);
+        }
+        try (FileOutputStream out = new FileOutputStream(tmp, false)) {
+            out.write(content.toString().getBytes(UTF_8));
+            out.getFD().sync();
+        }
+        if (!tmp.renameTo(file)) {
+            throw new IOException("替换日志失败: " + file);
+        }
+        commitsSinceCompaction = 0;
+    }
+
+    private void write(String text, boolean append) throws IOException {
+        long length = file.length();
+        try (FileOutputStream out = new FileOutputStream(file, append)) {
+            out.write(text.getBytes(UTF_8));
+            out.getFD().sync();
+        } catch (IOException e) {
+            // 截掉写了一半的记录，避免下一条追加与其拼接
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                out.getChannel().truncate(length);
+            } catch (IOException ignored) {
+                // 加载时会丢弃残缺记录
+            }
+            throw e;
+        }
+    }
+
+    private static void appendRecord(StringBuilder sb, PendingVerification entry) {
+        StringBuilder record = new StringBuilder(64 + entry.body.length());
+        record.append(RECORD_APPEND).append('\t').append(entry.id).append('\t').append(entry.createdAt);
+        appendField(record, entry.identityType);
+        appendField(record, entry.identity);
+        appendField(record, entry.orderId);
+        appendField(record, entry.busiSerial);
+        appendField(record, entry.body);
+        appendChecked(sb, record.toString());
+    }
+
+    /**
+     * 写入一行：8位十六进制CRC32、制表符、记录内容、换行
+     */
+    private static void appendChecked(StringBuilder sb, String record) {
+        String checksum = Long.toHexString(crc(record));
+        for (int i = checksum.length(); i < 8; i++) {
+            sb.append('0');
+        }
+        sb.append(checksum).append('\t').append(record).append('\n');
+    }
+
+    private static long crc(String record) {
+        CRC32 crc = new CRC32();
+        byte[] bytes = record.getBytes(UTF_8);
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    private static void appendField(StringBuilder sb, String value) {
+        sb.append('\t');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c); break;
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default: sb.append(next); break;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.fwz.core;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.junit.Assert.assertEquals;
+
+public class CardSessionTest {
+
+    /**
+     * 按顺序返回预设结果的后端，记录调用次数
+     */
+    private static final class ScriptedBackend implements CardReaderBackend<Object> {
+        final Deque<CardResult> initResults = new ArrayDeque<>();
+        final Deque<CardResult> callResults = new ArrayDeque<>();
+        int initCount = 0;
+        int callCount = 0;
+
+        @Override
+        public CardResult init(String url, String platformId) {
+            initCount++;
+            return initResults.isEmpty() ? CardResult.ok() : initResults.poll();
+        }
+
+        @Override
+        public CardResult readSocialCard(Object tag, int iType, String sceneCode) {
+            callCount++;
+            return callResults.poll();
+        }
+
+        @Override
+        public CardResult checkEssCard(String qrCode, String businessType) {
+            return readSocialCard(null, 0, "");
+        }
+
+        @Override
+        public void readIdCard(Object tag, IdCardCallback callback) {
+        }
+
+        @Override
+        public boolean isSessionExpired(CardResult result) {
+            return result.resultCode == SimulatedCardReaderBackend.ERROR_SESSION_EXPIRED;
+        }
+    }
+
+    private static CardSession<Object> initializedSession(ScriptedBackend backend) {
+        CardSession<Object> session = new CardSession<>(backend);
+        session.ensureInitialized("https://example.invalid", "P001");
+        return session;
+    }
+
+    @Test
+    public void retriesOnceWhenBackendReportsExpiredSession() throws Exception {
+        ScriptedBackend backend = new ScriptedBackend();
+        backend.callResults.addAll(Arrays.asList(
+                CardResult.error(SimulatedCardReaderBackend.ERROR_SESSION_EXPIRED, "会话已失效"),
+                new CardResult(0, "", "ok")));
+        CardSession<Object> session = initializedSession(backend);
+
+        CardResult result = session.call(b -> b.checkEssCard("qr", "001"));
+        assertEquals(0, result.resultCode);
+        assertEquals(2, backend.callCount);
+        assertEquals(2, backend.initCount);
+        assertEquals(1, session.getReinitCount());
+    }
+
+    @Test
+    public void doesNotRetryOrdinaryFailuresMentioningSessionWords() throws Exception {
+        ScriptedBackend backend = new ScriptedBackend();
+        backend.callResults.add(CardResult.error(-1, "签名校验失败，请重新登录后再试（token）"));
+        CardSession<Object> session = initializedSession(backend);
+
+        CardResult result = session.call(b -> b.checkEssCard("qr", "001"));
+        assertEquals(-1, result.resultCode);
+        assertEquals(1, backend.callCount);
+        assertEquals(1, backend.initCount);
+        assertEquals(0, session.getReinitCount());
+    }
+
+    @Test
+    public void returnsInitFailureWithoutRunningCommand() throws Exception {
+        ScriptedBackend backend = new ScriptedBackend();
+        backend.initResults.addAll(Arrays.asList(CardResult.ok(), CardResult.error(-5, "初始化失败")));
+        CardSession<Object> session = initializedSession(backend);
+        session.invalidate();
+
+        CardResult result = session.call(b -> b.checkEssCard("qr", "001"));
+        assertEquals(-5, result.resultCode);
+        assertEquals(0, backend.callCount);
+    }
+}
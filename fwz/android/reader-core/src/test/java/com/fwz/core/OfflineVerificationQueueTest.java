@@ -0,0 +1,138 @@
+package com.fwz.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OfflineVerificationQueueTest {
+    private File dir;
+    private File file;
+    private OfflineVerificationQueue queue;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("queue").toFile();
+        file = new File(dir, "journal.log");
+    }
+
+    @After
+    public void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private PendingVerification enqueue(String orderId) throws IOException {
+        return queue.enqueue(PendingVerification.IDENTITY_ORDER, orderId, orderId, "serial", "{}");
+    }
+
+    @Test
+    public void enqueueDoesNotWaitForSubmitInProgress() throws Exception {
+        CountDownLatch submitting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue = new OfflineVerificationQueue(new VerificationJournal(file), entry -> {
+            submitting.countDown();
+            await(release);
+            return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.ACCEPTED, "00000", "");
+        }, 20, new Backoff(10, 100));
+
+        enqueue("1");
+        assertTrue(submitting.await(5, TimeUnit.SECONDS));
+        long startedAt = System.nanoTime();
+        enqueue("2");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        // 返回时已持久化
+        int persisted = new VerificationJournal(file).pendingCount();
+        release.countDown();
+
+        assertTrue("enqueue 等待了提交: " + elapsedMs + "ms", elapsedMs < 1000);
+        assertEquals(2, persisted);
+    }
+
+    @Test
+    public void commitsEachEntryAsSoonAsItIsAccepted() throws Exception {
+        CountDownLatch secondSubmitting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VerificationJournal journal = new VerificationJournal(file);
+        journal.append(1000L, PendingVerification.IDENTITY_ORDER, "1", "1", "serial", "{}");
+        journal.append(1000L, PendingVerification.IDENTITY_ORDER, "2", "2", "serial", "{}");
+        queue = new OfflineVerificationQueue(journal, entry -> {
+            if (entry.orderId.equals("2")) {
+                secondSubmitting.countDown();
+                await(release);
+            }
+            return new OfflineVerificationQueue.SubmitResult(OfflineVerificationQueue.Outcome.ACCEPTED, "00000", "");
+        }, 20, new Backoff(10, 100));
+        queue.flushNow();
+
+        // 同一批的第二条还在提交时进程被杀：重启后第一条不再提交
+        assertTrue(secondSubmitting.await(5, TimeUnit.SECONDS));
+        List<PendingVerification> recovered = new VerificationJournal(file).pending(10);
+        release.countDown();
+        assertEquals(1, recovered.size());
+        assertEquals("2", recovered.get(0).orderId);
+    }
+
+    @Test
+    public void retriesInOrderAfterNetworkFailure() throws Exception {
+        List<String> submitted = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        int[] failures = {1};
+        queue = new OfflineVerificationQueue(new VerificationJournal(file), entry -> {
+            synchronized (failures) {
+                if (entry.orderId.equals("2") && failures[0]-- > 0) {
+                    throw new IOException("网络不可用");
+                }
+            }
+            submitted.add(entry.orderId);
+            return new OfflineVerificationQueue.SubmitResult(
+                    entry.orderId.equals("3") ? OfflineVerificationQueue.Outcome.REJECTED
+                            : OfflineVerificationQueue.Outcome.ACCEPTED, "00000", "");
+        }, 20, new Backoff(10, 100));
+        queue.setListener(new OfflineVerificationQueue.Listener() {
+            @Override
+            public void onSubmitted(PendingVerification entry, OfflineVerificationQueue.SubmitResult result) {
+                done.countDown();
+            }
+
+            @Override
+            public void onBackoff(long delayMs, int pending, String reason) {
+            }
+        });
+
+        enqueue("1");
+        enqueue("2");
+        enqueue("3");
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("[1, 2, 3]", submitted.toString());
+        assertEquals(0, new VerificationJournal(file).pendingCount());
+        assertEquals(1.0, (Double) queue.getStats().get("retries"), 0);
+        assertEquals(1.0, (Double) queue.getStats().get("rejected"), 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fwz.core;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReadCardSchedulerTest {
+
+    @Test
+    public void workErrorAndNullResultBecomeFailures() throws Exception {
+        ReadCardScheduler scheduler = new ReadCardScheduler("card-io-test");
+        List<ReadCardScheduler.Outcome> outcomes = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        ReadCardScheduler.Callback callback = outcome -> {
+            outcomes.add(outcome);
+            done.countDown();
+        };
+
+        scheduler.submit("linkError", ReadCardScheduler.PRIORITY_INTERACTIVE, () -> {
+            throw new UnsatisfiedLinkError("libTSCISCONFIG.so");
+        }, callback);
+        scheduler.submit("nullResult", ReadCardScheduler.PRIORITY_INTERACTIVE, () -> null, callback);
+        scheduler.submit("ok", ReadCardScheduler.PRIORITY_INTERACTIVE, CardResult::ok, callback);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(-1, outcomes.get(0).resultCode);
+        assertEquals(-1, outcomes.get(1).resultCode);
+        assertEquals(0, outcomes.get(2).resultCode);
+    }
+
+    @Test
+    public void callbackErrorIsReportedAndThreadKeepsRunning() throws Exception {
+        ReadCardScheduler scheduler = new ReadCardScheduler("card-io-test");
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        scheduler.setErrorHandler((name, error) -> errors.add(error));
+        CountDownLatch done = new CountDownLatch(1);
+
+        scheduler.submit("failingCallback", ReadCardScheduler.PRIORITY_INTERACTIVE, CardResult::ok, outcome -> {
+            throw new AssertionError("回调失败");
+        });
+        scheduler.submit("next", ReadCardScheduler.PRIORITY_INTERACTIVE, CardResult::ok, outcome -> done.countDown());
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, scheduler.getCallbackErrorCount());
+        assertTrue(errors.get(0) instanceof AssertionError);
+    }
+}
@@ -0,0 +1,146 @@
+package com.fwz.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class VerificationJournalTest {
+    private File dir;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal").toFile();
+        file = new File(dir, "journal.log");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private static PendingVerification append(VerificationJournal journal, String orderId, String body)
+            throws IOException {
+        return journal.append(1000L, PendingVerification.IDENTITY_QR, "qr-" + orderId, orderId, "serial", body);
+    }
+
+    @Test
+    public void recoversPendingEntriesInOrder() throws IOException {
+        VerificationJournal journal = new VerificationJournal(file);
+        PendingVerification first = append(journal, "1", "{\"orderId\":1}");
+        append(journal, "2", "带\t制表符\n和换行\\的内容");
+        append(journal, "3", "{}");
+        journal.commit(Collections.singletonList(first.id));
+
+        VerificationJournal reloaded = new VerificationJournal(file);
+        List<PendingVerification> pending = reloaded.pending(10);
+        assertEquals(2, pending.size());
+        assertEquals("2", pending.get(0).orderId);
+        assertEquals("带\t制表符\n和换行\\的内容", pending.get(0).body);
+        assertEquals("3", pending.get(1).orderId);
+        assertEquals(0, reloaded.getDroppedRecords());
+    }
+
+    @Test
+    public void dropsTornAppendAndKeepsLaterAppends() throws IOException {
+        VerificationJournal journal = new VerificationJournal(file);
+        append(journal, "1", "{\"orderId\":1}");
+        append(journal, "2", "{\"orderId\":2,\"touristIds\":[1,2,3]}");
+        // 第二条记录写到一半（字段数完整，body被截断）
+        truncate(file.length() - 8);
+
+        VerificationJournal reloaded = new VerificationJournal(file);
+        assertEquals(1, reloaded.getDroppedRecords());
+        assertEquals(1, reloaded.pendingCount());
+
+        // 残缺记录已被清除，新追加的记录不会与其拼接
+        append(reloaded, "3", "{}");
+        VerificationJournal again = new VerificationJournal(file);
+        assertEquals(0, again.getDroppedRecords());
+        List<PendingVerification> pending = again.pending(10);
+        assertEquals(2, pending.size());
+        assertEquals("1", pending.get(0).orderId);
+        assertEquals("3", pending.get(1).orderId);
+    }
+
+    @Test
+    public void dropsTornCommitWithoutRemovingOtherEntries() throws IOException {
+        VerificationJournal journal = new VerificationJournal(file);
+        for (int i = 1; i <= 12; i++) {
+            append(journal, String.valueOf(i), "{}");
+        }
+        // 提交标记 "C\t12" 写入中途崩溃，只剩 "C\t1"
+        journal.commit(Collections.singletonList(12L));
+        truncate(file.length() - 2);
+
+        VerificationJournal reloaded = new VerificationJournal(file);
+        assertEquals(1, reloaded.getDroppedRecords());
+        assertEquals(12, reloaded.pendingCount());
+        assertEquals("1", reloaded.pending(1).get(0).orderId);
+    }
+
+    @Test
+    public void dropsRecordWithBadChecksum() throws IOException {
+        VerificationJournal journal = new VerificationJournal(file);
+        append(journal, "1", "{\"orderId\":1}");
+        append(journal, "2", "{\"orderId\":2}");
+        byte[] data = Files.readAllBytes(file.toPath());
+        String content = new String(data, StandardCharsets.UTF_8).replace("{\"orderId\":2}", "{\"orderId\":9}");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        VerificationJournal reloaded = new VerificationJournal(file);
+        assertEquals(1, reloaded.getDroppedRecords());
+        assertEquals(1, reloaded.pendingCount());
+        assertEquals("1", reloaded.pending(1).get(0).orderId);
+    }
+
+    @Test
+    public void dropsRecordsWithoutChecksum() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(("A\t1\t1000\tqr\tqr-1\t1\tserial\t{}\n"
+                    + "C\t1\n").getBytes(StandardCharsets.UTF_8));
+        }
+        VerificationJournal journal = new VerificationJournal(file);
+        assertEquals(0, journal.pendingCount());
+        assertEquals(2, journal.getDroppedRecords());
+        // 重写后日志中不再有未校验的行
+        assertEquals(0, file.length());
+    }
+
+    @Test
+    public void compactsAfterManyCommits() throws IOException {
+        VerificationJournal journal = new VerificationJournal(file);
+        Long[] ids = new Long[70];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = append(journal, String.valueOf(i), "{}").id;
+        }
+        journal.commit(Arrays.asList(ids).subList(0, 69));
+        // 只剩一条待提交记录
+        assertEquals(1, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).split("\n").length);
+        assertEquals(1, new VerificationJournal(file).pendingCount());
+    }
+
+    private void truncate(long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import { NativeModules } from 'react-native';
+
+const { ApiClient } = NativeModules;
+
+export interface RequestTimings {
+  endpoint: string;
+  totalMs: number;
+  dnsMs: number;
+  connectMs: number;
+  tlsMs: number;
+  ttfbMs: number;
+  downloadMs: number;
+  connectionReused: number;  // 1-复用已有连接，0-新建连接
+  protocol: string;
+  responseBytes: number;
+  failure?: string;
+}
+
+export interface NativeResponse {
+  status: number;
+  body: string;
+  cache: 'hit' | 'revalidated' | 'miss' | 'none';
+  timings: RequestTimings;
+}
+
+export interface CacheMetrics {
+  hits: number;
+  revalidated: number;
+  misses: number;
+  hitRatio: number;
+  bytesSaved: number;
+  coalesced: number;
+  diskHits: number;
+  memoryEntries: number;
+  memoryBytes: number;
+  diskEntries?: number;
+  diskBytes?: number;
+}
+
+export interface LatencySnapshot {
+  count: number;
+  meanMs: number;
+  p50Ms: number;
+  p95Ms: number;
+  p99Ms: number;
+  maxMs: number;
+}
+
+export interface NetworkMetrics {
+  endpoints: Record<string, LatencySnapshot>;
+  idleConnections: number;
+  connections: number;
+  lastPreconnect?: RequestTimings;
+}
+
+class ApiClientManager {
+  /**
+   * 原生网络模块是否可用
+   */
+  isAvailable(): boolean {
+    return !!ApiClient;
+  }
+
+  /**
+   * 发送请求（共享连接池，返回分阶段耗时）
+   */
+  async request(method: string, url: string, headers: Record<string, string>, body?: string): Promise<NativeResponse> {
+    return ApiClient.request(method, url, headers, body ?? null);
+  }
+
+  /**
+   * 预连接：提前完成DNS/TCP/TLS握手
+   */
+  async preconnect(): Promise<boolean> {
+    return ApiClient.preconnect();
+  }
+
+  /**
+   * 各接口耗时统计与连接池状态
+   */
+  async getNetworkMetrics(): Promise<NetworkMetrics> {
+    return ApiClient.getNetworkMetrics();
+  }
+
+  /**
+   * 响应缓存命中率与节省的流量
+   */
+  async getCacheMetrics(): Promise<CacheMetrics> {
+    return ApiClient.getCacheMetrics();
+  }
+
+  /**
+   * 清空响应缓存
+   */
+  async clearCache(): Promise<boolean> {
+    return ApiClient.clearCache();
+  }
+}
+
+export default new ApiClientManager();
@@ -0,0 +1,75 @@
+import { DeviceEventEmitter, EmitterSubscription, NativeModules } from 'react-native';
+
+/**
+ * 原生读卡事件名（按卡类型与阶段区分）
+ */
+export const CARD_EVENTS = {
+  SOCIAL_CARD_START: 'onSocialCardStart',
+  SOCIAL_CARD_RESULT: 'onSocialCardResult',
+  ID_CARD_START: 'onIdCardStart',
+  ID_CARD_PROGRESS: 'onIdCardProgress',
+  ID_CARD_SUCCESS: 'onIdCardSuccess',
+  ID_CARD_ERROR: 'onIdCardError',
+} as const;
+
+export interface SocialCardTimings {
+  queueMs: number;
+  initMs: number;
+  readMs: number;
+  captureMs: number;
+  dispatchMs: number;
+  totalMs: number;
+}
+
+export interface SocialCardEvent {
+  status: 'start' | 'result';
+  resultCode?: number;
+  errorInfo?: string;
+  resultInfo?: string;
+  timings?: SocialCardTimings;
+  timestamp: number;
+  replayed?: boolean;  // 冷启动或JS重载期间缓存后重放的事件
+}
+
+export interface IdCardProgressEvent {
+  status: 'idcard_progress';
+  type: 'idcard';
+  progress: number;
+  timestamp: number;
+}
+
+export interface CardEventStats {
+  emitted: number;
+  coalesced: number;
+  dropped: number;
+  pending: number;          // 等待重放的事件数
+  replayed: number;
+  expired: number;          // 超过最大保留时间未重放
+  evicted: number;          // 缓冲已满被覆盖
+  replayMaxAgeMs: number;
+  byEvent: Record<string, number>;
+}
+
+/**
+ * 同时订阅多个事件，返回可统一取消的订阅
+ * 订阅后通知原生重放 ReactContext 未就绪期间（冷启动、JS重载）缓存的事件，重放事件带 replayed: true
+ */
+export function addCardEventListeners<T>(eventNames: string[], callback: (event: T) => void): { remove: () => void } {
+  const subscriptions: EmitterSubscription[] = eventNames.map(name => DeviceEventEmitter.addListener(name, callback));
+  NativeModules.XToastModule?.replayPendingCardEvents?.().catch((error: unknown) => {
+    console.warn('重放读卡事件失败', error);
+  });
+  return {
+    remove: () => subscriptions.forEach(subscription => subscription.remove()),
+  };
+}
+
+/**
+ * 监听社保卡读卡开始与结果
+ */
+export function addSocialCardListener(callback: (event: SocialCardEvent) => void) {
+  return addCardEventListeners<SocialCardEvent>(
+    [CARD_EVENTS.SOCIAL_CARD_START, CARD_EVENTS.SOCIAL_CARD_RESULT],
+    callback
+  );
+}
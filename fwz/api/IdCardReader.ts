@@ -1,4 +1,5 @@
 import { NativeModules, DeviceEventEmitter, NativeEventEmitter } from 'react-native';
+import { CARD_EVENTS, IdCardProgressEvent, addCardEventListeners } from './CardEvents';
 
 const { IdCardReader } = NativeModules;
 
@@ -12,7 +13,10 @@ export interface IdCardInfo {
   issueOrg: string;
   effectDate: string;
   expireDate: string;
-  photo?: string;
+  photo?: string;       // Base64照片，仅在原生照片缓存失败时返回
+  photoUri?: string;    // 照片缓存文件 file:// URI
+  photoWidth?: number;
+  photoHeight?: number;
   idType?: string;
   // 外国人身份证特有字段
   nationality?: string;
@@ -41,6 +45,9 @@ export interface IdCardReaderEvent {
   effectDate?: string;
   expireDate?: string;
   photo?: string;
+  photoUri?: string;
+  photoWidth?: number;
+  photoHeight?: number;
   idType?: string;
   nationality?: string;
   englishName?: string;
@@ -49,6 +56,24 @@ export interface IdCardReaderEvent {
   dn?: string;
 }
 
+export interface PhotoStats {
+  saved: number;
+  reused: number;
+  failed: number;
+  avgBase64Bytes: number;
+  avgFileBytes: number;
+  avgProcessMs: number;
+}
+
+/**
+ * 身份证照片的 Image source：优先使用缓存文件，回退到Base64
+ */
+export function idCardPhotoUri(info: { photo?: string; photoUri?: string }): string | undefined {
+  if (info.photoUri) return info.photoUri;
+  if (info.photo) return `data:image/jpeg;base64,${info.photo}`;
+  return undefined;
+}
+
 export interface NfcStatus {
   available: boolean;
   enabled: boolean;
@@ -83,10 +108,27 @@ class IdCardReaderManager {
   }
   
   /**
-   * 监听身份证读取事件
+   * 获取身份证照片处理统计（Base64与缓存文件大小对比）
+   */
+  async getPhotoStats(): Promise<PhotoStats> {
+    return IdCardReader.getPhotoStats();
+  }
+  
+  /**
+   * 监听身份证读取事件（开始、成功、失败）
    */
   addListener(callback: (event: IdCardReaderEvent) => void) {
-    return DeviceEventEmitter.addListener('onReadCardError', callback);
+    return addCardEventListeners<IdCardReaderEvent>(
+      [CARD_EVENTS.ID_CARD_START, CARD_EVENTS.ID_CARD_SUCCESS, CARD_EVENTS.ID_CARD_ERROR],
+      callback
+    );
+  }
+  
+  /**
+   * 监听读证进度（原生按帧合并，每帧最多一次）
+   */
+  addProgressListener(callback: (event: IdCardProgressEvent) => void) {
+    return DeviceEventEmitter.addListener(CARD_EVENTS.ID_CARD_PROGRESS, callback);
   }
   
   /**
@@ -102,7 +144,10 @@ class IdCardReaderManager {
    * 移除所有监听器
    */
   removeAllListeners() {
-    DeviceEventEmitter.removeAllListeners('onReadCardError');
+    DeviceEventEmitter.removeAllListeners(CARD_EVENTS.ID_CARD_START);
+    DeviceEventEmitter.removeAllListeners(CARD_EVENTS.ID_CARD_PROGRESS);
+    DeviceEventEmitter.removeAllListeners(CARD_EVENTS.ID_CARD_SUCCESS);
+    DeviceEventEmitter.removeAllListeners(CARD_EVENTS.ID_CARD_ERROR);
   }
 }
 
@@ -0,0 +1,102 @@
+import NativeXToastModule from '../specs/NativeXToastModule';
+import NativeIdCardReader from '../specs/NativeIdCardReader';
+
+export interface CallStats {
+  iterations: number;
+  totalMs: number;
+  meanUs: number;
+  p50Us: number;
+  p95Us: number;
+  maxUs: number;
+}
+
+export interface CallComparison {
+  name: string;
+  async: CallStats;
+  sync: CallStats;
+}
+
+export interface NativeCallBenchmarkResult {
+  turboModules: boolean;  // true-当前为JSI直接调用，false-旧桥接
+  comparisons: CallComparison[];
+}
+
+const now = (): number => globalThis.performance?.now?.() ?? Date.now();
+
+const summarize = (samples: number[], totalMs: number): CallStats => {
+  const sorted = [...samples].sort((a, b) => a - b);
+  const pick = (q: number) => sorted[Math.min(sorted.length - 1, Math.floor(sorted.length * q))] ?? 0;
+  const sum = sorted.reduce((acc, v) => acc + v, 0);
+  return {
+    iterations: sorted.length,
+    totalMs,
+    meanUs: sorted.length ? (sum / sorted.length) * 1000 : 0,
+    p50Us: pick(0.5) * 1000,
+    p95Us: pick(0.95) * 1000,
+    maxUs: (sorted[sorted.length - 1] ?? 0) * 1000,
+  };
+};
+
+const measureAsync = async (fn: () => Promise<unknown>, iterations: number): Promise<CallStats> => {
+  const samples: number[] = [];
+  const startedAt = now();
+  for (let i = 0; i < iterations; i++) {
+    const t = now();
+    await fn();
+    samples.push(now() - t);
+  }
+  return summarize(samples, now() - startedAt);
+};
+
+const measureSync = (fn: () => unknown, iterations: number): CallStats => {
+  const samples: number[] = [];
+  const startedAt = now();
+  for (let i = 0; i < iterations; i++) {
+    const t = now();
+    fn();
+    samples.push(now() - t);
+  }
+  return summarize(samples, now() - startedAt);
+};
+
+/**
+ * 对比读卡模块异步（Promise）与同步调用的往返开销
+ * 分别在旧架构与新架构（gradle.properties 中 newArchEnabled）下运行，即可得到桥接与JSI的差异
+ * 仅用于调试包，不要在核验流程中调用
+ */
+export const runNativeCallBenchmark = async (iterations = 200): Promise<NativeCallBenchmarkResult> => {
+  // 预热，避免首次懒加载模块计入统计
+  await NativeXToastModule.ping();
+  NativeXToastModule.pingSync();
+
+  const comparisons: CallComparison[] = [
+    {
+      name: 'ping',
+      async: await measureAsync(() => NativeXToastModule.ping(), iterations),
+      sync: measureSync(() => NativeXToastModule.pingSync(), iterations),
+    },
+    {
+      name: 'deviceUniqueId',
+      async: await measureAsync(() => NativeXToastModule.getDeviceUniqueId(), iterations),
+      sync: measureSync(() => NativeXToastModule.getDeviceUniqueIdSync(), iterations),
+    },
+    {
+      name: 'nfcEnabled',
+      async: await measureAsync(() => NativeIdCardReader.checkNfcAvailable(), iterations),
+      sync: measureSync(() => NativeIdCardReader.isNfcEnabledSync(), iterations),
+    },
+  ];
+
+  const result: NativeCallBenchmarkResult = {
+    turboModules: (globalThis as any).__turboModuleProxy != null || (globalThis as any).RN$Bridgeless === true,
+    comparisons,
+  };
+  comparisons.forEach(c => {
+    console.log(
+      `[NativeCallBenchmark] ${c.name} (${result.turboModules ? 'JSI' : 'bridge'}): ` +
+        `async p50=${c.async.p50Us.toFixed(0)}us p95=${c.async.p95Us.toFixed(0)}us, ` +
+        `sync p50=${c.sync.p50Us.toFixed(0)}us p95=${c.sync.p95Us.toFixed(0)}us`,
+    );
+  });
+  return result;
+};
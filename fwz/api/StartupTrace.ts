@@ -0,0 +1,40 @@
+import NativeXToastModule from '../specs/NativeXToastModule';
+
+/**
+ * 启动阶段，时间均为距进程启动的毫秒数（单调时钟）
+ * parentId 为 0 表示顶层阶段；时间点（如 js.firstRender）的 startMs 与 endMs 相同；未结束的阶段 endMs 为 -1
+ */
+export interface StartupSpan {
+  id: number;
+  parentId: number;
+  name: string;
+  thread: string;
+  startMs: number;
+  endMs: number;
+  durationMs: number;
+}
+
+export interface StartupTrace {
+  launchId: number;    // 启动时的墙上时间
+  elapsedMs?: number;  // 仅本次启动：进程启动至今
+  persisted?: boolean; // 仅本次启动：是否已保存
+  spans: StartupSpan[];
+}
+
+export const FIRST_RENDER = 'js.firstRender';
+
+/**
+ * 标记启动时间点；标记 FIRST_RENDER 时原生侧保存本次启动时间线
+ */
+export const markStartupPhase = (name: string): void => {
+  NativeXToastModule.markStartupPhase(name);
+};
+
+export const getStartupTrace = (): Promise<StartupTrace> =>
+  NativeXToastModule.getStartupTrace() as Promise<StartupTrace>;
+
+/**
+ * 最近几次启动的时间线，从新到旧
+ */
+export const getStartupHistory = (limit = 10): Promise<StartupTrace[]> =>
+  NativeXToastModule.getStartupHistory(limit) as Promise<StartupTrace[]>;
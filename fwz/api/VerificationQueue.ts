@@ -0,0 +1,96 @@
+import { NativeModules, DeviceEventEmitter } from 'react-native';
+import { VerificationRequest } from '../constants/api';
+
+const { VerificationQueue } = NativeModules;
+
+export type VerificationIdentityType = 'card' | 'qr' | 'idcard' | 'order';
+
+export interface VerificationIdentity {
+  identityType: VerificationIdentityType;
+  identity: string;
+  busiSerial?: string;   // 不传时原生侧为每条记录生成
+}
+
+export interface EnqueuedVerification {
+  id: number;
+  pending: number;   // 当前待提交条数
+  online: boolean;   // 写入时是否有网络
+}
+
+export interface VerificationSubmittedEvent {
+  id: number;
+  orderId: string;
+  identityType: VerificationIdentityType;
+  success: boolean;
+  code: string;      // 服务端业务码
+  msg: string;
+  createdAt: number;
+}
+
+export interface VerificationBackoffEvent {
+  delayMs: number;
+  pending: number;
+  reason: string;
+}
+
+export interface VerificationQueueStats {
+  pending: number;
+  enqueued: number;
+  accepted: number;
+  rejected: number;
+  retries: number;
+  batches: number;
+  backoffAttempts: number;
+  nextRetryAt: number;
+  online: boolean;
+}
+
+class VerificationQueueManager {
+  /**
+   * 原生离线队列是否可用
+   */
+  isAvailable(): boolean {
+    return !!VerificationQueue;
+  }
+
+  /**
+   * 核销：写入本地日志后立即返回，由原生后台提交
+   */
+  async enqueue(request: VerificationRequest, identity: VerificationIdentity, token: string): Promise<EnqueuedVerification> {
+    return VerificationQueue.enqueueVerification(request, identity, token);
+  }
+
+  /**
+   * 更新登录token
+   */
+  async setToken(token: string): Promise<boolean> {
+    return VerificationQueue.setToken(token);
+  }
+
+  /**
+   * 立即提交积压的记录
+   */
+  async flushNow(): Promise<boolean> {
+    return VerificationQueue.flushNow();
+  }
+
+  async getStats(): Promise<VerificationQueueStats> {
+    return VerificationQueue.getStats();
+  }
+
+  /**
+   * 监听后台提交结果
+   */
+  addSubmittedListener(callback: (event: VerificationSubmittedEvent) => void) {
+    return DeviceEventEmitter.addListener('onVerificationSubmitted', callback);
+  }
+
+  /**
+   * 监听提交失败后的退避重试
+   */
+  addBackoffListener(callback: (event: VerificationBackoffEvent) => void) {
+    return DeviceEventEmitter.addListener('onVerificationQueueBackoff', callback);
+  }
+}
+
+export default new VerificationQueueManager();
@@ -1,8 +1,31 @@
 import { FWZ_URL, API_ENDPOINTS, ApiResponse, LoginRequest, LoginResponseData, MerchantOrderRequest, MerchantOrderResponseData, TerminalDetailRequest, TerminalDetailResponseData, VerificationOrderRequest, VerificationInfoRequest, VerificationInfoResponseData, VerificationRequest, GetVerificationOrderRequest, GetVerificationOrderResponseData } from '../constants/api';
 import { Alert, NativeModules } from 'react-native';
+import ApiClient from './ApiClient';
 
 // 自定义类型定义
-type HeadersInit_ = Headers | Record<string, string>;
+type HeadersInit_ = Record<string, string>;
+
+/**
+ * 发送请求并解析JSON
+ * 原生网络模块可用时走共享的 OkHttp 连接池（复用连接、HTTP/2），否则回退到 fetch
+ */
+async function requestJson<T>(
+  url: string,
+  method: string,
+  headers: Record<string, string>,
+  body?: string
+): Promise<ApiResponse<T>> {
+  if (ApiClient.isAvailable()) {
+    const response = await ApiClient.request(method, url, headers, body);
+    if (__DEV__) {
+      const { endpoint, totalMs, dnsMs, connectMs, tlsMs, ttfbMs, connectionReused, protocol } = response.timings;
+      console.log(`请求耗时 ${endpoint}: cache=${response.cache} total=${totalMs.toFixed(1)}ms dns=${dnsMs.toFixed(1)} connect=${connectMs.toFixed(1)} tls=${tlsMs.toFixed(1)} ttfb=${ttfbMs.toFixed(1)} reused=${connectionReused} ${protocol}`);
+    }
+    return JSON.parse(response.body) as ApiResponse<T>;
+  }
+  const response = await fetch(url, { method, headers, body });
+  return (await response.json()) as ApiResponse<T>;
+}
 
 /**
  * 基础HTTP请求函数
@@ -15,22 +38,13 @@ async function fetchApi<T = any>(
 ): Promise<ApiResponse<T>> {
   const url = `${FWZ_URL}${endpoint}`;
   
-  const options: RequestInit = {
-    method,
-    headers: {
-      'Content-Type': 'application/json',
-      ...headers,
-    },
+  const requestHeaders: Record<string, string> = {
+    'Content-Type': 'application/json',
+    ...headers,
   };
 
-  if (data) {
-    options.body = JSON.stringify(data);
-  }
-
   try {
-    const response = await fetch(url, options);
-    const result = await response.json();
-    return result as ApiResponse<T>;
+    return await requestJson<T>(url, method, requestHeaders, data ? JSON.stringify(data) : undefined);
   } catch (error) {
     console.error('API请求错误:', error);
     throw error;
@@ -90,13 +104,7 @@ export async function getMerchantOrders(params: MerchantOrderRequest, token?: st
   
   // 使用URL中的查询参数进行GET请求
   try {
-    const response = await fetch(url, {
-      method: 'GET',
-      headers
-    });
-    
-    const result = await response.json();
-    return result as ApiResponse<MerchantOrderResponseData>;
+    return await requestJson<MerchantOrderResponseData>(url, 'GET', headers);
   } catch (error) {
     console.error('获取订单列表失败:', error);
     throw error;
@@ -123,13 +131,7 @@ export async function getTerminalDetail(userId: string, token?: string): Promise
   
   // 使用URL中的查询参数进行GET请求
   try {
-    const response = await fetch(url, {
-      method: 'GET',
-      headers
-    });
-    
-    const result = await response.json();
-    return result as ApiResponse<TerminalDetailResponseData>;
+    return await requestJson<TerminalDetailResponseData>(url, 'GET', headers);
   } catch (error) {
     console.error('获取终端设备详情失败:', error);
     throw error;
@@ -152,13 +154,7 @@ export async function pageVerificationOrder(params: VerificationOrderRequest, to
   
   // 使用URL中的查询参数进行GET请求
   try {
-    const response = await fetch(url, {
-      method: 'GET',
-      headers
-    });
-    
-    const result = await response.json();
-    return result as ApiResponse<MerchantOrderResponseData>;
+    return await requestJson<MerchantOrderResponseData>(url, 'GET', headers);
   } catch (error) {
     console.error('获取订单核销信息失败:', error);
     throw error;
@@ -185,13 +181,7 @@ export async function getVerificationInfo(orderId: number | string, token?: stri
   
   // 使用URL中的查询参数进行GET请求
   try {
-    const response = await fetch(url, {
-      method: 'GET',
-      headers
-    });
-    
-    const result = await response.json();
-    return result as ApiResponse<VerificationInfoResponseData>;
+    return await requestJson<VerificationInfoResponseData>(url, 'GET', headers);
   } catch (error) {
     console.error('获取订单核销详情信息失败:', error);
     throw error;
@@ -232,13 +222,7 @@ export async function getVerificationOrder(orderId: number | string, token?: str
   
   // 使用URL中的查询参数进行GET请求
   try {
-    const response = await fetch(url, {
-      method: 'GET',
-      headers
-    });
-    
-    const result = await response.json();
-    return result as ApiResponse<GetVerificationOrderResponseData>;
+    return await requestJson<GetVerificationOrderResponseData>(url, 'GET', headers);
   } catch (error) {
     console.error('获取订单详情失败:', error);
     throw error;
@@ -92,7 +92,7 @@ export default function HomeScreen() {
 
   const navigateToScan = async () => {
     try {
-      const result = await NativeModules.XToastModule.startQRCodeScan();
+      const result = await NativeModules.XToastModule.startQRCodeScan({});
       if (result) {
         // 获取token和merchantId
         const accessToken = await AsyncStorage.getItem('accessToken');
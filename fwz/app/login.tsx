@@ -18,6 +18,8 @@ import {
 import { useNavigation } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import apiService from '../api';
+import VerificationQueue from '../api/VerificationQueue';
+import ApiClient from '../api/ApiClient';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { RootStackParamList } from '../navigation/types';
 
@@ -29,9 +31,19 @@ export default function LoginScreen() {
   const [password, setPassword] = useState('Etecsun2021');  // Etecsun2021
   const [loading, setLoading] = useState(false);
   const [successMessage, setSuccessMessage] = useState('');
-  const [deviceUniqueId, setDeviceUniqueId] = useState('');
+  // 设备唯一编码由原生侧启动时缓存，作为模块常量同步读取
+  const [deviceUniqueId, setDeviceUniqueId] = useState<string>(
+    () => NativeModules.XToastModule?.getConstants?.().deviceUniqueId ?? '',
+  );
   const [isPasswordVisible, setIsPasswordVisible] = useState(false);
   
+  // 登录页显示时预连接服务器，输入账号密码期间完成DNS/TLS握手
+  useEffect(() => {
+    if (ApiClient.isAvailable()) {
+      ApiClient.preconnect().catch(() => {});
+    }
+  }, []);
+
   useEffect(() => {
     const checkLoginStatus = async () => {
       try {
@@ -60,6 +72,10 @@ export default function LoginScreen() {
   }, [successMessage, navigation]);
 
   useEffect(() => {
+    if (deviceUniqueId) {
+      console.log('设备唯一ID:', deviceUniqueId);
+      return;
+    }
     const getDeviceId = async () => {
       try {
         const uniqueId = await NativeModules.XToastModule.getDeviceUniqueId();
@@ -96,6 +112,10 @@ export default function LoginScreen() {
         try {
           await AsyncStorage.setItem('accessToken', response.data.accessToken);
           await AsyncStorage.setItem('refreshToken', response.data.refreshToken);
+          // 离线核销队列使用新token补交积压的记录
+          if (VerificationQueue.isAvailable()) {
+            VerificationQueue.setToken(response.data.accessToken).catch(() => {});
+          }
           await AsyncStorage.setItem('tenantId', String(response.data.tenantId));
           await AsyncStorage.setItem('equipmentCoding', String(deviceUniqueId));
           // 如果有merchantId，也存储
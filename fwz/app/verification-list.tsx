@@ -9,6 +9,7 @@ import {
   ActivityIndicator,
   Alert,
   NativeModules,
+  PermissionsAndroid,
   Image,
   RefreshControl,
 } from 'react-native';
@@ -16,9 +17,11 @@ import { useNavigation, useRoute, RouteProp } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { OrderItem } from '../constants/api';
-import { TopHeader, OrderDetail, VerificationResult } from '../components';
+import { TopHeader, OrderDetail, VerificationResult, BarcodeScannerView } from '../components';
+import { BarcodeScanEvent } from '../components/BarcodeScannerView';
 import { RootStackParamList } from '../navigation/types';
 import { submitVerification, pageVerificationOrder } from '../api';
+import VerificationQueue, { VerificationIdentityType } from '../api/VerificationQueue';
 
 type VerificationListScreenNavigationProp = NativeStackNavigationProp<RootStackParamList, 'verification-list'>;
 type VerificationListScreenRouteProp = RouteProp<RootStackParamList, 'verification-list'>;
@@ -28,6 +31,7 @@ interface VerificationResultData {
   orderId: string;
   response: {
     success: boolean;
+    pending?: boolean;  // 已写入离线队列，等待服务端确认
     msg?: string;
     code?: string;
   };
@@ -48,7 +52,29 @@ export default function VerificationListScreen() {
   const [queryType, setQueryType] = useState<number | null>(null);
   const [queryParam, setQueryParam] = useState<string | null>(null);
   const [channel, setChannel] = useState<string | null>(null);
+  const [showScanner, setShowScanner] = useState(false);
   const scrollViewRef = useRef<ScrollView>(null);
+  // 当前显示结果对应的离线核销记录id，后台提交完成后更新结果
+  const pendingVerificationId = useRef<number | null>(null);
+
+  // 监听离线核销的后台提交结果
+  useEffect(() => {
+    if (!VerificationQueue.isAvailable()) return;
+    const subscription = VerificationQueue.addSubmittedListener(event => {
+      if (event.id !== pendingVerificationId.current) return;
+      pendingVerificationId.current = null;
+      setVerificationResult({
+        orderId: event.orderId,
+        response: {
+          success: event.success,
+          // 服务端受理后才显示核销成功（与在线核销的成功码一致）
+          msg: event.success ? event.msg || 'ok' : event.msg || undefined,
+          code: event.success ? '00000' : event.code,
+        },
+      });
+    });
+    return () => subscription.remove();
+  }, []);
 
   // 从路由参数中获取数据
   useEffect(() => {
@@ -299,10 +325,41 @@ export default function VerificationListScreen() {
     }
   };
 
-  // 继续扫码核销
+  // 继续扫码核销：在当前页面内嵌扫码视图，列表保持显示，无需切换页面
   const continueScanning = async () => {
+    if (showScanner) {
+      setShowScanner(false);
+      return;
+    }
+    if (await requestCameraPermission()) {
+      setShowScanner(true);
+    }
+  };
+
+  // 申请相机权限，拒绝时提示用户
+  const requestCameraPermission = async () => {
+    const granted = await PermissionsAndroid.request(PermissionsAndroid.PERMISSIONS.CAMERA);
+    if (granted === PermissionsAndroid.RESULTS.GRANTED) {
+      return true;
+    }
+    Alert.alert('提示', '未授予相机权限，无法扫码，请在系统设置中开启相机权限');
+    return false;
+  };
+
+  // 扫码视图启动时仍无相机权限（如在系统设置中被撤销）
+  const onScannerPermissionDenied = () => {
+    setShowScanner(false);
+    requestCameraPermission().then(granted => granted && setShowScanner(true));
+  };
+
+  // 内嵌扫码视图的扫码结果
+  const onInlineScan = (event: BarcodeScanEvent) => {
+    handleScanResult(event.text);
+  };
+
+  // 处理扫码结果
+  const handleScanResult = async (result: string) => {
     try {
-      const result = await NativeModules.XToastModule.startQRCodeScan();
       if (result) {
         // 获取token和merchantId
         const accessToken = await AsyncStorage.getItem('accessToken');
@@ -389,6 +446,27 @@ export default function VerificationListScreen() {
       };
 
 
+      if (VerificationQueue.isAvailable()) {
+        // 写入离线队列后立即显示待确认状态，由原生后台提交，服务端受理后再显示核销成功；断网时网络恢复后自动补交
+        const identityType: VerificationIdentityType =
+          channel === 'card' ? 'card' : queryType === 1 ? 'qr' : 'order';
+        const queued = await VerificationQueue.enqueue(verificationData, {
+          identityType,
+          identity: queryParam || order.orderId.toString(),
+        }, token);
+        pendingVerificationId.current = queued.id;
+        setVerificationResult({
+          orderId: order.orderId.toString(),
+          response: {
+            success: false,
+            pending: true,
+            msg: queued.online ? '核销已提交，正在确认' : '当前无网络，核销已保存，网络恢复后自动提交',
+          }
+        });
+        setOrders([]);
+        return;
+      }
+
       const response = await submitVerification(verificationData, token);
       // 核销成功，在当前页面显示结果
       setVerificationResult({
@@ -437,6 +515,7 @@ export default function VerificationListScreen() {
       <VerificationResult
         message={response.msg}
         isSuccess={response.success}
+        isPending={response.pending}
         code={response.code}
         orderId={orderId}
       />
@@ -535,6 +614,17 @@ export default function VerificationListScreen() {
               <Text style={styles.noMoreDataText}>没有更多数据了</Text>
             )}
           </ScrollView>
+          {channel !== 'card' && (
+            // 页面显示时即预热相机，点击扫码后直接开始解码
+            <BarcodeScannerView
+              style={[styles.inlineScanner, !showScanner && styles.inlineScannerHidden]}
+              active={showScanner}
+              prewarm
+              formats={['QR_CODE']}
+              onScan={onInlineScan}
+              onPermissionDenied={onScannerPermissionDenied}
+            />
+          )}
           <View style={styles.footerContainer}>
             <TouchableOpacity
               style={[styles.homeButton, channel === 'card' && styles.fullWidthButton]}
@@ -548,7 +638,7 @@ export default function VerificationListScreen() {
                 style={styles.scanButton}
                 onPress={continueScanning}
               >
-                <Text style={styles.scanButtonText}>继续扫码核销</Text>
+                <Text style={styles.scanButtonText}>{showScanner ? '关闭扫码' : '继续扫码核销'}</Text>
               </TouchableOpacity>
             )}
           </View>
@@ -594,6 +684,17 @@ const styles = StyleSheet.create({
     fontWeight: 'bold',
     color: '#333',
   },
+  inlineScanner: {
+    height: 220,
+    marginHorizontal: 16,
+    marginBottom: 12,
+    borderRadius: 12,
+    overflow: 'hidden',
+  },
+  inlineScannerHidden: {
+    height: 0,
+    marginBottom: 0,
+  },
   footerContainer: {
     flexDirection: 'row',
     justifyContent: 'space-between',
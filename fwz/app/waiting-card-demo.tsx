@@ -12,13 +12,13 @@ import {
   Alert,
   NativeModules,
   ScrollView,
-  DeviceEventEmitter,
 } from 'react-native';
 import { useNavigation, useRoute } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { RootStackParamList } from '../navigation/types';
 import TopHeader from '../components/TopHeader';
+import { addSocialCardListener, SocialCardEvent } from '../api/CardEvents';
 
 type WaitingCardScreenNavigationProp = NativeStackNavigationProp<RootStackParamList, 'waiting-card'>;
 
@@ -55,11 +55,10 @@ export default function WaitingCardScreen() {
     return () => backHandler.remove();
   }, [navigation]);
 
-  // 监听来自原生层的读卡错误信息
+  // 监听社保卡读卡开始与结果事件
   useEffect(() => {
-    const subscription = DeviceEventEmitter.addListener(
-      'onReadCardError',
-      (errorData) => {
+    const subscription = addSocialCardListener(
+      (errorData: SocialCardEvent) => {
         console.log('收到信息:', errorData);
         console.log('状态:', errorData.status);
         console.log('时间戳:', new Date(errorData.timestamp).toLocaleString());
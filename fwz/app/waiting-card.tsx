@@ -12,14 +12,14 @@ import {
   Alert,
   NativeModules,
   ScrollView,
-  DeviceEventEmitter,
 } from 'react-native';
 import { useNavigation, useRoute } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { RootStackParamList } from '../navigation/types';
 import TopHeader from '../components/TopHeader';
-import IdCardReader, { IdCardInfo, IdCardReaderEvent } from '../api/IdCardReader';
+import IdCardReader, { IdCardInfo, IdCardReaderEvent, idCardPhotoUri } from '../api/IdCardReader';
+import { addSocialCardListener, SocialCardEvent } from '../api/CardEvents';
 
 type WaitingCardScreenNavigationProp = NativeStackNavigationProp<RootStackParamList, 'waiting-card'>;
 
@@ -62,6 +62,9 @@ export default function WaitingCardScreen() {
     if (type === 2) { // 只有身份证读取时才初始化
       // 添加事件监听
       const listener = IdCardReader.addListener(handleIdCardEvent);
+      const progressListener = IdCardReader.addProgressListener(event => {
+        setStatus(`正在读取身份证... ${event.progress}%`);
+      });
       
       // 自动开始身份证读取
       const initIdCardReading = async () => {
@@ -81,6 +84,7 @@ export default function WaitingCardScreen() {
       
       return () => {
         IdCardReader.removeListener(listener);
+        IdCardReader.removeListener(progressListener);
         if (isReading) {
           IdCardReader.stopReading();
         }
@@ -141,6 +145,9 @@ export default function WaitingCardScreen() {
           effectDate: event.effectDate || '',
           expireDate: event.expireDate || '',
           photo: event.photo,
+          photoUri: event.photoUri,
+          photoWidth: event.photoWidth,
+          photoHeight: event.photoHeight,
           idType: event.idType,
           nationality: event.nationality,
           englishName: event.englishName,
@@ -150,6 +157,13 @@ export default function WaitingCardScreen() {
         };
         
         setIdCardInfo(cardInfo);
+        if (__DEV__) {
+          // 对比照片改为文件URI前后的JS堆占用
+          const heap = (global as any).HermesInternal?.getInstrumentedStats?.();
+          if (heap) {
+            console.log(`身份证事件: photoUri=${!!event.photoUri}, JS堆 ${heap.js_heapSize}B / 已分配 ${heap.js_allocatedBytes}B`);
+          }
+        }
         
         // 跳转到验证列表页面
         if (cardInfo.idNum) {
@@ -224,12 +238,11 @@ export default function WaitingCardScreen() {
     return () => backHandler.remove();
   }, [navigation]);
 
-  // 监听来自原生层的读卡错误信息（仅社保卡使用）
+  // 监听社保卡读卡开始与结果事件（仅社保卡使用）
   useEffect(() => {
     if (type === 1) { // 只有社保卡读取时才监听
-      const subscription = DeviceEventEmitter.addListener(
-        'onReadCardError',
-        (errorData) => {
+      const subscription = addSocialCardListener(
+        (errorData: SocialCardEvent) => {
           console.log('收到信息:', errorData);
           console.log('状态:', errorData.status);
           console.log('时间戳:', new Date(errorData.timestamp).toLocaleString());
@@ -365,10 +378,10 @@ export default function WaitingCardScreen() {
       <View style={styles.idCardInfoContainer}>
         <Text style={styles.idCardInfoTitle}>身份证信息</Text>
         
-        {idCardInfo.photo && (
+        {idCardPhotoUri(idCardInfo) && (
           <View style={styles.photoContainer}>
             <Image
-              source={{ uri: `data:image/jpeg;base64,${idCardInfo.photo}` }}
+              source={{ uri: idCardPhotoUri(idCardInfo) }}
               style={styles.photo}
               resizeMode="contain"
             />
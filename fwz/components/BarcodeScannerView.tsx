@@ -0,0 +1,51 @@
+import React from 'react';
+import { requireNativeComponent, NativeSyntheticEvent, ViewStyle, StyleProp } from 'react-native';
+
+export interface BarcodeScanEvent {
+  text: string;
+  format: string;
+  timestamp: number;
+}
+
+interface BarcodeScannerViewProps {
+  style?: StyleProp<ViewStyle>;
+  // 是否启用扫码，false 时停止解码，相机保持预览直到空闲超时
+  active?: boolean;
+  // 组件挂载即打开相机预热，开始扫码时无需冷启动相机
+  prewarm?: boolean;
+  // 停止扫码后相机保持打开的时长（毫秒）
+  idleTimeoutMs?: number;
+  // 解码格式（BarcodeFormat 枚举名），默认包含二维码及常用条码
+  formats?: string[];
+  // 扫码窗口宽高（dp），只解码窗口内区域
+  scanWindow?: { width: number; height: number };
+  tryHarder?: boolean;
+  inverted?: boolean;
+  // 相同结果的去重窗口（毫秒）
+  dedupWindowMs?: number;
+  onScan?: (event: BarcodeScanEvent) => void;
+  // 开始扫码时未授予相机权限
+  onPermissionDenied?: () => void;
+}
+
+interface NativeBarcodeScannerViewProps extends Omit<BarcodeScannerViewProps, 'onScan' | 'onPermissionDenied'> {
+  onScan?: (event: NativeSyntheticEvent<BarcodeScanEvent>) => void;
+  onPermissionDenied?: (event: NativeSyntheticEvent<{}>) => void;
+}
+
+const NativeBarcodeScannerView = requireNativeComponent<NativeBarcodeScannerViewProps>('BarcodeScannerView');
+
+/**
+ * 嵌入式扫码视图，相机生命周期跟随组件挂载/卸载，可连续扫码而无需跳转页面
+ */
+const BarcodeScannerView: React.FC<BarcodeScannerViewProps> = ({ onScan, onPermissionDenied, ...props }) => {
+  return (
+    <NativeBarcodeScannerView
+      {...props}
+      onScan={event => onScan && onScan(event.nativeEvent)}
+      onPermissionDenied={() => onPermissionDenied && onPermissionDenied()}
+    />
+  );
+};
+
+export default BarcodeScannerView;
@@ -8,7 +8,7 @@ import {
   ScrollView,
   ActivityIndicator,
 } from 'react-native';
-import IdCardReader, { IdCardInfo, IdCardReaderEvent } from '../api/IdCardReader';
+import IdCardReader, { IdCardInfo, IdCardReaderEvent, idCardPhotoUri } from '../api/IdCardReader';
 
 const IdCardReaderDemo: React.FC = () => {
   const [isReading, setIsReading] = useState(false);
@@ -65,6 +65,9 @@ const IdCardReaderDemo: React.FC = () => {
           effectDate: event.effectDate || '',
           expireDate: event.expireDate || '',
           photo: event.photo,
+          photoUri: event.photoUri,
+          photoWidth: event.photoWidth,
+          photoHeight: event.photoHeight,
           idType: event.idType,
           nationality: event.nationality,
           englishName: event.englishName,
@@ -129,10 +132,10 @@ const IdCardReaderDemo: React.FC = () => {
       <ScrollView style={styles.infoContainer}>
         <Text style={styles.infoTitle}>身份证信息</Text>
         
-        {idCardInfo.photo && (
+        {idCardPhotoUri(idCardInfo) && (
           <View style={styles.photoContainer}>
             <Image
-              source={{ uri: `data:image/jpeg;base64,${idCardInfo.photo}` }}
+              source={{ uri: idCardPhotoUri(idCardInfo) }}
               style={styles.photo}
               resizeMode="contain"
             />
@@ -6,6 +6,7 @@ import {
   TouchableOpacity,
   Image,
   Alert,
+  ActivityIndicator,
 } from 'react-native';
 import { useNavigation } from '@react-navigation/native';
 import AsyncStorage from '@react-native-async-storage/async-storage';
@@ -14,11 +15,12 @@ import { pageVerificationOrder } from '../api';
 interface VerificationResultProps {
   message?: string;
   isSuccess?: boolean;
+  isPending?: boolean;  // 离线核销已保存、等待服务端确认
   code?: string;
   orderId?: string;
 }
 
-export const VerificationResult = ({ message, isSuccess, code, orderId }: VerificationResultProps) => {
+export const VerificationResult = ({ message, isSuccess, isPending, code, orderId }: VerificationResultProps) => {
   const navigation = useNavigation<any>();
 
   const goHome = () => {
@@ -27,6 +29,14 @@ export const VerificationResult = ({ message, isSuccess, code, orderId }: Verifi
   
   // 根据code和msg决定显示内容
   const renderContent = () => {
+    if (isPending) {
+      return (
+        <View>
+          <Text style={[styles.notFoundText, styles.pendingText]}>核销确认中</Text>
+          <Text style={[styles.messageText, styles.pendingText]}>{message}</Text>
+        </View>
+      );
+    }
     if (code === '00000') {
       if (message === 'ok') {
         return (
@@ -54,12 +64,16 @@ export const VerificationResult = ({ message, isSuccess, code, orderId }: Verifi
   return (
     <View style={styles.notFoundContainer}>
       <View style={styles.notFoundContent}>
-        <Image 
-          source={code === '00000' 
-            ? require('../assets/images/ok.png') 
-            : require('../assets/images/noData.png')} 
-          style={styles.noDataImage}
-        />
+        {isPending ? (
+          <ActivityIndicator size="large" color="#FA8C16" style={styles.noDataImage} />
+        ) : (
+          <Image 
+            source={code === '00000' 
+              ? require('../assets/images/ok.png') 
+              : require('../assets/images/noData.png')} 
+            style={styles.noDataImage}
+          />
+        )}
         {renderContent()}
       </View>
       
@@ -152,6 +166,9 @@ const styles = StyleSheet.create({
   errorText: {
     color: '#F44336',
   },
+  pendingText: {
+    color: '#FA8C16',
+  },
   footerButtonsContainer: {
     flexDirection: 'row',
     width: '100%',
@@ -2,4 +2,5 @@
 export { default as TopHeader } from './TopHeader';
 export { default as OrderDetail } from './OrderDetail';
 export { default as VerificationModal } from './VerificationModal';
-export { default as VerificationResult } from './VerificationResult';
\ No newline at end of file
+export { default as VerificationResult } from './VerificationResult';
+export { default as BarcodeScannerView } from './BarcodeScannerView';
\ No newline at end of file
@@ -0,0 +1,19 @@
+import type { TurboModule } from 'react-native';
+import { TurboModuleRegistry } from 'react-native';
+
+/**
+ * IdCardReader 的 codegen 规范
+ */
+export interface Spec extends TurboModule {
+  startIdCardReading(): Promise<string>;
+  stopIdCardReading(): Promise<string>;
+  checkNfcAvailable(): Promise<{ available: boolean; enabled: boolean }>;
+  isNfcEnabledSync(): boolean;
+  getPhotoStats(): Promise<Object>;
+
+  // NativeEventEmitter 所需
+  addListener(eventName: string): void;
+  removeListeners(count: number): void;
+}
+
+export default TurboModuleRegistry.getEnforcing<Spec>('IdCardReader');
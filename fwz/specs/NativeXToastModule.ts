@@ -0,0 +1,57 @@
+import type { TurboModule } from 'react-native';
+import { TurboModuleRegistry } from 'react-native';
+
+/**
+ * XToastModule 的 codegen 规范
+ * 新架构下以 TurboModule（JSI）加载，旧架构或开启 legacyCardModules 时回退为桥接模块
+ */
+export interface Spec extends TurboModule {
+  isXToastAvailable(callback: (error: string | null, available: boolean) => void): void;
+  showSimpleToast(message: string, duration: number): void;
+  showToast(): void;
+
+  // 扫码
+  startQRCodeScan(options: Object | null): Promise<Object>;
+  stopQRCodeScan(): Promise<boolean>;
+  getScanDedupStats(): Promise<Object>;
+  resetScanDedupStats(): Promise<boolean>;
+  getScanMetrics(): Promise<Object>;
+
+  // 设备ID（启动时后台计算并缓存，常量中可直接读取）
+  getConstants(): {
+    deviceUniqueId: string;
+  };
+  getDeviceUniqueId(): Promise<string>;
+  getDeviceUniqueIdSync(): string;
+
+  // 社保卡 / 电子社保卡
+  initParms(url: string, platformId: string): Promise<number>;
+  checkESSCard(qrCode: string, data: string): Promise<Object>;
+  checkESSCardBatch(qrCodes: Array<string>, data: string): Promise<Object>;
+  readCardInfo(iType: number, sceneCode: string): Promise<Object>;
+  setCardType(cardType: number): Promise<string>;
+  getCardType(): number;
+
+  // 诊断
+  getCardSchedulerStats(): Promise<Object>;
+  useSimulatedCardBackend(simulated: boolean): Promise<boolean>;
+  getReaderMetrics(): Promise<Object>;
+  getCardEventStats(): Promise<Object>;
+  replayPendingCardEvents(): Promise<number>;
+  setCardEventReplayMaxAge(maxAgeMs: number): void;
+  resetReaderMetrics(): Promise<boolean>;
+  getNativeLibraryStatus(): Promise<Object>;
+  setTsLogLevel(level: number): Promise<number>;
+  getTsLogStats(): Promise<Object>;
+
+  // 冷启动阶段时间线
+  markStartupPhase(name: string): void;
+  getStartupTrace(): Promise<Object>;
+  getStartupHistory(limit: number): Promise<Array<Object>>;
+
+  // 同步调用延迟基准（空操作，对比桥接与JSI的调用开销）
+  ping(): Promise<number>;
+  pingSync(): number;
+}
+
+export default TurboModuleRegistry.getEnforcing<Spec>('XToastModule');